@@ -0,0 +1,53 @@
+package com.settleflow.common.event;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 Envelope 헤더 (Kafka Record Header)
+ * - Consumer가 본문(JSON)을 역직렬화하지 않고도 종류/주문 ID/스키마 버전으로 거르거나 중복 판정할 수 있도록
+ *   작은 고정 크기 값만 헤더에 담음
+ * - 숫자 값은 big-endian 고정 길이 바이트 (orderId/producedAt: 8바이트, schemaVersion: 4바이트)
+ */
+public final class EventHeaders {
+
+    public static final String EVENT_TYPE = "x-event-type";
+    public static final String ORDER_ID = "x-order-id";
+    public static final String SCHEMA_VERSION = "x-schema-version";
+    public static final String PRODUCED_AT = "x-produced-at"; // epoch millis
+
+    public static final String ORDER_CREATED = "OrderCreated";
+    public static final String ORDER_CANCELLED = "OrderCancelled";
+
+    /**
+     * 현재 이벤트 본문 스키마 버전 (호환되지 않는 필드 변경 시 증가)
+     */
+    public static final int CURRENT_SCHEMA_VERSION = 1;
+
+    private EventHeaders() {
+    }
+
+    public static byte[] encodeString(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static String decodeString(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    public static byte[] encodeLong(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    public static Long decodeLong(byte[] value) {
+        return value == null || value.length != Long.BYTES ? null : ByteBuffer.wrap(value).getLong();
+    }
+
+    public static byte[] encodeInt(int value) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    public static Integer decodeInt(byte[] value) {
+        return value == null || value.length != Integer.BYTES ? null : ByteBuffer.wrap(value).getInt();
+    }
+}
@@ -0,0 +1,22 @@
+package com.settleflow.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 취소 이벤트
+ * - Key는 orderId (Log Compaction 대상 토픽이므로 주문별 최신 상태만 유지됨)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCancelledEvent {
+
+    private Long orderId;           // 주문 ID
+    private Long userId;            // 구매자 ID
+    private String cancelledAt;     // 취소 일시 (ISO 8601 문자열)
+
+}
@@ -0,0 +1,46 @@
+package com.settleflow.common.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.io.IOException;
+import java.text.ParseException;
+
+/**
+ * 상시 JFR 녹화 + 덤프 엔드포인트 (jfr.enabled=true)
+ * - 각 서비스 Application 클래스에서 @Import로 등록
+ * - 디스크 기반 링 버퍼로 최근 maxAge/maxSize 만큼만 유지 → 지연 이상치가 생긴 뒤 jcmd JFR.dump 또는 jfr 엔드포인트로 덤프
+ * - 파이프라인 단계 이벤트는 eventThreshold 이상 걸린 것만 기록해 건수에 비례한 오버헤드를 줄임
+ */
+@Slf4j
+@org.springframework.context.annotation.Configuration
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+@ConditionalOnProperty(prefix = "jfr", name = "enabled", havingValue = "true")
+public class FlightRecorderConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public Recording continuousRecording(FlightRecorderProperties properties) throws IOException, ParseException {
+        Recording recording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        recording.setName("settleflow-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        // 이름 기준 설정이라 이벤트 클래스가 아직 로드되지 않았어도 처음 발생할 때부터 적용됨
+        for (String event : properties.getEvents()) {
+            recording.enable(event).withThreshold(properties.getEventThreshold());
+        }
+        recording.start();
+        log.info("JFR continuous recording started: settings={}, maxAge={}, maxSize={}, events={}",
+                properties.getSettings(), properties.getMaxAge(), properties.getMaxSize(), properties.getEvents());
+        return recording;
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(Recording continuousRecording, FlightRecorderProperties properties) {
+        return new FlightRecorderEndpoint(continuousRecording, properties);
+    }
+}
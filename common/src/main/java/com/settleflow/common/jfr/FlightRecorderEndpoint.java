@@ -0,0 +1,66 @@
+package com.settleflow.common.jfr;
+
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상시 JFR 녹화 조회/덤프 (GET/POST /actuator/jfr)
+ * - 덤프 파일을 서버 디스크에 쓰는 쓰기 작업이므로 운영(prod)에서는 웹에 노출하지 않음
+ *   (management.endpoints.web.exposure.include에 추가하려면 actuator 인증을 먼저 적용)
+ * - 덤프는 녹화를 멈추지 않고 현재 버퍼(최근 maxAge 구간)를 파일로 복사
+ * - 결과 파일은 JDK Mission Control 또는 `jfr print --events com.settleflow.*` 로 분석
+ */
+@Slf4j
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class FlightRecorderEndpoint {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Recording recording;
+    private final FlightRecorderProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("name", recording.getName());
+        status.put("state", recording.getState().name());
+        status.put("startTime", recording.getStartTime());
+        status.put("maxAge", recording.getMaxAge());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("events", properties.getEvents());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> dump() {
+        try {
+            Path directory = Files.createDirectories(Paths.get(properties.getDumpDirectory()));
+            Path file = directory.resolve("settleflow-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+            recording.dump(file);
+            long size = Files.size(file);
+            log.info("JFR recording dumped: file={}, bytes={}", file.toAbsolutePath(), size);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("file", file.toAbsolutePath().toString());
+            result.put("bytes", size);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR 덤프 실패", e);
+        }
+    }
+}
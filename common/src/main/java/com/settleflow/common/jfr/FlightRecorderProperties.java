@@ -0,0 +1,50 @@
+package com.settleflow.common.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상시 JFR(JDK Flight Recorder) 녹화 설정값
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jfr")
+public class FlightRecorderProperties {
+
+    /**
+     * 기동 시 상시 녹화 시작 여부 (prod 프로파일에서 true)
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDK 기본 설정 이름 (default: 오버헤드 약 1% 내외, profile: 상세하지만 무거움)
+     */
+    private String settings = "default";
+
+    /**
+     * 디스크 버퍼에 보관할 최대 기간 / 크기 (넘으면 오래된 청크부터 삭제)
+     */
+    private Duration maxAge = Duration.ofHours(6);
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * 덤프 파일을 쓸 디렉터리
+     */
+    private String dumpDirectory = "./jfr";
+
+    /**
+     * 파이프라인 단계 이벤트 이름 (각 서비스의 jfr 패키지 이벤트 @Name)
+     */
+    private List<String> events = new ArrayList<>();
+
+    /**
+     * 단계 이벤트 기록 임계치 - 이보다 짧게 끝난 단계는 기록하지 않음 (0이면 전부 기록)
+     */
+    private Duration eventThreshold = Duration.ofMillis(5);
+}
@@ -0,0 +1,79 @@
+package com.settleflow.common.logging;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 건별 로그 대신 쓰는 카운터 + 샘플러
+ * - increment(): 건마다 호출해도 LongAdder 증가뿐이라 문자열 생성/I/O 없음
+ * - sample(): 키마다 sampleInterval에 1번만 true → 대표 건 1개만 로그로 남김
+ * - report(): 주기마다 구간 건수와 초당 처리량을 한 줄로 출력하고 카운터 초기화
+ */
+@Slf4j
+public class PipelineLogSummary {
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> nextSampleAt = new ConcurrentHashMap<>();
+    private final long sampleIntervalNanos;
+    private long windowStartedAt = System.nanoTime();
+
+    public PipelineLogSummary(Duration sampleInterval) {
+        this.sampleIntervalNanos = sampleInterval.toNanos();
+    }
+
+    public void increment(String counter) {
+        LongAdder adder = counters.get(counter);
+        if (adder == null) {
+            adder = counters.computeIfAbsent(counter, key -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * 이번 건을 로그로 남길지 여부 (키마다 sampleInterval당 최대 1건)
+     * - 여러 스레드가 동시에 들어와도 CAS에 성공한 1개 스레드만 true
+     */
+    public boolean sample(String key) {
+        if (sampleIntervalNanos <= 0) {
+            return true;
+        }
+        AtomicLong next = nextSampleAt.get(key);
+        if (next == null) {
+            next = nextSampleAt.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+        }
+        long now = System.nanoTime();
+        long allowedAt = next.get();
+        return now - allowedAt >= 0 && next.compareAndSet(allowedAt, now + sampleIntervalNanos);
+    }
+
+    /**
+     * PipelineLoggingConfiguration이 summaryIntervalMs 주기로 호출
+     */
+    public synchronized void report() {
+        long now = System.nanoTime();
+        double windowSeconds = Math.max(1L, now - windowStartedAt) / 1_000_000_000d;
+        windowStartedAt = now;
+
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((counter, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                snapshot.put(counter, count);
+            }
+        });
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        StringBuilder line = new StringBuilder();
+        snapshot.forEach((counter, count) -> line.append(", ").append(counter).append('=').append(count)
+                .append(String.format(" (%.1f/s)", count / windowSeconds)));
+        log.info("Pipeline summary: window={}s{}", String.format("%.1f", windowSeconds), line);
+    }
+}
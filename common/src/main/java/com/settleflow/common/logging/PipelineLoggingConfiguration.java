@@ -0,0 +1,33 @@
+package com.settleflow.common.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+
+/**
+ * 건별 로그 샘플링 + 주기 요약 로그
+ * - 각 서비스 Application 클래스에서 @Import로 등록 (요약 출력은 @EnableScheduling 필요)
+ * - 요약 주기는 PipelineLoggingProperties.summaryIntervalMs로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(PipelineLoggingProperties.class)
+@RequiredArgsConstructor
+public class PipelineLoggingConfiguration implements SchedulingConfigurer {
+
+    private final PipelineLoggingProperties properties;
+
+    @Bean
+    public PipelineLogSummary pipelineLogSummary() {
+        return new PipelineLogSummary(properties.getSampleInterval());
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(pipelineLogSummary()::report, Duration.ofMillis(properties.getSummaryIntervalMs()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.settleflow.common.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 파이프라인 로그 샘플링 / 주기 요약 설정값
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pipeline.logging")
+public class PipelineLoggingProperties {
+
+    /**
+     * 건별 로그를 키(로그 종류)마다 이 간격에 1건만 남김 (0이면 매 건 기록 - 이전 동작)
+     */
+    private Duration sampleInterval = Duration.ofSeconds(1);
+
+    /**
+     * 처리 건수/처리량/오류 건수 요약 로그 주기 (PipelineLoggingConfiguration이 스케줄 등록에 사용)
+     */
+    private long summaryIntervalMs = 10000;
+}
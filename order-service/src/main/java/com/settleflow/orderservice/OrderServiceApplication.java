@@ -1,11 +1,18 @@
 package com.settleflow.orderservice;
 
+import com.settleflow.common.jfr.FlightRecorderConfiguration;
+import com.settleflow.common.logging.PipelineLoggingConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableScheduling
 @SpringBootApplication
+@Import({
+        FlightRecorderConfiguration.class, // jfr.enabled=true 일 때만 상시 녹화
+        PipelineLoggingConfiguration.class // 건별 로그 샘플링 + 주기 요약
+})
 public class OrderServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,113 @@
+package com.settleflow.orderservice.admission;
+
+import com.settleflow.orderservice.config.AdmissionProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 전체 동시 처리 수 제한 (락 없이 CAS만 사용)
+ * - 한도 이상이면 즉시 거절 → 요청이 Hikari 커넥션을 기다리다 타임아웃 나는 대신 빠른 429
+ * - 한도는 windowMs 구간마다 관측한 처리 시간으로 조절 (AIMD)
+ *   · 구간 평균 > 목표: 한도 × backoffRatio (곱셈 감소)
+ *   · 구간 평균 ≤ 목표이고 구간 중 한도까지 찼음: 한도 + 1 (덧셈 증가)
+ * - 조정은 구간 경계에서 CAS에 성공한 스레드 하나만 수행
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final LongAdder latencySum = new LongAdder();
+    private final LongAdder sampleCount = new LongAdder();
+    private final AtomicLong windowStartedAt;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final long windowNanos;
+    private final int minSamples;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    public AdaptiveConcurrencyLimiter(AdmissionProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(AdmissionProperties properties, LongSupplier nanoClock) {
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.limit = new AtomicInteger(Math.min(maxLimit, Math.max(minLimit, properties.getInitialLimit())));
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(properties.getTargetLatencyMs());
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs());
+        this.minSamples = properties.getMinSamples();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.nanoClock = nanoClock;
+        this.windowStartedAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param latencyNanos 허용 후 처리 완료까지 걸린 시간 (실패한 요청도 포함 - 커넥션 대기 타임아웃도 과부하 신호)
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        latencySum.add(latencyNanos);
+        sampleCount.increment();
+        adjustIfWindowElapsed();
+    }
+
+    private void adjustIfWindowElapsed() {
+        long now = nanoClock.getAsLong();
+        long startedAt = windowStartedAt.get();
+        if (now - startedAt < windowNanos || !windowStartedAt.compareAndSet(startedAt, now)) {
+            return;
+        }
+
+        long samples = sampleCount.sumThenReset();
+        long totalLatency = latencySum.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        if (samples < minSamples) {
+            return;
+        }
+
+        int current = limit.get();
+        long averageLatency = totalLatency / samples;
+        int next = current;
+        if (averageLatency > targetLatencyNanos) {
+            next = Math.max(minLimit, (int) (current * backoffRatio));
+        } else if (peak >= current) {
+            next = Math.min(maxLimit, current + 1);
+        }
+        if (next != current) {
+            limit.set(next);
+            log.info("Order admission limit adjusted: {} -> {} (avgLatencyMs={}, samples={}, peakInFlight={})",
+                    current, next, TimeUnit.NANOSECONDS.toMillis(averageLatency), samples, peak);
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,92 @@
+package com.settleflow.orderservice.admission;
+
+import com.settleflow.orderservice.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * POST /orders 유입 제어
+ * 1. 사용자별 토큰 버킷 - 한 파트너의 폭주가 다른 사용자 몫을 가져가지 못하게 함
+ * 2. 전체 동시 처리 한도 - MySQL 커넥션 풀이 고갈되기 전에 빠른 429로 거절
+ * 사용자 제한을 먼저 확인해 거절될 요청이 동시 처리 슬롯을 잠깐이라도 차지하지 않게 함
+ */
+@Component
+public class AdmissionControl {
+
+    private static final Permit NOOP_PERMIT = () -> { };
+
+    private final AdmissionProperties properties;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final UserRateLimiter userRateLimiter;
+    private final Counter userRejected;
+    private final Counter concurrencyRejected;
+
+    public AdmissionControl(AdmissionProperties properties, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                            UserRateLimiter userRateLimiter, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.userRateLimiter = userRateLimiter;
+        this.userRejected = rejectedCounter(meterRegistry, Rejection.USER_RATE);
+        this.concurrencyRejected = rejectedCounter(meterRegistry, Rejection.CONCURRENCY);
+        Gauge.builder("order.admission.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("주문 생성 동시 처리 한도 (자동 조절)")
+                .register(meterRegistry);
+        Gauge.builder("order.admission.in.flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("처리 중인 주문 생성 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 처리 완료 시 반드시 close() 해야 하는 허가 (try-with-resources)
+     * @throws AdmissionRejectedException 사용자 처리율 초과 또는 동시 처리 한도 초과
+     */
+    public Permit admit(Long userId) {
+        if (!properties.isEnabled()) {
+            return NOOP_PERMIT;
+        }
+        if (userId != null && !userRateLimiter.tryAcquire(userId)) {
+            userRejected.increment();
+            throw new AdmissionRejectedException(Rejection.USER_RATE, properties.getRetryAfterSeconds());
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyRejected.increment();
+            throw new AdmissionRejectedException(Rejection.CONCURRENCY, properties.getRetryAfterSeconds());
+        }
+
+        long startedAt = System.nanoTime();
+        return () -> concurrencyLimiter.release(System.nanoTime() - startedAt);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, Rejection reason) {
+        return Counter.builder("order.admission.rejected")
+                .description("유입 제어로 거절된 주문 생성 요청 수")
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 완료 시 동시 처리 슬롯 반환 + 처리 시간 표본 기록
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public enum Rejection {
+        USER_RATE("사용자별 주문 요청 한도를 초과했습니다"),
+        CONCURRENCY("주문 요청이 많아 잠시 후 다시 시도해 주세요");
+
+        private final String message;
+
+        Rejection(String message) {
+            this.message = message;
+        }
+
+        public String message() {
+            return message;
+        }
+    }
+}
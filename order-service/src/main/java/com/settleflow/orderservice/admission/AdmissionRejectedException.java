@@ -0,0 +1,19 @@
+package com.settleflow.orderservice.admission;
+
+import lombok.Getter;
+
+/**
+ * 유입 제어로 거절된 요청 (OrderController에서 429 Too Many Requests로 변환)
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final AdmissionControl.Rejection reason;
+    private final int retryAfterSeconds;
+
+    public AdmissionRejectedException(AdmissionControl.Rejection reason, int retryAfterSeconds) {
+        super(reason.message());
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,61 @@
+package com.settleflow.orderservice.admission;
+
+import com.settleflow.common.logging.PipelineLogSummary;
+import com.settleflow.orderservice.config.AdmissionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+
+/**
+ * 사용자별 토큰 버킷 (Redis 공유 - 모든 order-service 인스턴스 합산 기준)
+ * - 리필/소모를 Lua 스크립트 한 번으로 원자적으로 처리 (요청당 Redis 왕복 1회)
+ * - 버킷이 가득 찰 시간이 지나면 키가 만료되어 유휴 사용자 키가 남지 않음
+ * - Redis 장애 시 로컬 버킷으로 대체 (인스턴스별 제한으로 완화될 뿐 제한이 사라지지는 않음)
+ */
+@Slf4j
+public class RedisTokenBucketLimiter implements UserRateLimiter {
+
+    private static final String KEY_PREFIX = "order-admission:user:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserRateLimiter fallback;
+    private final PipelineLogSummary logSummary;
+    private final DefaultRedisScript<Long> script;
+    private final String tokensPerMs;
+    private final String burst;
+    private final String ttlMs;
+
+    public RedisTokenBucketLimiter(StringRedisTemplate redisTemplate, AdmissionProperties properties,
+                                   UserRateLimiter fallback, PipelineLogSummary logSummary) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.logSummary = logSummary;
+        this.script = new DefaultRedisScript<>();
+        this.script.setLocation(new ClassPathResource("scripts/user-token-bucket.lua"));
+        this.script.setResultType(Long.class);
+
+        double ratePerSecond = properties.getUserRatePerSecond();
+        this.tokensPerMs = String.valueOf(ratePerSecond / 1000d);
+        this.burst = String.valueOf(Math.max(1, properties.getUserBurst()));
+        // 빈 버킷이 가득 차는 시간 + 여유 1초
+        this.ttlMs = String.valueOf((long) Math.ceil(Math.max(1, properties.getUserBurst()) / ratePerSecond * 1000d) + 1000L);
+    }
+
+    @Override
+    public boolean tryAcquire(long userId) {
+        try {
+            Long allowed = redisTemplate.execute(script, List.of(KEY_PREFIX + userId), tokensPerMs, burst, ttlMs);
+            return allowed != null && allowed == 1L;
+        } catch (DataAccessException e) {
+            logSummary.increment("order.admission.redis-fallback");
+            if (logSummary.sample("order.admission.redis-fallback")) {
+                log.warn("Redis rate limit unavailable, using local bucket (sampled): userId={}", userId, e);
+            }
+            return fallback.tryAcquire(userId);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.settleflow.orderservice.admission;
+
+import com.settleflow.orderservice.config.AdmissionProperties;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 토큰 버킷 (인스턴스 로컬, 락 없음)
+ * - 고정 크기 슬롯 배열에 불변 Bucket을 두고 CAS로 교체 → 사용자 수가 늘어도 맵 재해싱/락 경합 없음
+ * - 슬롯 위치는 userId 해시 + 선형 탐사(최대 PROBES칸)
+ * - 토큰이 가득 찬 버킷(= 한동안 요청이 없던 사용자)은 상태를 잃지 않으므로 다른 사용자가 재사용
+ * - 탐사 범위가 모두 활성 사용자로 차 있으면 통과시키고 overflow로 집계 (전체 동시 처리 한도가 여전히 보호)
+ */
+public class StripedTokenBucketLimiter implements UserRateLimiter {
+
+    private static final int PROBES = 4;
+
+    private final AtomicReferenceArray<Bucket> slots;
+    private final int mask;
+    private final double tokensPerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+    private final LongAdder overflow = new LongAdder();
+
+    public StripedTokenBucketLimiter(AdmissionProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    StripedTokenBucketLimiter(AdmissionProperties properties, LongSupplier nanoClock) {
+        int size = Integer.highestOneBit(Math.max(PROBES, properties.getUserSlots() - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.tokensPerNano = properties.getUserRatePerSecond() / 1_000_000_000d;
+        this.burst = Math.max(1, properties.getUserBurst());
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean tryAcquire(long userId) {
+        long now = nanoClock.getAsLong();
+        int home = spread(userId);
+
+        // 1. 이미 이 사용자의 버킷이 있으면 리필 후 토큰 1개 소모
+        for (int probe = 0; probe < PROBES; probe++) {
+            int index = (home + probe) & mask;
+            Bucket current;
+            while ((current = slots.get(index)) != null && current.userId == userId) {
+                double available = current.available(now, tokensPerNano, burst);
+                if (available < 1d) {
+                    return false;
+                }
+                if (slots.compareAndSet(index, current, new Bucket(userId, available - 1d, now))) {
+                    return true;
+                }
+            }
+        }
+
+        // 2. 처음 보는 사용자 → 빈 슬롯 또는 유휴 버킷 슬롯을 차지 (가득 찬 버킷에서 1개 소모한 상태로 시작)
+        //    같은 신규 사용자의 동시 요청이 서로 다른 슬롯을 차지하면 최초 1회에 한해 버킷이 둘로 나뉠 수 있음
+        for (int probe = 0; probe < PROBES; probe++) {
+            int index = (home + probe) & mask;
+            Bucket current = slots.get(index);
+            if ((current == null || current.available(now, tokensPerNano, burst) >= burst)
+                    && slots.compareAndSet(index, current, new Bucket(userId, burst - 1d, now))) {
+                return true;
+            }
+        }
+
+        overflow.increment();
+        return true;
+    }
+
+    /**
+     * 탐사 범위가 가득 차 제한 없이 통과시킨 건수 (슬롯 수 부족 신호)
+     */
+    public long overflowCount() {
+        return overflow.sum();
+    }
+
+    private static int spread(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private record Bucket(long userId, double tokens, long refilledAt) {
+
+        double available(long now, double tokensPerNano, double burst) {
+            return Math.min(burst, tokens + Math.max(0L, now - refilledAt) * tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.settleflow.orderservice.admission;
+
+/**
+ * 사용자별 처리율 제한
+ */
+public interface UserRateLimiter {
+
+    /**
+     * @return 이번 요청을 허용하면 true (허용 시 토큰 1개 소모)
+     */
+    boolean tryAcquire(long userId);
+}
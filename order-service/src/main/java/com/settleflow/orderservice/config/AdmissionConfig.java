@@ -0,0 +1,35 @@
+package com.settleflow.orderservice.config;
+
+import com.settleflow.common.logging.PipelineLogSummary;
+import com.settleflow.orderservice.admission.AdaptiveConcurrencyLimiter;
+import com.settleflow.orderservice.admission.RedisTokenBucketLimiter;
+import com.settleflow.orderservice.admission.StripedTokenBucketLimiter;
+import com.settleflow.orderservice.admission.UserRateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * POST /orders 유입 제어 구성
+ * - order.admission.redis-enabled=true면 사용자 버킷을 Redis에 두고, 로컬 버킷은 장애 시 대체용으로만 사용
+ */
+@Configuration
+public class AdmissionConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter orderConcurrencyLimiter(AdmissionProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Bean
+    public UserRateLimiter userRateLimiter(AdmissionProperties properties,
+                                           ObjectProvider<StringRedisTemplate> redisTemplate,
+                                           PipelineLogSummary logSummary) {
+        StripedTokenBucketLimiter local = new StripedTokenBucketLimiter(properties);
+        if (!properties.isRedisEnabled()) {
+            return local;
+        }
+        return new RedisTokenBucketLimiter(redisTemplate.getObject(), properties, local, logSummary);
+    }
+}
@@ -0,0 +1,68 @@
+package com.settleflow.orderservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * POST /orders 유입 제어(admission control) 설정값
+ * - 전체 동시 처리 수: MySQL 처리 시간에 따라 자동 조절 (AIMD)
+ * - 사용자별 처리율: 토큰 버킷 (로컬 또는 Redis 공유)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "order.admission")
+public class AdmissionProperties {
+
+    /**
+     * 유입 제어 사용 여부 (false면 모든 요청 통과)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 동시 처리 한도 초기값 / 하한 / 상한
+     * - 상한은 Hikari maximum-pool-size 이하로 (넘으면 커넥션 대기로 밀려 타임아웃)
+     */
+    private int initialLimit = 10;
+    private int minLimit = 2;
+    private int maxLimit = 10;
+
+    /**
+     * 목표 처리 시간 - 구간 평균이 이보다 길면 한도를 줄이고, 짧으면서 한도까지 찼으면 1씩 늘림
+     */
+    private long targetLatencyMs = 100;
+
+    /**
+     * 한도 조정 구간 / 구간 내 최소 표본 수 (표본이 적으면 조정하지 않음)
+     */
+    private long windowMs = 1000;
+    private int minSamples = 10;
+
+    /**
+     * 목표 초과 시 한도 감소 비율 (0.9 → 10% 감소)
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * 사용자별 초당 허용 건수 / 순간 허용 건수(버킷 크기)
+     */
+    private double userRatePerSecond = 20;
+    private int userBurst = 40;
+
+    /**
+     * 로컬 사용자 버킷 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    private int userSlots = 65536;
+
+    /**
+     * true면 사용자 버킷을 Redis에 두어 모든 인스턴스 합산 기준으로 제한 (Redis 장애 시 로컬 버킷으로 대체)
+     */
+    private boolean redisEnabled = false;
+
+    /**
+     * 429 응답의 Retry-After (초)
+     */
+    private int retryAfterSeconds = 1;
+}
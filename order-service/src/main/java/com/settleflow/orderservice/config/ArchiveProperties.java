@@ -0,0 +1,51 @@
+package com.settleflow.orderservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * orders 테이블 파티션 관리 / 아카이브 설정값 (MySQL 파티셔닝 적용 후 사용 - db/mysql/orders-partitioning.sql)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "order.archive")
+public class ArchiveProperties {
+
+    /**
+     * 아카이브 / 파티션 관리 스케줄러 실행 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 실행 시각 (기본값: 매일 새벽 4시)
+     */
+    private String cron = "0 0 4 * * *";
+
+    /**
+     * 이 기간(개월)보다 오래된 ORDERED 주문을 아카이브 테이블로 이동
+     */
+    private int retentionMonths = 6;
+
+    /**
+     * 트랜잭션 하나에서 옮길 주문 수 (잠금 시간 / 복제 지연 제한)
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 청크 사이 대기 시간 (밀리초)
+     */
+    private long pauseMs = 50;
+
+    /**
+     * 1회 실행당 최대 청크 수 (남은 건 다음 실행에서 이어서 처리)
+     */
+    private int maxChunksPerRun = 10000;
+
+    /**
+     * 미리 만들어 둘 미래 월 파티션 수
+     */
+    private int partitionsAhead = 3;
+}
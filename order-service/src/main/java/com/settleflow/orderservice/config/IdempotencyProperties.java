@@ -0,0 +1,33 @@
+package com.settleflow.orderservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * POST /orders Idempotency-Key 처리 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "order.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Idempotency-Key 헤더 처리 여부 (false면 헤더를 무시하고 매번 주문 생성)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 완료된 요청의 응답 보관 기간 (기본 24시간) - 이 기간 안의 재시도는 같은 주문 ID를 돌려받음
+     */
+    private long responseTtlMs = 86_400_000L;
+
+    /**
+     * 처리 중 예약 유지 시간 - 처리 도중 프로세스가 죽어도 이 시간이 지나면 같은 키로 다시 시도 가능
+     * - 주문 생성 최악 소요 시간보다 길어야 함: Hikari 커넥션 대기(connection-timeout 30초)만으로도 30초가 걸릴 수 있고,
+     *   그 전에 만료되면 처리 중인 요청과 같은 키의 재시도가 각각 주문을 만듦
+     */
+    private long inProgressTtlMs = 120_000L;
+}
@@ -0,0 +1,24 @@
+package com.settleflow.orderservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 트랜잭션 Producer 설정 (exactly-once 프로파일)
+ * - spring.kafka.producer.transaction-id-prefix를 쓰면 KafkaTransactionManager가 자동 등록되어
+ *   JPA 트랜잭션 매니저 자동 설정과 충돌하므로, ProducerFactory에만 transactional.id 접두사를 지정
+ * - transactional.id는 인스턴스마다 달라야 함 (같은 값이면 먼저 뜬 인스턴스가 fencing 됨)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "order.kafka", name = "transactional", havingValue = "true")
+public class KafkaProducerConfig {
+
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer transactionalProducerCustomizer(
+            @Value("${order.kafka.transaction-id-prefix}") String transactionIdPrefix) {
+        return producerFactory -> producerFactory.setTransactionIdPrefix(transactionIdPrefix);
+    }
+}
@@ -0,0 +1,27 @@
+package com.settleflow.orderservice.config;
+
+import com.settleflow.orderservice.kafka.OrderProducer;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Kafka 토픽 설정 (KafkaAdmin이 기동 시 자동 생성)
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    /**
+     * 주문 취소 토픽
+     * - cleanup.policy=compact: 주문 ID(Key)별 마지막 취소 이벤트만 유지
+     */
+    @Bean
+    public NewTopic orderCancelTopic() {
+        return TopicBuilder.name(OrderProducer.CANCEL_TOPIC)
+                .partitions(3)
+                .replicas(1)
+                .compact()
+                .build();
+    }
+}
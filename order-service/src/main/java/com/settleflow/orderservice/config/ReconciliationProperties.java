@@ -0,0 +1,60 @@
+package com.settleflow.orderservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문(MySQL) ↔ 정산(MongoDB) 대사 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.reconciliation")
+public class ReconciliationProperties {
+
+    /**
+     * 대사 실행 여부 (reconciliation 프로파일에서 true)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 정산 서비스 MongoDB URI (DB 이름 포함)
+     */
+    private String mongoUri = "mongodb://localhost:27017/settleflow_settlement";
+
+    private String collection = "settlements";
+
+    /**
+     * MySQL 조회 fetch size
+     * - Integer.MIN_VALUE: MySQL Connector/J 행 단위 스트리밍 (결과 전체를 메모리에 올리지 않음)
+     * - 양수 값은 JDBC URL에 useCursorFetch=true가 있어야 서버 커서로 동작
+     */
+    private int fetchSize = Integer.MIN_VALUE;
+
+    /**
+     * MongoDB 커서 batch size
+     */
+    private int mongoBatchSize = 5000;
+
+    /**
+     * 최근 주문은 아직 정산 처리 중일 수 있으므로 대사 대상에서 제외 (초)
+     */
+    private long gracePeriodSeconds = 300;
+
+    /**
+     * 정산 누락 주문의 이벤트 재발행 여부 (false면 리포트만 작성)
+     */
+    private boolean republish = true;
+
+    /**
+     * 아카이브된 주문(orders_archive)도 대사 대상에 포함 (파티셔닝/아카이브 적용 환경에서 true)
+     */
+    private boolean includeArchive = false;
+
+    /**
+     * 불일치 리포트 CSV 경로
+     */
+    private String reportPath = "reconciliation-report.csv";
+}
@@ -17,7 +17,7 @@ import java.math.BigDecimal;
 public class SettlementProperties {
 
     /**
-     * 수수료율 (기본값: 0.03 = 3%)
+     * 전역 수수료율 (기본값: 0.03 = 3%) - 해당하는 수수료 규칙(fee_rules)이 없을 때 적용
      */
     private BigDecimal feeRate = new BigDecimal("0.03");
 
@@ -30,4 +30,44 @@ public class SettlementProperties {
      * 초기 지연 시간 (밀리초, 기본값: 10000ms = 10초)
      */
     private Long initialDelayMs = 10000L;
+
+    /**
+     * 인스턴스당 PENDING_EVENT 재발행 동시 작업자 수 (각자 SKIP LOCKED로 서로 다른 청크를 가져감)
+     */
+    private int retryClaimers = 4;
+
+    /**
+     * 작업자가 한 번에 가져가는(claim) 주문 수
+     */
+    private int retryClaimBatchSize = 200;
+
+    /**
+     * 재발행 리스 시간 (밀리초) - 이 시간 안에 ORDERED로 반영되지 않으면 다른 인스턴스가 다시 가져감
+     */
+    private long retryLeaseMs = 60000L;
+
+    /**
+     * 생성 후 이 시간이 지난 PENDING_EVENT만 재발행 (주문 생성 요청이 직접 발행 중인 주문 제외)
+     */
+    private long retryMinAgeMs = 10000L;
+
+    /**
+     * 재발행 1회 실행에서 작업자당 최대 청크 수
+     */
+    private int retryMaxBatchesPerRun = 50;
+
+    /**
+     * 수수료 규칙 변경 감지 주기 (밀리초, 기본값: 30000ms = 30초)
+     */
+    private Long feeRuleRefreshMs = 30000L;
+
+    /**
+     * 주문 상태(ORDERED) 일괄 반영 주기 (밀리초, 기본값: 200ms)
+     */
+    private Long statusFlushIntervalMs = 200L;
+
+    /**
+     * 주문 상태 일괄 반영 시 UPDATE 한 번에 담을 최대 주문 수
+     */
+    private int statusFlushBatchSize = 1000;
 }
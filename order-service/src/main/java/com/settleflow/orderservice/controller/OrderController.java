@@ -1,17 +1,29 @@
 package com.settleflow.orderservice.controller;
 
+import com.settleflow.common.dto.ErrorResponse;
+import com.settleflow.orderservice.admission.AdmissionControl;
+import com.settleflow.orderservice.admission.AdmissionRejectedException;
 import com.settleflow.orderservice.domain.Order;
 import com.settleflow.orderservice.dto.OrderResponse;
+import com.settleflow.orderservice.idempotency.IdempotencyKeyException;
+import com.settleflow.orderservice.idempotency.OrderIdempotencyStore;
 import com.settleflow.orderservice.service.OrderService;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
@@ -20,21 +32,94 @@ import java.math.BigDecimal;
 @RequiredArgsConstructor
 public class OrderController {
 
+    static final String TRACE_ID_HEADER = "X-Trace-Id";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final Tracer tracer;
+    private final AdmissionControl admissionControl;
+    private final OrderIdempotencyStore idempotencyStore;
 
+    /**
+     * 주문 생성
+     * - 요청마다 HTTP 서버 span(trace 시작점)이 만들어지고, 이 trace가 Kafka 헤더를 타고 정산 저장까지 이어짐
+     * - 응답 헤더 X-Trace-Id로 traceId를 돌려줘 클라이언트/로그/추적 화면을 같은 ID로 연결
+     * - 사용자별 처리율 / 전체 동시 처리 한도를 넘으면 DB 커넥션을 잡기 전에 429로 거절
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 처음 만든 주문으로 응답 (유입 제어/MySQL/Kafka를 거치지 않음)
+     */
     @PostMapping("/orders")
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        Long orderId = orderService.createOrder(request.getUserId(), request.getAmount());
+    public ResponseEntity<OrderResponse> createOrder(
+            @Valid @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        OrderIdempotencyStore.Reservation reservation =
+                idempotencyStore.reserve(request.getUserId(), idempotencyKey, request.getAmount());
+        if (reservation.isReplay()) {
+            return ResponseEntity.ok()
+                    .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                    .body(toResponse(reservation.replayOrderId(), request));
+        }
+
+        Long orderId;
+        try (AdmissionControl.Permit ignored = admissionControl.admit(request.getUserId())) {
+            orderId = orderService.createOrder(request.getUserId(), request.getAmount());
+        } catch (RuntimeException e) {
+            reservation.release(); // 주문이 만들어지지 않았으므로 같은 키로 바로 재시도 가능하게
+            throw e;
+        }
+        reservation.complete(orderId);
+
+        OrderResponse response = toResponse(orderId, request);
+
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok()
+                .header(TRACE_ID_HEADER, span.context().traceId())
+                .body(response);
+    }
 
-        // TODO: OrderService에서 Order 객체를 반환하도록 수정하면 더 나은 응답 생성 가능
-        OrderResponse response = OrderResponse.builder()
+    /**
+     * 주문 취소
+     * - 정산 서비스에는 OrderCancelledEvent로 전달되어 정산 데이터가 무효 처리됨
+     */
+    @PostMapping("/orders/{orderId}/cancel")
+    public ResponseEntity<Void> cancelOrder(@PathVariable Long orderId) {
+        orderService.cancelOrder(orderId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // TODO: OrderService에서 Order 객체를 반환하도록 수정하면 더 나은 응답 생성 가능
+    private static OrderResponse toResponse(Long orderId, CreateOrderRequest request) {
+        return OrderResponse.builder()
                 .orderId(orderId)
                 .userId(request.getUserId())
                 .totalAmount(request.getAmount())
                 .status("ORDERED")
                 .build();
+    }
+
+    /**
+     * Idempotency-Key 처리 불가 (형식 오류 400 / 처리 중 409 / 다른 내용 422)
+     */
+    @ExceptionHandler(IdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKey(IdempotencyKeyException e) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(e.getStatus());
+        if (e.getStatus() == HttpStatus.CONFLICT) {
+            builder.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return builder.body(new ErrorResponse(e.getStatus().name(), e.getMessage()));
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * 유입 제어 거절 → 429 + Retry-After (대기열 없이 즉시 응답)
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejected(AdmissionRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse("TOO_MANY_REQUESTS", e.getMessage()));
     }
 
     @Data
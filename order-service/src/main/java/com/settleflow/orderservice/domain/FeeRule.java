@@ -0,0 +1,38 @@
+package com.settleflow.orderservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 수수료 규칙 (db/mysql/fee-rules.sql)
+ * - merchantId는 정산 계정 ID: 주문 모델에 별도 판매자 ID가 없고 정산이 주문의 userId 단위로 집계·지급되므로
+ *   (settlement-service의 userId별 합계) 주문의 userId를 정산 계정으로 보고 규칙을 매핑
+ * - merchantId가 null이면 전체 공통 구간 규칙
+ * - minAmount 이상 주문에 feeRate 적용 (같은 정산 계정의 여러 행이 금액 구간(Tier)을 구성)
+ */
+@Entity
+@Table(name = "fee_rules", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fee_rules_merchant_min_amount", columnNames = {"merchantId", "minAmount"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FeeRule {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long merchantId; // 정산 계정 ID (= 주문의 userId), null이면 공통 규칙
+
+    @Column(nullable = false)
+    private BigDecimal minAmount;
+
+    @Column(nullable = false, precision = 6, scale = 5)
+    private BigDecimal feeRate;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
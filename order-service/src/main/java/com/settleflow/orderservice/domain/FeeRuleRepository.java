@@ -0,0 +1,16 @@
+package com.settleflow.orderservice.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface FeeRuleRepository extends JpaRepository<FeeRule, Long> {
+
+    /**
+     * 규칙 변경 감지용 체크섬 - 모든 행 내용의 CRC32를 XOR (순서 무관, 행 추가/삭제/수정 모두 값이 바뀜)
+     * - updated_at을 갱신하지 않은 수동 수정이나 같은 시각의 수정/삭제도 감지
+     * - 규칙이 없으면 0
+     */
+    @Query(value = "SELECT COALESCE(BIT_XOR(CRC32(CONCAT_WS('|', id, IFNULL(merchant_id, '-'), min_amount, fee_rate, updated_at))), 0) "
+            + "FROM fee_rules", nativeQuery = true)
+    Number findChecksum();
+}
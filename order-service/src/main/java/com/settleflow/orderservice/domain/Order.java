@@ -5,8 +5,17 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * 주문
+ * - 운영 DB에서는 created_at 기준 월 단위 RANGE 파티션 테이블 (db/mysql/orders-partitioning.sql)
+ *   → PK는 (id, created_at)이지만 id가 AUTO_INCREMENT로 유일하므로 엔티티 식별자는 id만 사용
+ * - 오래된 ORDERED 주문은 orders_archive로 이동 (OrderArchiveService)
+ * - PENDING_EVENT 재발행은 claimedBy/claimUntil 리스(lease)로 인스턴스 간 분배 (PendingEventClaimService)
+ */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_created_at", columnList = "status, createdAt")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -22,8 +31,14 @@ public class Order {
 
     private String status; // ORDERED, PENDING_EVENT, CANCELLED
 
+    @Column(nullable = false, updatable = false) // 파티션 키 - 변경 시 파티션 간 행 이동이 일어나므로 갱신 금지
     private LocalDateTime createdAt;
 
+    @Column(length = 100)
+    private String claimedBy; // 재발행 작업을 가져간 인스턴스 (진단용)
+
+    private LocalDateTime claimUntil; // 재발행 리스 만료 시각 (DB 시계 기준) - 지나면 다른 인스턴스가 다시 가져감
+
     /**
      * 주문 상태 변경 (이벤트 발행 성공 시)
      */
@@ -1,7 +1,12 @@
 package com.settleflow.orderservice.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -12,4 +17,24 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return 해당 상태의 주문 목록
      */
     List<Order> findByStatus(String status);
+
+    /**
+     * 여러 주문의 상태를 한 번에 변경 (현재 상태가 fromStatus인 행만 - 그 사이 취소된 주문은 건드리지 않음)
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :toStatus where o.id in :ids and o.status = :fromStatus")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("fromStatus") String fromStatus,
+                           @Param("toStatus") String toStatus);
+
+    /**
+     * 아직 취소되지 않은 주문만 CANCELLED로 변경 (조건부 UPDATE라 동시 취소 중 한 요청만 1을 받음)
+     * - 행 잠금을 잡으므로 OrderStatusCoalescer의 PENDING_EVENT → ORDERED 일괄 반영과도 직렬화됨
+     * @return 변경된 행 수 (0이면 이미 취소됨)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :cancelled where o.id = :id and o.status <> :cancelled")
+    int cancelIfNotCancelled(@Param("id") Long id, @Param("cancelled") String cancelled);
 }
@@ -0,0 +1,19 @@
+package com.settleflow.orderservice.idempotency;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Idempotency-Key로 처리할 수 없는 요청 (OrderController에서 status 그대로 응답)
+ * - 400: 키 형식 오류 / 409: 같은 키의 요청이 아직 처리 중 / 422: 같은 키로 다른 내용의 요청
+ */
+@Getter
+public class IdempotencyKeyException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,194 @@
+package com.settleflow.orderservice.idempotency;
+
+import com.settleflow.common.logging.PipelineLogSummary;
+import com.settleflow.orderservice.config.IdempotencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * POST /orders Idempotency-Key 저장소 (Redis)
+ * - 첫 요청: 키를 "처리 중"으로 예약(SET NX 방식, Lua 1회) → 주문 생성 후 결과로 덮어씀
+ * - 재시도: 저장된 결과(주문 ID)를 그대로 응답 → MySQL/Kafka/정산까지 가지 않음
+ * - 값은 "P|요청토큰|금액" (처리 중) / "D|주문ID|금액" (완료) 형태의 짧은 문자열 - 응답 JSON 대신 응답을 다시 만들 최소 정보만 저장
+ * - 완료 기록/예약 해제는 키가 아직 자기 요청토큰의 예약일 때만 수행 (Lua 비교 후 SET/DEL)
+ *   → 예약이 만료된 뒤 늦게 끝난 요청이 다른 요청의 예약이나 완료 응답을 덮어쓰거나 지우지 않음
+ * - 키는 사용자별로 분리하고, 같은 키로 금액이 다른 요청은 재사용으로 보지 않고 거절
+ * - Redis 장애 시에는 키 없이 처리 (주문 접수를 막지 않음, 장애 중 재시도는 중복 가능)
+ */
+@Slf4j
+@Component
+public class OrderIdempotencyStore {
+
+    private static final String KEY_PREFIX = "order-idem:";
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_.:-]{1,64}");
+    private static final String IN_PROGRESS = "P";
+    private static final String DONE = "D";
+    private static final String DELIMITER = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final IdempotencyProperties properties;
+    private final PipelineLogSummary logSummary;
+    private final DefaultRedisScript<String> reserveScript;
+    private final DefaultRedisScript<Long> completeScript;
+    private final DefaultRedisScript<Long> releaseScript;
+
+    public OrderIdempotencyStore(StringRedisTemplate redisTemplate, IdempotencyProperties properties,
+                                 PipelineLogSummary logSummary) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.logSummary = logSummary;
+        this.reserveScript = new DefaultRedisScript<>();
+        this.reserveScript.setLocation(new ClassPathResource("scripts/idempotency-reserve.lua"));
+        this.reserveScript.setResultType(String.class);
+        this.completeScript = ownerScript("scripts/idempotency-complete.lua");
+        this.releaseScript = ownerScript("scripts/idempotency-release.lua");
+    }
+
+    private static DefaultRedisScript<Long> ownerScript(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * @param idempotencyKey 헤더 값 (없으면 아무 것도 하지 않는 예약 반환)
+     * @throws IdempotencyKeyException 키 형식 오류(400) / 처리 중(409) / 다른 내용의 요청(422)
+     */
+    public Reservation reserve(Long userId, String idempotencyKey, BigDecimal amount) {
+        if (!properties.isEnabled() || idempotencyKey == null) {
+            return Reservation.NONE;
+        }
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new IdempotencyKeyException(HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key는 영문/숫자/_.:- 로 된 64자 이하 문자열이어야 합니다");
+        }
+
+        String key = KEY_PREFIX + userId + ":" + idempotencyKey;
+        String requestAmount = normalize(amount);
+        String inProgress = IN_PROGRESS + DELIMITER + UUID.randomUUID() + DELIMITER + requestAmount;
+        String existing;
+        try {
+            existing = redisTemplate.execute(reserveScript, List.of(key),
+                    inProgress, String.valueOf(properties.getInProgressTtlMs()));
+        } catch (DataAccessException e) {
+            logUnavailable("reserve", e);
+            return Reservation.NONE;
+        }
+
+        if (existing == null) {
+            return new Reservation(this, key, requestAmount, inProgress, null);
+        }
+
+        String[] parts = existing.split(Pattern.quote(DELIMITER), -1);
+        String storedAmount = parts[2];
+        if (!storedAmount.equals(requestAmount)) {
+            throw new IdempotencyKeyException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "같은 Idempotency-Key로 다른 내용의 주문 요청입니다");
+        }
+        if (parts[0].equals(IN_PROGRESS)) {
+            throw new IdempotencyKeyException(HttpStatus.CONFLICT,
+                    "같은 Idempotency-Key의 주문 요청이 처리 중입니다");
+        }
+        logSummary.increment("order.idempotent-replay");
+        return new Reservation(this, key, requestAmount, null, Long.valueOf(parts[1]));
+    }
+
+    private void complete(String key, String inProgress, String amount, Long orderId) {
+        try {
+            Long written = redisTemplate.execute(completeScript, List.of(key), inProgress,
+                    DONE + DELIMITER + orderId + DELIMITER + amount,
+                    String.valueOf(properties.getResponseTtlMs()));
+            if (written == null || written == 0L) {
+                logReservationLost("complete", key, orderId);
+            }
+        } catch (DataAccessException e) {
+            // 처리 중 예약은 inProgressTtl 후 만료 → 그 뒤 재시도는 새 주문으로 처리됨
+            logUnavailable("complete", e);
+        }
+    }
+
+    private void release(String key, String inProgress) {
+        try {
+            redisTemplate.execute(releaseScript, List.of(key), inProgress);
+        } catch (DataAccessException e) {
+            logUnavailable("release", e);
+        }
+    }
+
+    /**
+     * 주문 생성이 inProgressTtl보다 오래 걸려 예약이 만료된 경우 - 그 사이 같은 키의 재시도가 별도 주문을 만들었을 수 있음
+     */
+    private void logReservationLost(String operation, String key, Long orderId) {
+        logSummary.increment("order.idempotency.reservation-lost");
+        if (logSummary.sample("order.idempotency.reservation-lost")) {
+            log.warn("Idempotency reservation expired before {} (sampled): key={}, orderId={}", operation, key, orderId);
+        }
+    }
+
+    private void logUnavailable(String operation, DataAccessException e) {
+        logSummary.increment("order.idempotency.redis-error");
+        if (logSummary.sample("order.idempotency.redis-error")) {
+            log.warn("Idempotency store unavailable (sampled): operation={}", operation, e);
+        }
+    }
+
+    private static String normalize(BigDecimal amount) {
+        return amount == null ? "" : amount.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * 예약 결과
+     * - replayOrderId != null: 이미 처리된 요청 → 저장된 주문 ID로 응답
+     * - 그 외: 주문 생성 후 complete(), 실패 시 release() (키 없는 요청이면 둘 다 아무 것도 안 함)
+     */
+    public static final class Reservation {
+
+        static final Reservation NONE = new Reservation(null, null, null, null, null);
+
+        private final OrderIdempotencyStore store;
+        private final String key;
+        private final String amount;
+        private final String inProgress;
+        private final Long replayOrderId;
+
+        private Reservation(OrderIdempotencyStore store, String key, String amount, String inProgress,
+                            Long replayOrderId) {
+            this.store = store;
+            this.key = key;
+            this.amount = amount;
+            this.inProgress = inProgress;
+            this.replayOrderId = replayOrderId;
+        }
+
+        public boolean isReplay() {
+            return replayOrderId != null;
+        }
+
+        public Long replayOrderId() {
+            return replayOrderId;
+        }
+
+        public void complete(Long orderId) {
+            if (store != null && !isReplay()) {
+                store.complete(key, inProgress, amount, orderId);
+            }
+        }
+
+        public void release() {
+            if (store != null && !isReplay()) {
+                store.release(key, inProgress);
+            }
+        }
+    }
+}
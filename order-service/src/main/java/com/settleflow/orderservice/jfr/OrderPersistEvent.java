@@ -0,0 +1,27 @@
+package com.settleflow.orderservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 저장 단계 (OrderService.createOrder의 INSERT)
+ */
+@Name(OrderPersistEvent.NAME)
+@Label("Order Persist")
+@Description("주문 INSERT 소요 시간")
+@Category({"SettleFlow", "Order"})
+@StackTrace(false)
+public class OrderPersistEvent extends Event {
+
+    public static final String NAME = "com.settleflow.order.Persist";
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("User ID")
+    public long userId;
+}
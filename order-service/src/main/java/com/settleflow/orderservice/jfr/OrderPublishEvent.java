@@ -0,0 +1,37 @@
+package com.settleflow.orderservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 이벤트 발행 단계 (OrderProducer send → 브로커 ack)
+ * - 기간은 send 호출부터 ack 콜백까지 (배치 대기 linger.ms + 네트워크 + 복제 acks 포함)
+ */
+@Name(OrderPublishEvent.NAME)
+@Label("Order Publish")
+@Description("Kafka send 호출부터 브로커 ack까지 소요 시간")
+@Category({"SettleFlow", "Order"})
+@StackTrace(false)
+public class OrderPublishEvent extends Event {
+
+    public static final String NAME = "com.settleflow.order.Publish";
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("Topic")
+    public String topic;
+
+    @Label("Partition")
+    public int partition = -1;
+
+    @Label("Offset")
+    public long offset = -1;
+
+    @Label("Acked")
+    public boolean acked;
+}
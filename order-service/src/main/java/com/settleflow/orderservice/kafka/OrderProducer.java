@@ -1,24 +1,113 @@
 package com.settleflow.orderservice.kafka;
 
+import com.settleflow.common.event.EventHeaders;
+import com.settleflow.common.event.OrderCancelledEvent;
 import com.settleflow.common.event.OrderCreatedEvent;
+import com.settleflow.common.logging.PipelineLogSummary;
+import com.settleflow.orderservice.jfr.OrderPublishEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderProducer {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PipelineLogSummary logSummary;
 
     // Kafka Topic 이름 정의
     private static final String TOPIC = "order-create-topic";
+    public static final String CANCEL_TOPIC = "order-cancel-topic";
+    private static final long CANCEL_ACK_TIMEOUT_SECONDS = 10L;
 
     public void sendOrderCreateEvent(OrderCreatedEvent event) {
-        log.info("Produce message: {}", event);
+        // 이벤트 전체 toString() 대신 주문 ID만, 그것도 샘플링해서 기록 (건수는 주기 요약 로그로)
+        if (logSummary.sample("order.produce")) {
+            log.info("Produce message (sampled): orderId={}", event.getOrderId());
+        }
         // Key는 주문 ID로 설정하여, 동일 주문에 대한 이벤트가 동일 파티션으로 가도록 보장 (순서 보장)
-        kafkaTemplate.send(TOPIC, String.valueOf(event.getOrderId()), event);
+        send(envelope(TOPIC, EventHeaders.ORDER_CREATED, event.getOrderId(), event), event.getOrderId());
+    }
+
+    /**
+     * 취소 이벤트는 브로커 ack까지 기다림 (실패/시간 초과 시 KafkaException)
+     * - 호출자(@Transactional cancelOrder)가 예외로 취소 상태 변경을 롤백할 수 있도록 동기 발행
+     * - 시간 초과 후 늦게 전달될 수도 있으나, 정산 서비스의 취소 반영은 멱등이라 재취소 요청으로 수렴
+     */
+    public void sendOrderCancelEvent(OrderCancelledEvent event) {
+        if (logSummary.sample("order.produce.cancel")) {
+            log.info("Produce cancel message (sampled): orderId={}", event.getOrderId());
+        }
+        // 취소 토픽은 Compacted 토픽 - 동일 Key(주문 ID)의 최신 이벤트만 보존됨
+        CompletableFuture<SendResult<String, Object>> future =
+                send(envelope(CANCEL_TOPIC, EventHeaders.ORDER_CANCELLED, event.getOrderId(), event), event.getOrderId());
+        try {
+            future.get(CANCEL_ACK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("취소 이벤트 발행 대기 중 인터럽트: orderId=" + event.getOrderId(), e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("취소 이벤트 발행 실패: orderId=" + event.getOrderId(), e);
+        }
+    }
+
+    /**
+     * 트랜잭션 Producer(exactly-once 프로파일)면 이벤트마다 Kafka 로컬 트랜잭션으로 발행
+     * - DB 트랜잭션과 묶지 않고 호출 시점에 커밋하므로, 커밋 실패는 호출자에게 예외로 전달되어 PENDING_EVENT로 남음
+     * - read_committed Consumer는 커밋된 이벤트만 읽음 (중단된 트랜잭션의 재시도 중복 제외)
+     * - send → ack 구간을 JFR 이벤트로 기록 (ack 콜백 스레드에서 커밋)
+     */
+    private CompletableFuture<SendResult<String, Object>> send(ProducerRecord<String, Object> record, Long orderId) {
+        OrderPublishEvent publishEvent = new OrderPublishEvent();
+        publishEvent.begin();
+
+        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.isTransactional()
+                ? kafkaTemplate.executeInTransaction(operations -> operations.send(record))
+                : kafkaTemplate.send(record);
+
+        future.whenComplete((result, error) -> {
+            logSummary.increment(error == null ? "order.publish.acked" : "order.publish.failed");
+            publishEvent.end();
+            if (!publishEvent.shouldCommit()) {
+                return;
+            }
+            publishEvent.orderId = orderId;
+            publishEvent.topic = record.topic();
+            publishEvent.acked = error == null;
+            if (result != null) {
+                publishEvent.partition = result.getRecordMetadata().partition();
+                publishEvent.offset = result.getRecordMetadata().offset();
+            }
+            publishEvent.commit();
+        });
+        return future;
+    }
+
+    /**
+     * 본문 + Envelope 헤더 (Consumer가 본문 파싱 전에 헤더만으로 필터링/중복 판정)
+     * - trace 컨텍스트(traceparent)는 KafkaTemplate observation이 send 시점에 헤더로 추가
+     *   (spring.kafka.template.observation-enabled) → 정산 서비스 리스너가 같은 trace로 이어받음
+     * - x-produced-at은 Consumer에서 큐 대기 시간(발행 → 수신) 계산에 사용
+     */
+    private ProducerRecord<String, Object> envelope(String topic, String eventType, Long orderId, Object event) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(topic, String.valueOf(orderId), event);
+        Headers headers = record.headers();
+        headers.add(EventHeaders.EVENT_TYPE, EventHeaders.encodeString(eventType));
+        headers.add(EventHeaders.ORDER_ID, EventHeaders.encodeLong(orderId));
+        headers.add(EventHeaders.SCHEMA_VERSION, EventHeaders.encodeInt(EventHeaders.CURRENT_SCHEMA_VERSION));
+        headers.add(EventHeaders.PRODUCED_AT, EventHeaders.encodeLong(System.currentTimeMillis()));
+        return record;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,176 @@
+package com.settleflow.orderservice.reconciliation;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.settleflow.common.event.OrderCreatedEvent;
+import com.settleflow.common.event.OrderStatus;
+import com.settleflow.orderservice.config.ReconciliationProperties;
+import com.settleflow.orderservice.kafka.OrderProducer;
+import com.settleflow.orderservice.service.FeeRateResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 주문(MySQL) ↔ 정산(MongoDB) 대사 작업
+ * - ORDERED 주문(id 순 스트리밍 커서)과 정산(_id 순 Mongo 커서)을 Merge Join → 수천만 건도 상수 메모리
+ * - 정산 누락 주문은 OrderCreatedEvent 재발행 (정산 서비스는 중복 키로 멱등 처리)
+ * - CANCELLED 불일치/고아 정산은 리포트만 작성
+ * - 웹 서버 없이 실행 후 종료 (application-reconciliation.yml)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "settlement.reconciliation", name = "enabled", havingValue = "true")
+public class OrderReconciliationJob implements ApplicationRunner {
+
+    private static final String MAX_ORDER_ID_SQL = "SELECT MAX(id) FROM orders WHERE created_at < ?";
+    private static final String ORDERS_SQL =
+            "SELECT id, user_id, total_amount, created_at FROM orders WHERE status = ? AND id <= ? ORDER BY id";
+    private static final String ARCHIVED_ORDERS_SQL =
+            "SELECT id, user_id, total_amount, created_at FROM orders_archive WHERE status = ? AND id <= ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderProducer orderProducer;
+    private final FeeRateResolver feeRateResolver;
+    private final ReconciliationProperties reconciliationProperties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(reconciliationProperties.getGracePeriodSeconds());
+        Long maxOrderId = jdbcTemplate.queryForObject(MAX_ORDER_ID_SQL, Long.class, Timestamp.valueOf(cutoff));
+
+        if (maxOrderId == null) {
+            log.info("대사 대상 주문 없음: cutoff={}", cutoff);
+        } else {
+            log.info("주문-정산 대사 시작: maxOrderId={}, cutoff={}, republish={}",
+                    maxOrderId, cutoff, reconciliationProperties.isRepublish());
+            ReconciliationReport report = reconcile(maxOrderId);
+            log.info("주문-정산 대사 완료: {}, report={}, elapsedMs={}",
+                    report, reconciliationProperties.getReportPath(), System.currentTimeMillis() - startedAt);
+        }
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private ReconciliationReport reconcile(long maxOrderId) throws IOException {
+        ConnectionString connectionString = new ConnectionString(reconciliationProperties.getMongoUri());
+        JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingTemplate.setFetchSize(reconciliationProperties.getFetchSize());
+
+        try (MongoClient mongoClient = MongoClients.create(connectionString);
+             Stream<OrderRow> orders = streamOrders(streamingTemplate, ORDERS_SQL, maxOrderId);
+             Stream<OrderRow> archivedOrders = reconciliationProperties.isIncludeArchive()
+                     ? streamOrders(streamingTemplate, ARCHIVED_ORDERS_SQL, maxOrderId)
+                     : Stream.empty();
+             MongoCursor<Document> cursor = mongoClient.getDatabase(connectionString.getDatabase())
+                     .getCollection(reconciliationProperties.getCollection())
+                     .find(Filters.lte("_id", maxOrderId))
+                     .projection(Projections.include("status"))
+                     .sort(Sorts.ascending("_id"))
+                     .batchSize(reconciliationProperties.getMongoBatchSize())
+                     .iterator();
+             BufferedWriter writer = Files.newBufferedWriter(Path.of(reconciliationProperties.getReportPath()), StandardCharsets.UTF_8)) {
+
+            writer.write("type,orderId,userId,totalAmount,settlementStatus");
+            writer.newLine();
+
+            Iterator<SettlementRow> settlements = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return cursor.hasNext();
+                }
+
+                @Override
+                public SettlementRow next() {
+                    Document document = cursor.next();
+                    return new SettlementRow(document.get("_id", Number.class).longValue(), document.getString("status"));
+                }
+            };
+
+            Iterator<OrderRow> allOrders = ReconciliationMergeJoin.mergeSorted(orders.iterator(), archivedOrders.iterator());
+            return ReconciliationMergeJoin.run(allOrders, settlements, new ReportWriter(writer));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Stream<OrderRow> streamOrders(JdbcTemplate streamingTemplate, String sql, long maxOrderId) {
+        return streamingTemplate.queryForStream(sql, (rs, rowNum) -> new OrderRow(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getBigDecimal("total_amount"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), OrderStatus.ORDERED.name(), maxOrderId);
+    }
+
+    /**
+     * 불일치를 CSV로 기록하고 정산 누락 건은 이벤트 재발행
+     */
+    @RequiredArgsConstructor
+    private class ReportWriter implements ReconciliationMergeJoin.Listener {
+
+        private final BufferedWriter writer;
+
+        @Override
+        public void onMissingSettlement(OrderRow order) {
+            write("MISSING", order.getOrderId(), order.getUserId(), order.getTotalAmount(), "");
+            if (!reconciliationProperties.isRepublish()) {
+                return;
+            }
+            OrderCreatedEvent event = OrderCreatedEvent.builder()
+                    .orderId(order.getOrderId())
+                    .userId(order.getUserId())
+                    .totalAmount(order.getTotalAmount())
+                    .feeRate(feeRateResolver.resolve(order.getUserId(), order.getTotalAmount()).doubleValue())
+                    .orderedAt(order.getCreatedAt().toString())
+                    .build();
+            orderProducer.sendOrderCreateEvent(event);
+        }
+
+        @Override
+        public void onCancelledSettlement(OrderRow order, SettlementRow settlement) {
+            write("CANCELLED_SETTLEMENT", order.getOrderId(), order.getUserId(), order.getTotalAmount(), settlement.getStatus());
+        }
+
+        @Override
+        public void onOrphanSettlement(SettlementRow settlement) {
+            write("ORPHAN", settlement.getOrderId(), null, null, settlement.getStatus());
+        }
+
+        private void write(String type, long orderId, Long userId, Object totalAmount, String status) {
+            try {
+                writer.write(type + "," + orderId + "," + (userId == null ? "" : userId) + ","
+                        + (totalAmount == null ? "" : totalAmount) + "," + status);
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
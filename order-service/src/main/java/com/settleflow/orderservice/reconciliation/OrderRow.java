@@ -0,0 +1,19 @@
+package com.settleflow.orderservice.reconciliation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 대사용 주문 행 (ORDERED 주문)
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderRow {
+    private final long orderId;
+    private final Long userId;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,106 @@
+package com.settleflow.orderservice.reconciliation;
+
+import com.settleflow.common.enums.SettlementStatus;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * orderId 오름차순으로 정렬된 주문/정산 스트림을 Merge Join
+ * - 양쪽 모두 현재 행 하나씩만 들고 진행하므로 메모리 사용량은 데이터 건수와 무관
+ */
+public final class ReconciliationMergeJoin {
+
+    public interface Listener {
+        void onMissingSettlement(OrderRow order);
+
+        void onCancelledSettlement(OrderRow order, SettlementRow settlement);
+
+        void onOrphanSettlement(SettlementRow settlement);
+    }
+
+    private ReconciliationMergeJoin() {
+    }
+
+    public static ReconciliationReport run(Iterator<OrderRow> orders, Iterator<SettlementRow> settlements, Listener listener) {
+        ReconciliationReport report = new ReconciliationReport();
+        OrderRow order = next(orders, report);
+        SettlementRow settlement = nextSettlement(settlements, report);
+
+        while (order != null || settlement != null) {
+            int compare = order == null ? 1
+                    : settlement == null ? -1
+                    : Long.compare(order.getOrderId(), settlement.getOrderId());
+
+            if (compare < 0) {
+                report.countMissing();
+                listener.onMissingSettlement(order);
+                order = next(orders, report);
+            } else if (compare > 0) {
+                // 취소된 주문의 정산은 CANCELLED로 남는 것이 정상
+                if (!SettlementStatus.CANCELLED.name().equals(settlement.getStatus())) {
+                    report.countOrphan();
+                    listener.onOrphanSettlement(settlement);
+                }
+                settlement = nextSettlement(settlements, report);
+            } else {
+                if (SettlementStatus.CANCELLED.name().equals(settlement.getStatus())) {
+                    report.countCancelled();
+                    listener.onCancelledSettlement(order, settlement);
+                } else {
+                    report.countMatched();
+                }
+                order = next(orders, report);
+                settlement = nextSettlement(settlements, report);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * orderId 오름차순 주문 스트림 두 개(orders / orders_archive)를 하나의 정렬 스트림으로 병합
+     */
+    public static Iterator<OrderRow> mergeSorted(Iterator<OrderRow> first, Iterator<OrderRow> second) {
+        return new Iterator<>() {
+            private OrderRow left = first.hasNext() ? first.next() : null;
+            private OrderRow right = second.hasNext() ? second.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return left != null || right != null;
+            }
+
+            @Override
+            public OrderRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                OrderRow result;
+                if (right == null || (left != null && left.getOrderId() <= right.getOrderId())) {
+                    result = left;
+                    left = first.hasNext() ? first.next() : null;
+                } else {
+                    result = right;
+                    right = second.hasNext() ? second.next() : null;
+                }
+                return result;
+            }
+        };
+    }
+
+    private static OrderRow next(Iterator<OrderRow> orders, ReconciliationReport report) {
+        if (!orders.hasNext()) {
+            return null;
+        }
+        report.countOrder();
+        return orders.next();
+    }
+
+    private static SettlementRow nextSettlement(Iterator<SettlementRow> settlements, ReconciliationReport report) {
+        if (!settlements.hasNext()) {
+            return null;
+        }
+        report.countSettlement();
+        return settlements.next();
+    }
+}
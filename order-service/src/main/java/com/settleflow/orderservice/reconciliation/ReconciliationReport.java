@@ -0,0 +1,30 @@
+package com.settleflow.orderservice.reconciliation;
+
+import lombok.Getter;
+
+/**
+ * 대사 결과 집계
+ */
+@Getter
+public class ReconciliationReport {
+    private long orders;
+    private long settlements;
+    private long matched;
+    private long missingSettlements;   // ORDERED 주문인데 정산 없음
+    private long cancelledSettlements; // ORDERED 주문인데 정산은 CANCELLED
+    private long orphanSettlements;    // ORDERED 주문 없이 남아 있는 미취소 정산
+
+    void countOrder() { orders++; }
+    void countSettlement() { settlements++; }
+    void countMatched() { matched++; }
+    void countMissing() { missingSettlements++; }
+    void countCancelled() { cancelledSettlements++; }
+    void countOrphan() { orphanSettlements++; }
+
+    @Override
+    public String toString() {
+        return "orders=" + orders + ", settlements=" + settlements + ", matched=" + matched
+                + ", missing=" + missingSettlements + ", cancelledMismatch=" + cancelledSettlements
+                + ", orphan=" + orphanSettlements;
+    }
+}
@@ -0,0 +1,14 @@
+package com.settleflow.orderservice.reconciliation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대사용 정산 행 (_id = orderId)
+ */
+@Getter
+@RequiredArgsConstructor
+public class SettlementRow {
+    private final long orderId;
+    private final String status;
+}
@@ -1,6 +1,6 @@
 package com.settleflow.orderservice.scheduler;
 
-import com.settleflow.orderservice.service.OrderService;
+import com.settleflow.orderservice.service.PendingEventRelay;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -8,13 +8,14 @@ import org.springframework.stereotype.Component;
 
 /**
  * PENDING_EVENT 상태의 주문에 대해 이벤트 재발행을 시도하는 스케줄러
+ * - 모든 인스턴스에서 실행되지만 주문은 SKIP LOCKED + 리스로 나눠 가지므로 중복 발행하지 않음
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class EventRetryScheduler {
 
-    private final OrderService orderService;
+    private final PendingEventRelay pendingEventRelay;
 
     /**
      * PENDING_EVENT 상태의 주문에 대해 이벤트 재발행 시도
@@ -27,10 +28,9 @@ public class EventRetryScheduler {
     public void retryPendingEvents() {
         log.info("===== 이벤트 재발행 스케줄러 시작 =====");
         try {
-            orderService.retryPendingEventOrders();
+            pendingEventRelay.drain(); // 작업자 스레드에서 비동기 실행 - 완료 로그는 PendingEventRelay가 남김
         } catch (Exception e) {
             log.error("이벤트 재발행 스케줄러 실행 중 오류 발생", e);
         }
-        log.info("===== 이벤트 재발행 스케줄러 종료 =====");
     }
 }
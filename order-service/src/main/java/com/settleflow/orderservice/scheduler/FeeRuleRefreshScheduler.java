@@ -0,0 +1,31 @@
+package com.settleflow.orderservice.scheduler;
+
+import com.settleflow.orderservice.service.FeeRateResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수수료 규칙 변경을 감지해 메모리 스냅샷을 갱신하는 스케줄러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeeRuleRefreshScheduler {
+
+    private final FeeRateResolver feeRateResolver;
+
+    @Scheduled(
+            fixedDelayString = "${settlement.fee-rule-refresh-ms:30000}",
+            initialDelayString = "${settlement.fee-rule-refresh-ms:30000}"
+    )
+    public void refreshFeeRules() {
+        try {
+            feeRateResolver.refreshIfChanged();
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 스냅샷 유지
+            log.error("수수료 규칙 갱신 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.settleflow.orderservice.scheduler;
+
+import com.settleflow.orderservice.service.OrderArchiveService;
+import com.settleflow.orderservice.service.OrderPartitionMaintainer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * orders 월 파티션 사전 생성 + 오래된 ORDERED 주문 아카이브 스케줄러 (MySQL 파티셔닝 환경 전용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+
+    private final OrderPartitionMaintainer orderPartitionMaintainer;
+    private final OrderArchiveService orderArchiveService;
+
+    @Scheduled(cron = "${order.archive.cron:0 0 4 * * *}")
+    public void maintain() {
+        log.info("===== 주문 파티션 관리 / 아카이브 시작 =====");
+        try {
+            orderPartitionMaintainer.ensureFuturePartitions();
+            orderArchiveService.archive();
+        } catch (Exception e) {
+            log.error("주문 파티션 관리 / 아카이브 중 오류 발생", e);
+        }
+        log.info("===== 주문 파티션 관리 / 아카이브 종료 =====");
+    }
+}
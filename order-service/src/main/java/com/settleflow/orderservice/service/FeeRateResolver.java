@@ -0,0 +1,75 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.orderservice.domain.FeeRuleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주문별 수수료율 조회
+ * - MySQL의 수수료 규칙을 불변 스냅샷으로 컴파일해 메모리에서 조회 (주문마다 DB 조회 없음)
+ * - 규칙 변경 시 새 스냅샷을 만들어 AtomicReference로 통째로 교체 (Copy-on-Write)
+ *   → 조회 스레드는 락 없이 항상 완성된 스냅샷 하나만 보게 됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeeRateResolver {
+
+    private final FeeRuleRepository feeRuleRepository;
+    private final SettlementProperties settlementProperties;
+
+    private final AtomicReference<FeeRuleSnapshot> snapshot = new AtomicReference<>();
+
+    @PostConstruct
+    void init() {
+        snapshot.set(FeeRuleSnapshot.fallbackOnly(settlementProperties.getFeeRate()));
+        try {
+            reload();
+        } catch (Exception e) {
+            // 기동은 계속하고 전역 수수료율로 동작, 다음 주기 갱신에서 재시도
+            log.error("수수료 규칙 초기 로딩 실패, 전역 수수료율 사용: feeRate={}", settlementProperties.getFeeRate(), e);
+        }
+    }
+
+    /**
+     * 정산 계정(주문 userId)과 주문 금액에 해당하는 수수료율
+     */
+    public BigDecimal resolve(Long merchantId, BigDecimal amount) {
+        return snapshot.get().resolve(merchantId, amount);
+    }
+
+    /**
+     * 규칙 테이블이 바뀌었을 때만 스냅샷 재생성 (스케줄러에서 주기적으로 호출)
+     * - 변경 판단: 전체 행 체크섬 (스냅샷을 만들 때의 값과 비교)
+     */
+    public void refreshIfChanged() {
+        FeeRuleSnapshot current = snapshot.get();
+        if (current.hasChecksum() && checksum() == current.checksum()) {
+            return;
+        }
+        reload();
+    }
+
+    /**
+     * 전체 규칙을 읽어 새 스냅샷으로 교체 (규칙 변경 직후 즉시 반영이 필요할 때 직접 호출)
+     */
+    public void reload() {
+        // 체크섬을 먼저 읽으므로, 사이에 바뀐 규칙은 다음 주기에 체크섬 불일치로 다시 반영됨
+        long checksum = checksum();
+        FeeRuleSnapshot compiled = FeeRuleSnapshot.compile(
+                feeRuleRepository.findAll(), settlementProperties.getFeeRate(), checksum);
+        snapshot.set(compiled);
+        log.info("수수료 규칙 스냅샷 교체: rules={}, checksum={}", compiled.ruleCount(), checksum);
+    }
+
+    private long checksum() {
+        Number checksum = feeRuleRepository.findChecksum();
+        return checksum == null ? 0L : checksum.longValue();
+    }
+}
@@ -0,0 +1,147 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.orderservice.domain.FeeRule;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수수료 규칙을 컴파일한 불변 조회 구조
+ * - 정산 계정별 구간 배열을 HashMap에 보관 → 계정 조회 O(1), 구간은 정렬 배열에서 이진 탐색
+ * - 생성 후 변경되지 않으므로 여러 스레드가 락 없이 동시에 조회 가능
+ */
+public final class FeeRuleSnapshot {
+
+    private final Map<Long, Tiers> merchantTiers;
+    private final Tiers defaultTiers;
+    private final BigDecimal fallbackRate;
+    private final long ruleCount;
+    private final Long checksum;
+
+    private FeeRuleSnapshot(Map<Long, Tiers> merchantTiers, Tiers defaultTiers, BigDecimal fallbackRate,
+                            long ruleCount, Long checksum) {
+        this.merchantTiers = merchantTiers;
+        this.defaultTiers = defaultTiers;
+        this.fallbackRate = fallbackRate;
+        this.ruleCount = ruleCount;
+        this.checksum = checksum;
+    }
+
+    /**
+     * 규칙 없이 전역 수수료율만 사용하는 스냅샷 (규칙 로딩 전/실패 시)
+     */
+    public static FeeRuleSnapshot fallbackOnly(BigDecimal fallbackRate) {
+        return new FeeRuleSnapshot(Map.of(), null, fallbackRate, 0, null);
+    }
+
+    /**
+     * @param checksum 규칙을 읽을 때의 테이블 체크섬 (FeeRuleRepository#findChecksum)
+     */
+    public static FeeRuleSnapshot compile(Collection<FeeRule> rules, BigDecimal fallbackRate, long checksum) {
+        Map<Long, List<FeeRule>> grouped = new HashMap<>();
+        List<FeeRule> defaults = new ArrayList<>();
+        for (FeeRule rule : rules) {
+            if (rule.getMerchantId() == null) {
+                defaults.add(rule);
+            } else {
+                grouped.computeIfAbsent(rule.getMerchantId(), id -> new ArrayList<>()).add(rule);
+            }
+        }
+
+        Map<Long, Tiers> merchantTiers = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((merchantId, merchantRules) -> merchantTiers.put(merchantId, Tiers.of(merchantRules)));
+
+        return new FeeRuleSnapshot(
+                Map.copyOf(merchantTiers),
+                defaults.isEmpty() ? null : Tiers.of(defaults),
+                fallbackRate,
+                rules.size(),
+                checksum
+        );
+    }
+
+    /**
+     * 정산 계정 규칙 → 공통 규칙 → 전역 수수료율 순으로 적용
+     */
+    public BigDecimal resolve(Long merchantId, BigDecimal amount) {
+        if (merchantId != null) {
+            Tiers tiers = merchantTiers.get(merchantId);
+            if (tiers != null) {
+                BigDecimal rate = tiers.find(amount);
+                if (rate != null) {
+                    return rate;
+                }
+            }
+        }
+        if (defaultTiers != null) {
+            BigDecimal rate = defaultTiers.find(amount);
+            if (rate != null) {
+                return rate;
+            }
+        }
+        return fallbackRate;
+    }
+
+    public long ruleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * 규칙 로딩 전/실패 시의 스냅샷(fallbackOnly)은 체크섬이 없어 다음 갱신에서 항상 다시 로딩
+     */
+    public boolean hasChecksum() {
+        return checksum != null;
+    }
+
+    public long checksum() {
+        return checksum == null ? 0L : checksum;
+    }
+
+    /**
+     * minAmount 오름차순으로 정렬된 구간 (하한 이상 중 가장 큰 구간 적용)
+     */
+    private static final class Tiers {
+
+        private final BigDecimal[] minAmounts;
+        private final BigDecimal[] rates;
+
+        private Tiers(BigDecimal[] minAmounts, BigDecimal[] rates) {
+            this.minAmounts = minAmounts;
+            this.rates = rates;
+        }
+
+        static Tiers of(List<FeeRule> rules) {
+            List<FeeRule> sorted = new ArrayList<>(rules);
+            sorted.sort(Comparator.comparing(FeeRule::getMinAmount));
+
+            BigDecimal[] minAmounts = new BigDecimal[sorted.size()];
+            BigDecimal[] rates = new BigDecimal[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                minAmounts[i] = sorted.get(i).getMinAmount();
+                rates[i] = sorted.get(i).getFeeRate();
+            }
+            return new Tiers(minAmounts, rates);
+        }
+
+        BigDecimal find(BigDecimal amount) {
+            int low = 0;
+            int high = minAmounts.length - 1;
+            int matched = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (minAmounts[mid].compareTo(amount) <= 0) {
+                    matched = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return matched >= 0 ? rates[matched] : null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.common.event.OrderStatus;
+import com.settleflow.orderservice.config.ArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 오래된 ORDERED 주문을 orders_archive로 청크 단위 이동
+ * - 청크마다 별도 트랜잭션: 아카이브에 복사(INSERT IGNORE → 재실행 멱등) 후 원본 삭제
+ * - 모든 조건에 created_at 범위를 포함해 오래된 파티션만 접근 (파티션 프루닝)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+    private static final String SELECT_IDS_SQL =
+            "SELECT id FROM orders WHERE status = :status AND created_at < :cutoff LIMIT :limit";
+    private static final String COPY_SQL =
+            "INSERT IGNORE INTO orders_archive (id, user_id, total_amount, status, created_at, archived_at) "
+                    + "SELECT id, user_id, total_amount, status, created_at, NOW(6) FROM orders "
+                    + "WHERE created_at < :cutoff AND id IN (:ids)";
+    private static final String DELETE_SQL =
+            "DELETE FROM orders WHERE created_at < :cutoff AND status = :status AND id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties archiveProperties;
+
+    /**
+     * @return 이동한 주문 수
+     */
+    public long archive() {
+        // 월 파티션 경계에 맞춰 보존 기간 계산 → 오래된 파티션이 통째로 비워지도록
+        LocalDate cutoffDate = LocalDate.now().withDayOfMonth(1).minusMonths(archiveProperties.getRetentionMonths());
+        Timestamp cutoff = Timestamp.valueOf(cutoffDate.atStartOfDay());
+        long startedAt = System.currentTimeMillis();
+        long archived = 0;
+
+        for (int chunk = 0; chunk < archiveProperties.getMaxChunksPerRun(); chunk++) {
+            Integer moved = transactionTemplate.execute(status -> moveChunk(cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            archived += moved;
+            pause();
+        }
+
+        log.info("주문 아카이브 완료: cutoff={}, archived={}, elapsedMs={}",
+                cutoffDate, archived, System.currentTimeMillis() - startedAt);
+        return archived;
+    }
+
+    private int moveChunk(Timestamp cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("status", OrderStatus.ORDERED.name())
+                .addValue("cutoff", cutoff)
+                .addValue("limit", archiveProperties.getChunkSize());
+
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_IDS_SQL, params, Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        params.addValue("ids", ids);
+
+        jdbcTemplate.update(COPY_SQL, params);
+        return jdbcTemplate.update(DELETE_SQL, params);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(archiveProperties.getPauseMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
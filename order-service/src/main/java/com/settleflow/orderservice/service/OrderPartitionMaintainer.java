@@ -0,0 +1,94 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.orderservice.config.ArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * orders 월 파티션 사전 생성
+ * - 마지막 파티션(pmax)을 분할(REORGANIZE)해 앞으로 쓸 월 파티션을 미리 만들어 둠
+ * - 마지막 월 파티션 다음 달부터 빠짐없이 생성 (사전 생성이 밀린 달도 메움 - 한 달 파티션이 여러 달 데이터를 받지 않도록)
+ * - REORGANIZE는 pmax의 행을 새 파티션으로 복사하므로, 데이터 이동 없이 끝나는 것은 pmax가 비어 있을 때뿐
+ *   → partitionsAhead만큼 미리 만들어 pmax를 비워 두고, 밀린 경우에는 한 문장으로 한 번만 복사
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderPartitionMaintainer {
+
+    private static final String PARTITIONS_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND PARTITION_NAME IS NOT NULL";
+    private static final String PMAX_ROWS_SQL =
+            "SELECT COALESCE(SUM(TABLE_ROWS), 0) FROM information_schema.PARTITIONS "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND PARTITION_NAME = 'pmax'";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveProperties archiveProperties;
+
+    public void ensureFuturePartitions() {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(PARTITIONS_SQL, String.class));
+        if (existing.isEmpty()) {
+            log.warn("orders 테이블이 파티셔닝되어 있지 않음 - db/mysql/orders-partitioning.sql 적용 필요");
+            return;
+        }
+
+        Optional<String> ddl = missingPartitionDdl(existing, YearMonth.now(), archiveProperties.getPartitionsAhead());
+        if (ddl.isEmpty()) {
+            return;
+        }
+
+        Long pmaxRows = jdbcTemplate.queryForObject(PMAX_ROWS_SQL, Long.class);
+        if (pmaxRows != null && pmaxRows > 0) {
+            // 통계 기반 추정치 - 파티션 사전 생성이 밀려 pmax에 쌓인 행을 새 파티션으로 옮김
+            log.warn("orders pmax에 데이터가 있어 파티션 분할 시 행 복사 발생: estimatedRows={}", pmaxRows);
+        }
+        jdbcTemplate.execute(ddl.get());
+        log.info("orders 파티션 추가: {}", ddl.get());
+    }
+
+    /**
+     * 마지막 월 파티션 다음 달부터 now + ahead개월까지의 월 파티션을 pmax 분할 DDL 한 문장으로 생성
+     * - RANGE 파티션은 pmax 앞(끝)에만 추가할 수 있으므로, 마지막 월 파티션 이전의 빈 달은 대상이 아님
+     * - 월 파티션이 하나도 없으면 이번 달부터
+     */
+    static Optional<String> missingPartitionDdl(Set<String> existing, YearMonth now, int ahead) {
+        YearMonth latest = existing.stream()
+                .map(OrderPartitionMaintainer::parseMonth)
+                .flatMap(Optional::stream)
+                .max(YearMonth::compareTo)
+                .orElse(null);
+        YearMonth from = latest == null ? now : latest.plusMonths(1);
+        YearMonth to = now.plusMonths(ahead);
+        if (from.isAfter(to)) {
+            return Optional.empty();
+        }
+
+        StringJoiner partitions = new StringJoiner(", ", "ALTER TABLE orders REORGANIZE PARTITION pmax INTO (", ")");
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            partitions.add("PARTITION " + month.format(PARTITION_NAME)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        partitions.add("PARTITION pmax VALUES LESS THAN (MAXVALUE)");
+        return Optional.of(partitions.toString());
+    }
+
+    private static Optional<YearMonth> parseMonth(String partitionName) {
+        try {
+            return Optional.of(YearMonth.parse(partitionName, PARTITION_NAME));
+        } catch (DateTimeParseException e) {
+            return Optional.empty(); // pmax 등 월 파티션이 아닌 이름
+        }
+    }
+}
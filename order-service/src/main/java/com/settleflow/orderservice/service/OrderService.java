@@ -1,11 +1,16 @@
 package com.settleflow.orderservice.service;
 
+import com.settleflow.common.event.OrderCancelledEvent;
 import com.settleflow.common.event.OrderCreatedEvent;
 import com.settleflow.common.event.OrderStatus;
-import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.common.exception.EntityNotFoundException;
+import com.settleflow.common.logging.PipelineLogSummary;
 import com.settleflow.orderservice.domain.Order;
 import com.settleflow.orderservice.domain.OrderRepository;
+import com.settleflow.orderservice.jfr.OrderPersistEvent;
 import com.settleflow.orderservice.kafka.OrderProducer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -21,7 +27,10 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderProducer orderProducer;
-    private final SettlementProperties settlementProperties;
+    private final FeeRateResolver feeRateResolver;
+    private final OrderStatusCoalescer orderStatusCoalescer;
+    private final ObservationRegistry observationRegistry;
+    private final PipelineLogSummary logSummary;
 
     @Transactional
     public Long createOrder(Long userId, BigDecimal amount) {
@@ -33,26 +42,40 @@ public class OrderService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Order savedOrder = orderRepository.save(order);
+        OrderPersistEvent persistEvent = new OrderPersistEvent();
+        persistEvent.begin();
+        // 저장 구간 span (HTTP 요청 trace의 하위 구간)
+        Order savedOrder = Observation.createNotStarted("order.persist", observationRegistry)
+                .observe(() -> orderRepository.save(order));
+        persistEvent.end();
+        if (persistEvent.shouldCommit()) { // 임계치 미만이면 필드 설정/기록 생략
+            persistEvent.orderId = savedOrder.getId() == null ? 0L : savedOrder.getId();
+            persistEvent.userId = userId == null ? 0L : userId;
+            persistEvent.commit();
+        }
 
-        // 2. Kafka 이벤트 발행 시도
+        // 2. Kafka 이벤트 발행 시도 (수수료 규칙은 주문 userId를 정산 계정으로 보고 조회 - FeeRule 참고)
         OrderCreatedEvent event = OrderCreatedEvent.builder()
                 .orderId(savedOrder.getId())
                 .userId(savedOrder.getUserId())
                 .totalAmount(savedOrder.getTotalAmount())
-                .feeRate(settlementProperties.getFeeRate().doubleValue())
+                .feeRate(feeRateResolver.resolve(savedOrder.getUserId(), savedOrder.getTotalAmount()).doubleValue())
                 .orderedAt(savedOrder.getCreatedAt().toString())
                 .build();
 
         try {
             orderProducer.sendOrderCreateEvent(event);
 
-            // Kafka 전송 성공 시 상태 변경 (PENDING_EVENT -> ORDERED)
-            savedOrder.completeEventPublish();
-            log.info("주문 생성 및 이벤트 발행 성공: orderId={}", savedOrder.getId());
+            // Kafka 전송 성공 시 상태 변경 (PENDING_EVENT -> ORDERED) - 커밋 후 모아서 일괄 UPDATE
+            orderStatusCoalescer.markOrdered(savedOrder.getId());
+            logSummary.increment("order.created");
+            if (logSummary.sample("order.created")) {
+                log.info("주문 생성 및 이벤트 발행 성공 (샘플): orderId={}", savedOrder.getId());
+            }
 
         } catch (Exception e) {
             // Kafka 전송 실패 시 로그만 남기고 PENDING_EVENT 상태 유지
+            logSummary.increment("order.create.publish-failed");
             log.error("Kafka 이벤트 발행 실패: orderId={}, 재시도 대상으로 등록됨", savedOrder.getId(), e);
             // 주문은 생성되었지만 이벤트 발행은 실패 (재시도 필요)
         }
@@ -61,36 +84,73 @@ public class OrderService {
     }
 
     /**
-     * PENDING_EVENT 상태의 주문에 대해 이벤트 재발행
-     * Scheduler에서 주기적으로 호출
+     * 리스를 얻은(claim) PENDING_EVENT 주문에 대해 이벤트 재발행
+     * PendingEventRelay 작업자가 호출 - 트랜잭션 없이 발행하고, 성공한 주문만 ORDERED 일괄 반영 대상으로 등록
+     * @return 재발행에 성공한 주문 수
      */
-    @Transactional
-    public void retryPendingEventOrders() {
-        // PENDING_EVENT 상태의 주문 조회
-        var pendingOrders = orderRepository.findByStatus(OrderStatus.PENDING_EVENT.name());
-
-        log.info("재시도 대상 주문 {}건 발견", pendingOrders.size());
-
-        for (Order order : pendingOrders) {
+    public int republishClaimed(List<Order> claimedOrders) {
+        int published = 0;
+        for (Order order : claimedOrders) {
+            if (orderStatusCoalescer.isPending(order.getId())) {
+                continue; // 이미 발행됨, 상태 반영만 대기 중
+            }
             try {
                 OrderCreatedEvent event = OrderCreatedEvent.builder()
                         .orderId(order.getId())
                         .userId(order.getUserId())
                         .totalAmount(order.getTotalAmount())
-                        .feeRate(settlementProperties.getFeeRate().doubleValue())
+                        .feeRate(feeRateResolver.resolve(order.getUserId(), order.getTotalAmount()).doubleValue())
                         .orderedAt(order.getCreatedAt().toString())
                         .build();
 
                 orderProducer.sendOrderCreateEvent(event);
 
-                // 성공 시 상태 업데이트 (PENDING_EVENT -> ORDERED)
-                order.completeEventPublish();
-                log.info("이벤트 재발행 성공: orderId={}", order.getId());
+                // 성공 시 상태 업데이트 (PENDING_EVENT -> ORDERED) - 모아서 일괄 UPDATE
+                orderStatusCoalescer.markOrdered(order.getId());
+                published++;
+                logSummary.increment("order.republished");
+                if (logSummary.sample("order.republished")) {
+                    log.info("이벤트 재발행 성공 (샘플): orderId={}", order.getId());
+                }
 
             } catch (Exception e) {
+                logSummary.increment("order.republish.failed");
                 log.error("이벤트 재발행 실패: orderId={}", order.getId(), e);
-                // 계속 PENDING_EVENT 상태로 유지하여 다음 재시도 대상이 됨
+                // PENDING_EVENT 상태로 유지 - 리스가 만료되면 다음 재시도 대상이 됨
             }
         }
+        return published;
+    }
+
+    /**
+     * 주문 취소
+     * - 취소 여부는 조건부 UPDATE의 변경 행 수로 원자적으로 결정 (동시 취소/상태 일괄 반영과 경합해도 한 번만 취소)
+     * - 취소되는 주문에는 항상 보상 이벤트(OrderCancelledEvent) 발행
+     *   PENDING_EVENT여도 어느 인스턴스에서든 생성 이벤트가 이미 나갔을 수 있음 (ORDERED 반영 대기, 재발행 중)
+     *   → 발행 여부를 추측하지 않고 취소를 보냄, 정산 서비스는 생성보다 먼저 온 취소를 CANCELLED 문서로 선점해 둠
+     * - 이미 취소된 주문은 그대로 반환 (멱등)
+     */
+    @Transactional
+    public void cancelOrder(Long orderId) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new EntityNotFoundException("주문", orderId));
+
+        if (OrderStatus.CANCELLED.name().equals(order.getStatus())
+                || orderRepository.cancelIfNotCancelled(orderId, OrderStatus.CANCELLED.name()) == 0) {
+            log.info("이미 취소된 주문: orderId={}", orderId);
+            return;
+        }
+        orderStatusCoalescer.discard(orderId);
+
+        OrderCancelledEvent event = OrderCancelledEvent.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .cancelledAt(LocalDateTime.now().toString())
+                .build();
+
+        // ack까지 기다리는 동기 발행 - 실패/시간 초과 예외가 그대로 전파되어 취소 상태 변경도 롤백
+        orderProducer.sendOrderCancelEvent(event);
+
+        log.info("주문 취소 완료: orderId={}, 취소 전 상태={}", orderId, order.getStatus());
     }
-}
\ No newline at end of file
+}
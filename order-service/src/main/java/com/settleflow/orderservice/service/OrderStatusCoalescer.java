@@ -0,0 +1,101 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.common.event.OrderStatus;
+import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.orderservice.domain.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 상태 PENDING_EVENT → ORDERED 전환 Write-Behind
+ * - 이벤트 발행 성공한 주문 ID를 짧은 주기 동안 모아 UPDATE ... WHERE id IN (...) 한 번으로 반영
+ *   (주문마다 JPA Dirty Checking으로 전체 컬럼 UPDATE를 날리지 않음)
+ * - 반영 전에 프로세스가 죽어도 주문은 PENDING_EVENT로 남아 재발행 스케줄러가 다시 처리 (정산 서비스는 중복 이벤트 무시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusCoalescer {
+
+    private final OrderRepository orderRepository;
+    private final SettlementProperties settlementProperties;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 발행 완료 주문 등록 (트랜잭션 안이면 커밋 후 등록 - 아직 커밋되지 않은 INSERT 행을 UPDATE하지 않도록)
+     */
+    public void markOrdered(Long orderId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.add(orderId);
+                }
+            });
+            return;
+        }
+        pending.add(orderId);
+    }
+
+    /**
+     * 발행은 끝났지만 아직 DB에 ORDERED로 반영되지 않은 주문인지 여부
+     */
+    public boolean isPending(Long orderId) {
+        return pending.contains(orderId);
+    }
+
+    /**
+     * 반영 대기 목록에서 제외 (반영 전에 취소된 주문)
+     */
+    public void discard(Long orderId) {
+        pending.remove(orderId);
+    }
+
+    @Scheduled(fixedDelayString = "${settlement.status-flush-interval-ms:200}")
+    public void flush() {
+        int batchSize = settlementProperties.getStatusFlushBatchSize();
+        while (!pending.isEmpty()) {
+            List<Long> ids = peek(batchSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            try {
+                int updated = orderRepository.updateStatusByIdIn(
+                        ids, OrderStatus.PENDING_EVENT.name(), OrderStatus.ORDERED.name());
+                log.debug("주문 상태 일괄 반영: requested={}, updated={}", ids.size(), updated);
+            } catch (Exception e) {
+                // 목록에 그대로 남겨 다음 주기에 다시 시도 (그 전에 죽더라도 PENDING_EVENT 재발행으로 복구)
+                log.error("주문 상태 일괄 반영 실패: count={}", ids.size(), e);
+                return;
+            }
+            // UPDATE 완료 후에 제거 - 반영 도중에도 재발행 작업자가 isPending으로 중복 발행을 건너뛸 수 있도록
+            ids.forEach(pending::remove);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private List<Long> peek(int max) {
+        List<Long> ids = new ArrayList<>(Math.min(max, pending.size()));
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext() && ids.size() < max) {
+            ids.add(iterator.next());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,83 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.common.event.OrderStatus;
+import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.orderservice.domain.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PENDING_EVENT 재발행 대상 분배 (SELECT ... FOR UPDATE SKIP LOCKED + 리스 컬럼)
+ * - 짧은 트랜잭션에서 잠기지 않은 행만 골라 claim_until을 연장하고 바로 커밋
+ *   → 동시에 가져가는 다른 작업자/인스턴스는 잠긴 행을 건너뛰고, 커밋 후에는 리스 조건으로 제외
+ * - Kafka 발행은 트랜잭션 밖에서 수행 (행 잠금을 네트워크 I/O 동안 잡고 있지 않음)
+ * - 발행 후 ORDERED 반영 전에 인스턴스가 죽으면 리스 만료 후 다른 인스턴스가 다시 가져감
+ * - 리스 시각은 DB 시계(NOW(6)) 기준, 최소 경과 시간은 created_at을 기록한 애플리케이션 시계 기준
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PendingEventClaimService {
+
+    // status, created_at 인덱스(idx_orders_status_created_at) 범위 스캔 + 오래된 주문부터
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT id, user_id, total_amount, created_at FROM orders "
+                    + "WHERE status = :status AND created_at < :createdBefore "
+                    + "AND (claim_until IS NULL OR claim_until < NOW(6)) "
+                    + "ORDER BY created_at LIMIT :limit "
+                    + "FOR UPDATE SKIP LOCKED";
+    private static final String CLAIM_SQL =
+            "UPDATE orders SET claimed_by = :owner, "
+                    + "claim_until = DATE_ADD(NOW(6), INTERVAL :leaseMicros MICROSECOND) "
+                    + "WHERE created_at < :createdBefore AND id IN (:ids)";
+
+    private static final RowMapper<Order> ROW_MAPPER = (rs, rowNum) -> Order.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getObject("user_id", Long.class))
+            .totalAmount(rs.getBigDecimal("total_amount"))
+            .status(OrderStatus.PENDING_EVENT.name())
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SettlementProperties settlementProperties;
+
+    /**
+     * 재발행할 주문 청크를 가져감 (다른 작업자가 가져간 주문과 겹치지 않음)
+     * @param owner 가져가는 인스턴스 식별자
+     * @return 리스를 얻은 주문 (없으면 빈 목록)
+     */
+    public List<Order> claim(String owner) {
+        Timestamp createdBefore = Timestamp.valueOf(
+                LocalDateTime.now().minusNanos(settlementProperties.getRetryMinAgeMs() * 1_000_000L));
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("status", OrderStatus.PENDING_EVENT.name())
+                .addValue("createdBefore", createdBefore)
+                .addValue("limit", settlementProperties.getRetryClaimBatchSize())
+                .addValue("owner", owner)
+                .addValue("leaseMicros", settlementProperties.getRetryLeaseMs() * 1000L);
+
+        List<Order> claimed = transactionTemplate.execute(status -> {
+            List<Order> orders = jdbcTemplate.query(SELECT_CLAIMABLE_SQL, params, ROW_MAPPER);
+            if (orders.isEmpty()) {
+                return orders;
+            }
+            params.addValue("ids", orders.stream().map(Order::getId).toList());
+            jdbcTemplate.update(CLAIM_SQL, params);
+            return orders;
+        });
+
+        log.debug("재발행 대상 claim: owner={}, count={}", owner, claimed == null ? 0 : claimed.size());
+        return claimed == null ? List.of() : claimed;
+    }
+}
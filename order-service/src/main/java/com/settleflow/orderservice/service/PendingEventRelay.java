@@ -0,0 +1,102 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.orderservice.domain.Order;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * PENDING_EVENT 재발행 실행기
+ * - 인스턴스마다 retryClaimers 개의 작업자가 병렬로 claim → 발행을 반복 (대상이 없을 때까지)
+ * - 작업자끼리, 인스턴스끼리 SKIP LOCKED + 리스로 서로 다른 주문을 가져가므로
+ *   적체 해소 속도가 (인스턴스 수 × 작업자 수)에 비례하고 같은 주문을 동시에 재발행하지 않음
+ * - 스케줄러 스레드를 붙잡지 않도록 비동기로 실행하고, 이전 실행이 끝나지 않았으면 건너뜀
+ */
+@Slf4j
+@Component
+public class PendingEventRelay {
+
+    private final PendingEventClaimService claimService;
+    private final OrderService orderService;
+    private final SettlementProperties settlementProperties;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName(); // pid@host
+
+    public PendingEventRelay(PendingEventClaimService claimService,
+                             OrderService orderService,
+                             SettlementProperties settlementProperties) {
+        this.claimService = claimService;
+        this.orderService = orderService;
+        this.settlementProperties = settlementProperties;
+        this.executor = Executors.newFixedThreadPool(settlementProperties.getRetryClaimers());
+    }
+
+    /**
+     * 재발행 실행 (이미 실행 중이면 false)
+     */
+    public boolean drain() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("이전 재발행 작업이 진행 중이라 이번 주기는 건너뜀");
+            return false;
+        }
+        long startedAt = System.currentTimeMillis();
+        int claimers = settlementProperties.getRetryClaimers();
+        List<CompletableFuture<Long>> workers = new ArrayList<>(claimers);
+        try {
+            for (int i = 0; i < claimers; i++) {
+                workers.add(CompletableFuture.supplyAsync(this::drainWorker, executor));
+            }
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+
+        CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> {
+                    running.set(false);
+                    if (error != null) {
+                        log.error("이벤트 재발행 작업 중 오류 발생", error);
+                        return;
+                    }
+                    long published = workers.stream().mapToLong(CompletableFuture::join).sum();
+                    log.info("이벤트 재발행 완료: owner={}, claimers={}, published={}, elapsedMs={}",
+                            owner, claimers, published, System.currentTimeMillis() - startedAt);
+                });
+        return true;
+    }
+
+    boolean isRunning() {
+        return running.get();
+    }
+
+    private long drainWorker() {
+        int batchSize = settlementProperties.getRetryClaimBatchSize();
+        long published = 0;
+        for (int batch = 0; batch < settlementProperties.getRetryMaxBatchesPerRun(); batch++) {
+            List<Order> claimed = claimService.claim(owner);
+            if (claimed.isEmpty()) {
+                break;
+            }
+            published += orderService.republishClaimed(claimed);
+            if (claimed.size() < batchSize) {
+                break; // 남은 대상 없음
+            }
+        }
+        return published;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,21 @@
+-- =====================================================================
+-- 수수료 규칙 테이블 생성 (MySQL 8)
+-- - 운영/개발은 ddl-auto: validate 이므로 FeeRateResolver 포함 버전 배포 전에 수동 1회 실행
+-- - merchant_id: 정산 계정 ID (= 주문의 user_id), NULL이면 전체 공통 구간 규칙
+-- - 같은 merchant_id의 여러 행이 min_amount 구간(Tier)을 구성 (min_amount 이상 주문에 fee_rate 적용)
+-- - 변경 감지는 전체 행 체크섬으로 하므로 updated_at을 갱신하지 않은 수동 수정도 반영됨
+-- =====================================================================
+
+CREATE TABLE fee_rules (
+    id          BIGINT        NOT NULL AUTO_INCREMENT,
+    merchant_id BIGINT        NULL,
+    min_amount  DECIMAL(38, 2) NOT NULL,
+    fee_rate    DECIMAL(6, 5) NOT NULL,
+    updated_at  DATETIME(6)   NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_fee_rules_merchant_min_amount (merchant_id, min_amount)
+);
+
+-- 예시: 공통 구간 (5만원 이상 2.8%) / 특정 정산 계정 구간
+-- INSERT INTO fee_rules (merchant_id, min_amount, fee_rate) VALUES (NULL, 50000, 0.02800);
+-- INSERT INTO fee_rules (merchant_id, min_amount, fee_rate) VALUES (1, 0, 0.02500), (1, 100000, 0.02000);
@@ -0,0 +1,9 @@
+-- =====================================================================
+-- PENDING_EVENT 재발행 리스 컬럼 추가 (MySQL 8 - SELECT ... FOR UPDATE SKIP LOCKED 필요)
+-- - 운영/개발은 ddl-auto: validate 이므로 PendingEventClaimService 포함 버전 배포 전에 수동 1회 실행
+-- - 재발행 대상 조회는 기존 idx_orders_status_created_at 인덱스를 그대로 사용 (추가 인덱스 없음)
+-- =====================================================================
+
+ALTER TABLE orders
+    ADD COLUMN claimed_by  VARCHAR(100) NULL,
+    ADD COLUMN claim_until DATETIME(6)  NULL;
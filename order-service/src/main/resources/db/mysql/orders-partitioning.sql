@@ -0,0 +1,53 @@
+-- =====================================================================
+-- orders 테이블 월 단위 RANGE 파티셔닝 + 아카이브 테이블 생성 (MySQL 8)
+-- - 운영/개발은 ddl-auto: validate 이므로 배포 전에 수동 1회 실행
+-- - MySQL 파티션 테이블은 모든 UNIQUE 키에 파티션 키가 포함되어야 하므로 PK를 (id, created_at)으로 변경
+--   (id는 AUTO_INCREMENT라 여전히 유일, JPA 매핑은 @Id id 그대로 사용)
+-- - 이후 월 파티션 추가는 OrderPartitionMaintainer가 pmax를 분할해서 처리
+-- - 대용량 테이블은 pt-online-schema-change / gh-ost 로 실행 권장
+-- =====================================================================
+
+-- 1. 파티션 키 컬럼 NOT NULL + PK 변경
+ALTER TABLE orders
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+-- 2. PENDING_EVENT 재발행 / 아카이브 대상 조회용 인덱스 (파티션별 로컬 인덱스)
+CREATE INDEX idx_orders_status_created_at ON orders (status, created_at);
+
+-- 3. 월 단위 파티션: 기존 데이터의 가장 오래된 달(MIN(created_at))부터 다음 달까지 빠짐없이 생성
+--    - 달을 건너뛰면 그 달의 행이 다음 파티션(또는 pmax)에 섞여 들어가 파티션 정리/아카이브 단위가 깨짐
+--    - 이후 달은 OrderPartitionMaintainer가 pmax를 분할해서 추가 (실행이 밀린 달도 마지막 월 파티션 다음부터 메움)
+SET SESSION group_concat_max_len = 1024 * 1024;
+SET @first_month = CAST(DATE_FORMAT(COALESCE((SELECT MIN(created_at) FROM orders), NOW()), '%Y-%m-01') AS DATE);
+SET @last_month = CAST(DATE_FORMAT(NOW() + INTERVAL 1 MONTH, '%Y-%m-01') AS DATE);
+
+SET @partition_ddl = (
+    WITH RECURSIVE months (month_start) AS (
+        SELECT @first_month
+        UNION ALL
+        SELECT month_start + INTERVAL 1 MONTH FROM months WHERE month_start < @last_month
+    )
+    SELECT CONCAT('ALTER TABLE orders PARTITION BY RANGE COLUMNS (created_at) (',
+                  GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+                                      ' VALUES LESS THAN (''', month_start + INTERVAL 1 MONTH, ''')')
+                               ORDER BY month_start SEPARATOR ', '),
+                  ', PARTITION pmax VALUES LESS THAN (MAXVALUE))')
+    FROM months
+);
+
+PREPARE partition_orders FROM @partition_ddl;
+EXECUTE partition_orders;
+DEALLOCATE PREPARE partition_orders;
+
+-- 4. 정산 완료(ORDERED) 주문 아카이브 (Cold 데이터 - 압축 행 포맷, 조회 빈도 낮음)
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id           BIGINT         NOT NULL,
+    user_id      BIGINT,
+    total_amount DECIMAL(38, 2),
+    status       VARCHAR(255),
+    created_at   DATETIME(6)    NOT NULL,
+    archived_at  DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED;
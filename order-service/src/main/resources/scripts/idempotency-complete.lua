@@ -0,0 +1,8 @@
+-- Idempotency-Key 완료 기록 (OrderIdempotencyStore)
+-- KEYS[1]: 키 / ARGV[1]: 이 요청이 예약한 처리 중 값, ARGV[2]: 완료 응답 값, ARGV[3]: 응답 보관 TTL(ms)
+-- 키가 아직 이 요청의 예약일 때만 완료 응답으로 덮어씀 (예약이 만료돼 다른 요청이 가져간 경우 1 대신 0)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+    return 1
+end
+return 0
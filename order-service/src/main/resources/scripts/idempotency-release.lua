@@ -0,0 +1,7 @@
+-- Idempotency-Key 예약 해제 (OrderIdempotencyStore)
+-- KEYS[1]: 키 / ARGV[1]: 이 요청이 예약한 처리 중 값
+-- 키가 아직 이 요청의 예약일 때만 삭제 (다른 요청의 예약/완료 응답은 그대로 둠)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
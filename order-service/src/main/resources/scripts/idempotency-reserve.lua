@@ -0,0 +1,9 @@
+-- Idempotency-Key 예약 (OrderIdempotencyStore)
+-- KEYS[1]: 키 / ARGV[1]: 처리 중 표시 값("P|요청토큰|금액"), ARGV[2]: 처리 중 TTL(ms)
+-- 키가 없으면 처리 중으로 예약하고 nil, 있으면 기존 값(처리 중 표시 또는 완료 응답)을 반환 - 왕복 1회
+local existing = redis.call('GET', KEYS[1])
+if existing then
+    return existing
+end
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+return false
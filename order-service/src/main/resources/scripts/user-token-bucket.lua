@@ -0,0 +1,24 @@
+-- 사용자별 토큰 버킷 (RedisTokenBucketLimiter)
+-- KEYS[1]: 버킷 키 / ARGV[1]: ms당 토큰 수, ARGV[2]: 버킷 크기, ARGV[3]: 키 TTL(ms)
+-- 시각은 Redis 서버 시간 기준 (인스턴스 간 시계 차이 무관)
+local rate = tonumber(ARGV[1])
+local burst = tonumber(ARGV[2])
+local ttl = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1]) or burst
+local refilledAt = tonumber(state[2]) or now
+
+tokens = math.min(burst, tokens + math.max(0, now - refilledAt) * rate)
+local allowed = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+    allowed = 1
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', KEYS[1], ttl)
+return allowed
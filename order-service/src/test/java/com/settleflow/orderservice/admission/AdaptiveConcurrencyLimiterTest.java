@@ -0,0 +1,84 @@
+package com.settleflow.orderservice.admission;
+
+import com.settleflow.orderservice.config.AdmissionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter 단위 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(0L);
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(5);
+        properties.setTargetLatencyMs(100);
+        properties.setWindowMs(1000);
+        properties.setMinSamples(2);
+        properties.setBackoffRatio(0.5);
+        limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("한도만큼 동시 허용 후 즉시 거절, 반환하면 다시 허용")
+    void tryAcquire_RejectsAtLimit() {
+        // when & then
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(millis(10));
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("구간 평균 처리 시간이 목표를 넘으면 한도를 곱셈 감소")
+    void release_SlowWindow_DecreasesLimit() {
+        // given
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(millis(300));
+
+        // when
+        clock.addAndGet(millis(1000));
+        limiter.release(millis(300));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("목표 이내이면서 한도까지 찼던 구간이면 한도를 1 증가 (상한까지)")
+    void release_FastSaturatedWindow_IncreasesLimit() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 3; i++) {
+            limiter.release(millis(10));
+        }
+
+        // when
+        clock.addAndGet(millis(1000));
+        limiter.release(millis(10));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+}
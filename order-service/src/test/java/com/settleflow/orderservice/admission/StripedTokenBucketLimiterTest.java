@@ -0,0 +1,72 @@
+package com.settleflow.orderservice.admission;
+
+import com.settleflow.orderservice.config.AdmissionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StripedTokenBucketLimiter 단위 테스트")
+class StripedTokenBucketLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private StripedTokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setUserRatePerSecond(2);
+        properties.setUserBurst(3);
+        properties.setUserSlots(16);
+        limiter = new StripedTokenBucketLimiter(properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용 후 거절, 시간이 지나면 처리율만큼 다시 허용")
+    void tryAcquire_BurstThenRefill() {
+        // when & then
+        assertThat(limiter.tryAcquire(1L)).isTrue();
+        assertThat(limiter.tryAcquire(1L)).isTrue();
+        assertThat(limiter.tryAcquire(1L)).isTrue();
+        assertThat(limiter.tryAcquire(1L)).isFalse();
+
+        clock.addAndGet(500_000_000L); // 0.5초 → 토큰 1개
+        assertThat(limiter.tryAcquire(1L)).isTrue();
+        assertThat(limiter.tryAcquire(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자마다 버킷이 분리되어 한 사용자의 초과가 다른 사용자에게 영향 없음")
+    void tryAcquire_IsolatedPerUser() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(1L);
+        }
+
+        // when & then
+        assertThat(limiter.tryAcquire(1L)).isFalse();
+        assertThat(limiter.tryAcquire(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("슬롯이 부족하면 유휴(가득 찬) 버킷을 재사용하고, 모두 활성이면 통과시키며 overflow로 집계")
+    void tryAcquire_ReusesIdleSlotsAndCountsOverflow() {
+        // given - 슬롯 16개를 모두 활성 사용자로 채움
+        for (long userId = 1; userId <= 64; userId++) {
+            limiter.tryAcquire(userId);
+        }
+        long overflowBefore = limiter.overflowCount();
+
+        // when - 버킷이 가득 찰 만큼 시간이 흐른 뒤 새 사용자
+        clock.addAndGet(2_000_000_000L);
+        boolean allowed = limiter.tryAcquire(1_000L);
+
+        // then
+        assertThat(overflowBefore).isPositive();
+        assertThat(allowed).isTrue();
+        assertThat(limiter.overflowCount()).isEqualTo(overflowBefore);
+    }
+}
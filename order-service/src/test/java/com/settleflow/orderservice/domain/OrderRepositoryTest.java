@@ -8,6 +8,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -98,4 +99,31 @@ class OrderRepositoryTest {
         long count = orderRepository.count();
         assertThat(count).isEqualTo(2);
     }
+
+    @Test
+    @DisplayName("PENDING_EVENT 주문만 일괄 상태 변경 (취소된 주문은 유지)")
+    void updateStatusByIdIn() {
+        // given
+        Order pending = orderRepository.save(Order.builder()
+                .userId(1L)
+                .totalAmount(new BigDecimal("10000.00"))
+                .status("PENDING_EVENT")
+                .createdAt(LocalDateTime.now())
+                .build());
+        Order cancelled = orderRepository.save(Order.builder()
+                .userId(2L)
+                .totalAmount(new BigDecimal("20000.00"))
+                .status("CANCELLED")
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // when
+        int updated = orderRepository.updateStatusByIdIn(
+                List.of(pending.getId(), cancelled.getId()), "PENDING_EVENT", "ORDERED");
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(orderRepository.findById(pending.getId()).get().getStatus()).isEqualTo("ORDERED");
+        assertThat(orderRepository.findById(cancelled.getId()).get().getStatus()).isEqualTo("CANCELLED");
+    }
 }
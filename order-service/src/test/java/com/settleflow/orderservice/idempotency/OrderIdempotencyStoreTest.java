@@ -0,0 +1,170 @@
+package com.settleflow.orderservice.idempotency;
+
+import com.settleflow.common.logging.PipelineLogSummary;
+import com.settleflow.orderservice.config.IdempotencyProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIdempotencyStore 단위 테스트")
+class OrderIdempotencyStoreTest {
+
+    private static final String KEY = "order-idem:7:retry-1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private OrderIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OrderIdempotencyStore(redisTemplate, new IdempotencyProperties(), new PipelineLogSummary(Duration.ZERO));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStored(String value) {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), any(), any())).thenReturn(value);
+    }
+
+    /**
+     * reserve()가 기록한 처리 중 값 ("P|요청토큰|금액")
+     */
+    @SuppressWarnings("unchecked")
+    private String reservedValue() {
+        ArgumentCaptor<String> inProgress = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), inProgress.capture(), eq("120000"));
+        return inProgress.getValue();
+    }
+
+    @Test
+    @DisplayName("첫 요청 - 요청토큰으로 처리 중 예약, 주문 생성 후 그 예약일 때만 주문 ID를 압축 형식으로 TTL과 함께 저장")
+    @SuppressWarnings("unchecked")
+    void reserve_FirstRequest_CompletesWithOrderId() {
+        // given
+        givenStored(null);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), any(), any(), any())).thenReturn(1L);
+
+        // when
+        OrderIdempotencyStore.Reservation reservation = store.reserve(7L, "retry-1", new BigDecimal("100.00"));
+        reservation.complete(42L);
+
+        // then
+        String inProgress = reservedValue();
+        assertThat(reservation.isReplay()).isFalse();
+        assertThat(inProgress).startsWith("P|").endsWith("|100").hasSizeGreaterThan("P||100".length());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)),
+                eq(inProgress), eq("D|42|100"), eq("86400000"));
+    }
+
+    @Test
+    @DisplayName("요청마다 다른 요청토큰으로 예약 - 만료 후 다른 요청이 가져간 키는 늦게 끝난 요청이 덮어쓰지 못함")
+    @SuppressWarnings("unchecked")
+    void reserve_EachRequestOwnsItsReservation() {
+        // given
+        ArgumentCaptor<String> inProgress = ArgumentCaptor.forClass(String.class);
+        givenStored(null);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), any(), any(), any())).thenReturn(0L);
+
+        // when
+        OrderIdempotencyStore.Reservation first = store.reserve(7L, "retry-1", new BigDecimal("100"));
+        OrderIdempotencyStore.Reservation second = store.reserve(7L, "retry-1", new BigDecimal("100"));
+        first.complete(42L);
+
+        // then
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of(KEY)), inProgress.capture(), any());
+        assertThat(inProgress.getAllValues()).doesNotHaveDuplicates();
+        assertThat(second.isReplay()).isFalse();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)),
+                eq(inProgress.getAllValues().get(0)), eq("D|42|100"), any());
+    }
+
+    @Test
+    @DisplayName("완료된 키로 재시도 - 저장된 주문 ID로 재응답 (금액 표기 차이는 같은 요청으로 취급)")
+    void reserve_CompletedKey_Replays() {
+        // given
+        givenStored("D|42|100");
+
+        // when
+        OrderIdempotencyStore.Reservation reservation = store.reserve(7L, "retry-1", new BigDecimal("100.0"));
+        reservation.complete(99L);
+
+        // then
+        assertThat(reservation.isReplay()).isTrue();
+        assertThat(reservation.replayOrderId()).isEqualTo(42L);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("처리 중인 키는 409, 같은 키로 금액이 다르면 422, 형식이 잘못된 키는 400")
+    void reserve_Conflicts() {
+        // given
+        givenStored("P|3f2a9c1e-other-request|100");
+
+        // when & then
+        assertThatThrownBy(() -> store.reserve(7L, "retry-1", new BigDecimal("100")))
+                .isInstanceOf(IdempotencyKeyException.class)
+                .extracting("status").isEqualTo(HttpStatus.CONFLICT);
+        assertThatThrownBy(() -> store.reserve(7L, "retry-1", new BigDecimal("200")))
+                .isInstanceOf(IdempotencyKeyException.class)
+                .extracting("status").isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThatThrownBy(() -> store.reserve(7L, "bad key!", new BigDecimal("100")))
+                .isInstanceOf(IdempotencyKeyException.class)
+                .extracting("status").isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 시 자기 예약만 해제 → 같은 키로 바로 재시도 가능")
+    @SuppressWarnings("unchecked")
+    void reserve_Release_DeletesOwnReservation() {
+        // given
+        givenStored(null);
+
+        // when
+        store.reserve(7L, "retry-1", new BigDecimal("100")).release();
+
+        // then
+        String inProgress = reservedValue();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq(inProgress));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 Redis 장애면 키 없이 처리")
+    @SuppressWarnings("unchecked")
+    void reserve_NoKeyOrRedisDown_PassesThrough() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        OrderIdempotencyStore.Reservation withoutKey = store.reserve(7L, null, BigDecimal.ONE);
+        OrderIdempotencyStore.Reservation redisDown = store.reserve(7L, "retry-1", BigDecimal.ONE);
+        redisDown.complete(1L);
+
+        // then
+        assertThat(withoutKey.isReplay()).isFalse();
+        assertThat(redisDown.isReplay()).isFalse();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+}
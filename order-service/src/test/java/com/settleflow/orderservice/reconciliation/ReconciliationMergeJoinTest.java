@@ -0,0 +1,115 @@
+package com.settleflow.orderservice.reconciliation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReconciliationMergeJoin 단위 테스트")
+class ReconciliationMergeJoinTest {
+
+    private final List<Long> missing = new ArrayList<>();
+    private final List<Long> cancelled = new ArrayList<>();
+    private final List<Long> orphans = new ArrayList<>();
+
+    private final ReconciliationMergeJoin.Listener listener = new ReconciliationMergeJoin.Listener() {
+        @Override
+        public void onMissingSettlement(OrderRow order) {
+            missing.add(order.getOrderId());
+        }
+
+        @Override
+        public void onCancelledSettlement(OrderRow order, SettlementRow settlement) {
+            cancelled.add(order.getOrderId());
+        }
+
+        @Override
+        public void onOrphanSettlement(SettlementRow settlement) {
+            orphans.add(settlement.getOrderId());
+        }
+    };
+
+    private OrderRow order(long orderId) {
+        return new OrderRow(orderId, 1L, new BigDecimal("10000"), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("정산 누락/취소 불일치/고아 정산 분류")
+    void run_ClassifiesMismatches() {
+        // given
+        List<OrderRow> orders = List.of(order(1), order(2), order(3), order(5), order(7));
+        List<SettlementRow> settlements = List.of(
+                new SettlementRow(1, "WAITING"),
+                new SettlementRow(3, "CANCELLED"),
+                new SettlementRow(4, "WAITING"),   // 주문이 ORDERED가 아님
+                new SettlementRow(5, "COMPLETE"),
+                new SettlementRow(6, "CANCELLED"), // 취소된 주문의 정상 정산
+                new SettlementRow(8, "WAITING")
+        );
+
+        // when
+        ReconciliationReport report = ReconciliationMergeJoin.run(orders.iterator(), settlements.iterator(), listener);
+
+        // then
+        assertThat(missing).containsExactly(2L, 7L);
+        assertThat(cancelled).containsExactly(3L);
+        assertThat(orphans).containsExactly(4L, 8L);
+        assertThat(report.getOrders()).isEqualTo(5);
+        assertThat(report.getSettlements()).isEqualTo(6);
+        assertThat(report.getMatched()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정산이 하나도 없으면 모든 주문이 누락")
+    void run_NoSettlements_AllMissing() {
+        // given
+        List<OrderRow> orders = List.of(order(10), order(20));
+
+        // when
+        ReconciliationReport report = ReconciliationMergeJoin.run(orders.iterator(), List.<SettlementRow>of().iterator(), listener);
+
+        // then
+        assertThat(missing).containsExactly(10L, 20L);
+        assertThat(report.getMissingSettlements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대량 스트림도 행 단위로 처리 (전체 적재 없이 Iterator로 진행)")
+    void run_LargeStreams() {
+        // given - 짝수 주문만 정산 존재
+        int size = 1_000_000;
+
+        // when
+        ReconciliationReport report = ReconciliationMergeJoin.run(
+                LongStream.rangeClosed(1, size).mapToObj(this::order).iterator(),
+                LongStream.rangeClosed(1, size).filter(id -> id % 2 == 0)
+                        .mapToObj(id -> new SettlementRow(id, "WAITING")).iterator(),
+                listener);
+
+        // then
+        assertThat(report.getMatched()).isEqualTo(size / 2);
+        assertThat(report.getMissingSettlements()).isEqualTo(size / 2);
+    }
+
+    @Test
+    @DisplayName("orders / orders_archive 스트림을 orderId 순으로 병합")
+    void mergeSorted() {
+        // given
+        List<OrderRow> hot = List.of(order(2), order(5), order(6));
+        List<OrderRow> archived = List.of(order(1), order(3), order(4), order(9));
+
+        // when
+        List<Long> merged = new ArrayList<>();
+        ReconciliationMergeJoin.mergeSorted(hot.iterator(), archived.iterator())
+                .forEachRemaining(row -> merged.add(row.getOrderId()));
+
+        // then
+        assertThat(merged).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 9L);
+    }
+}
@@ -0,0 +1,137 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.orderservice.domain.FeeRule;
+import com.settleflow.orderservice.domain.FeeRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeeRateResolver 단위 테스트")
+class FeeRateResolverTest {
+
+    @Mock
+    private FeeRuleRepository feeRuleRepository;
+
+    @Mock
+    private SettlementProperties settlementProperties;
+
+    @InjectMocks
+    private FeeRateResolver feeRateResolver;
+
+    private LocalDateTime version;
+
+    @BeforeEach
+    void setUp() {
+        version = LocalDateTime.of(2024, 1, 1, 0, 0);
+        lenient().when(settlementProperties.getFeeRate()).thenReturn(new BigDecimal("0.03"));
+    }
+
+    private FeeRule rule(Long merchantId, String minAmount, String feeRate) {
+        return FeeRule.builder()
+                .merchantId(merchantId)
+                .minAmount(new BigDecimal(minAmount))
+                .feeRate(new BigDecimal(feeRate))
+                .updatedAt(version)
+                .build();
+    }
+
+    @Test
+    @DisplayName("판매자 구간 규칙 → 공통 규칙 → 전역 수수료율 순으로 적용")
+    void resolve_MerchantTierThenDefaultThenFallback() {
+        // given
+        when(feeRuleRepository.findChecksum()).thenReturn(1L);
+        when(feeRuleRepository.findAll()).thenReturn(List.of(
+                rule(1L, "0", "0.025"),
+                rule(1L, "100000", "0.02"),
+                rule(1L, "1000000", "0.015"),
+                rule(null, "50000", "0.028")
+        ));
+
+        // when
+        feeRateResolver.init();
+
+        // then
+        assertThat(feeRateResolver.resolve(1L, new BigDecimal("5000"))).isEqualByComparingTo("0.025");
+        assertThat(feeRateResolver.resolve(1L, new BigDecimal("100000"))).isEqualByComparingTo("0.02");
+        assertThat(feeRateResolver.resolve(1L, new BigDecimal("5000000"))).isEqualByComparingTo("0.015");
+        assertThat(feeRateResolver.resolve(2L, new BigDecimal("60000"))).isEqualByComparingTo("0.028");
+        assertThat(feeRateResolver.resolve(2L, new BigDecimal("1000"))).isEqualByComparingTo("0.03");
+    }
+
+    @Test
+    @DisplayName("초기 로딩 실패 시 전역 수수료율로 동작")
+    void init_LoadFailure_UsesFallbackRate() {
+        // given
+        when(feeRuleRepository.findChecksum()).thenThrow(new RuntimeException("DB 연결 실패"));
+
+        // when
+        feeRateResolver.init();
+
+        // then
+        assertThat(feeRateResolver.resolve(1L, new BigDecimal("10000"))).isEqualByComparingTo("0.03");
+    }
+
+    @Test
+    @DisplayName("초기 로딩에 실패했으면 다음 갱신에서 다시 로딩")
+    void refreshIfChanged_AfterLoadFailure_Reloads() {
+        // given
+        when(feeRuleRepository.findChecksum()).thenThrow(new RuntimeException("DB 연결 실패")).thenReturn(0L);
+        when(feeRuleRepository.findAll()).thenReturn(List.of());
+        feeRateResolver.init();
+
+        // when
+        feeRateResolver.refreshIfChanged();
+
+        // then
+        verify(feeRuleRepository, times(1)).findAll();
+        assertThat(feeRateResolver.resolve(1L, new BigDecimal("10000"))).isEqualByComparingTo("0.03");
+    }
+
+    @Test
+    @DisplayName("규칙 변경이 없으면 스냅샷을 다시 만들지 않음")
+    void refreshIfChanged_NoChange_SkipsReload() {
+        // given
+        when(feeRuleRepository.findChecksum()).thenReturn(1L);
+        when(feeRuleRepository.findAll()).thenReturn(List.of(rule(1L, "0", "0.02")));
+        feeRateResolver.init();
+
+        // when
+        feeRateResolver.refreshIfChanged();
+
+        // then
+        verify(feeRuleRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("규칙 내용이 바뀌면(수정 시각/건수가 같아도) 새 스냅샷으로 교체")
+    void refreshIfChanged_Changed_SwapsSnapshot() {
+        // given - 같은 updatedAt으로 요율만 바뀐 경우도 체크섬으로 감지
+        when(feeRuleRepository.findChecksum()).thenReturn(1L, 2L, 2L);
+        when(feeRuleRepository.findAll()).thenReturn(
+                List.of(rule(1L, "0", "0.02")),
+                List.of(rule(1L, "0", "0.01"))
+        );
+        feeRateResolver.init();
+        assertThat(feeRateResolver.resolve(1L, new BigDecimal("10000"))).isEqualByComparingTo("0.02");
+
+        // when
+        feeRateResolver.refreshIfChanged();
+
+        // then
+        assertThat(feeRateResolver.resolve(1L, new BigDecimal("10000"))).isEqualByComparingTo("0.01");
+        verify(feeRuleRepository, times(2)).findAll();
+    }
+}
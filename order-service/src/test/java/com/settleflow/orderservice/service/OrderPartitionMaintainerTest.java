@@ -0,0 +1,60 @@
+package com.settleflow.orderservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderPartitionMaintainer 단위 테스트")
+class OrderPartitionMaintainerTest {
+
+    @Test
+    @DisplayName("없는 미래 월 파티션만 pmax 분할 DDL로 생성 (연도 경계 포함)")
+    void missingPartitionDdl() {
+        // given
+        Set<String> existing = Set.of("p202411", "p202412", "pmax");
+
+        // when
+        Optional<String> ddl = OrderPartitionMaintainer.missingPartitionDdl(existing, YearMonth.of(2024, 11), 2);
+
+        // then
+        assertThat(ddl).contains(
+                "ALTER TABLE orders REORGANIZE PARTITION pmax INTO ("
+                        + "PARTITION p202501 VALUES LESS THAN ('2025-02-01'), "
+                        + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("모든 파티션이 있으면 DDL 없음")
+    void missingPartitionDdl_AllExist() {
+        // when
+        Optional<String> ddl = OrderPartitionMaintainer.missingPartitionDdl(
+                Set.of("p202401", "p202402", "pmax"), YearMonth.of(2024, 1), 1);
+
+        // then
+        assertThat(ddl).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 월 파티션 이후 밀린 달까지 빠짐없이 한 문장으로 생성")
+    void missingPartitionDdl_BackfillsGapMonths() {
+        // given - p202406 이후 사전 생성이 멈춘 상태
+        Set<String> existing = Set.of("p202405", "p202406", "pmax");
+
+        // when
+        Optional<String> ddl = OrderPartitionMaintainer.missingPartitionDdl(existing, YearMonth.of(2024, 9), 1);
+
+        // then
+        assertThat(ddl).contains(
+                "ALTER TABLE orders REORGANIZE PARTITION pmax INTO ("
+                        + "PARTITION p202407 VALUES LESS THAN ('2024-08-01'), "
+                        + "PARTITION p202408 VALUES LESS THAN ('2024-09-01'), "
+                        + "PARTITION p202409 VALUES LESS THAN ('2024-10-01'), "
+                        + "PARTITION p202410 VALUES LESS THAN ('2024-11-01'), "
+                        + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+}
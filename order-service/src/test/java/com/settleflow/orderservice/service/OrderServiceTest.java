@@ -1,21 +1,28 @@
 package com.settleflow.orderservice.service;
 
+import com.settleflow.common.event.OrderCancelledEvent;
 import com.settleflow.common.event.OrderCreatedEvent;
-import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.common.exception.EntityNotFoundException;
+import com.settleflow.common.logging.PipelineLogSummary;
 import com.settleflow.orderservice.domain.Order;
 import com.settleflow.orderservice.domain.OrderRepository;
 import com.settleflow.orderservice.kafka.OrderProducer;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
@@ -31,7 +38,16 @@ class OrderServiceTest {
     private OrderProducer orderProducer;
 
     @Mock
-    private SettlementProperties settlementProperties;
+    private FeeRateResolver feeRateResolver;
+
+    @Mock
+    private OrderStatusCoalescer orderStatusCoalescer;
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @Spy
+    private PipelineLogSummary logSummary = new PipelineLogSummary(Duration.ZERO);
 
     @InjectMocks
     private OrderService orderService;
@@ -53,8 +69,8 @@ class OrderServiceTest {
                 .createdAt(java.time.LocalDateTime.now())
                 .build();
 
-        // SettlementProperties 모킹 (lenient로 설정하여 사용하지 않는 테스트에서도 허용)
-        lenient().when(settlementProperties.getFeeRate()).thenReturn(new BigDecimal("0.03"));
+        // FeeRateResolver 모킹 (lenient로 설정하여 사용하지 않는 테스트에서도 허용)
+        lenient().when(feeRateResolver.resolve(any(), any())).thenReturn(new BigDecimal("0.03"));
     }
 
     @Test
@@ -84,8 +100,8 @@ class OrderServiceTest {
                 event.getFeeRate() == 0.03
         ));
 
-        // Kafka 전송 성공 시 completeEventPublish()가 호출되어 상태가 ORDERED로 변경되어야 함
-        // (mockOrder의 completeEventPublish()가 호출됨)
+        // Kafka 전송 성공 시 ORDERED 일괄 반영 대상으로 등록되어야 함
+        verify(orderStatusCoalescer, times(1)).markOrdered(100L);
     }
 
     @Test
@@ -138,12 +154,13 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).save(any(Order.class));
         verify(orderProducer, times(1)).sendOrderCreateEvent(any(OrderCreatedEvent.class));
 
-        // 상태는 PENDING_EVENT로 유지되어야 함 (completeEventPublish 호출 안됨)
+        // 상태는 PENDING_EVENT로 유지되어야 함 (ORDERED 반영 대상으로 등록 안됨)
+        verify(orderStatusCoalescer, never()).markOrdered(any());
     }
 
     @Test
     @DisplayName("PENDING_EVENT 주문 재시도 - 성공")
-    void retryPendingEventOrders_Success() {
+    void republishClaimed_Success() {
         // given
         Order pendingOrder = Order.builder()
                 .id(200L)
@@ -153,28 +170,156 @@ class OrderServiceTest {
                 .createdAt(java.time.LocalDateTime.now())
                 .build();
 
-        when(orderRepository.findByStatus("PENDING_EVENT"))
-                .thenReturn(java.util.List.of(pendingOrder));
-
         // when
-        orderService.retryPendingEventOrders();
+        int published = orderService.republishClaimed(java.util.List.of(pendingOrder));
 
         // then
+        assertThat(published).isEqualTo(1);
         verify(orderProducer, times(1)).sendOrderCreateEvent(any(OrderCreatedEvent.class));
-        // completeEventPublish()가 호출되어 상태가 ORDERED로 변경되어야 함
+        // ORDERED 일괄 반영 대상으로 등록되어야 함
+        verify(orderStatusCoalescer, times(1)).markOrdered(200L);
     }
 
     @Test
-    @DisplayName("PENDING_EVENT 주문 재시도 - 대상 없음")
-    void retryPendingEventOrders_NoOrders() {
+    @DisplayName("PENDING_EVENT 주문 재시도 - 이미 발행되어 상태 반영 대기 중인 주문은 건너뜀")
+    void republishClaimed_SkipsCoalescerPending() {
+        // given
+        Order pendingOrder = Order.builder()
+                .id(201L)
+                .userId(2L)
+                .totalAmount(new BigDecimal("20000.00"))
+                .status("PENDING_EVENT")
+                .createdAt(java.time.LocalDateTime.now())
+                .build();
+
+        when(orderStatusCoalescer.isPending(201L)).thenReturn(true);
+
+        // when
+        int published = orderService.republishClaimed(java.util.List.of(pendingOrder));
+
+        // then
+        assertThat(published).isZero();
+        verify(orderProducer, never()).sendOrderCreateEvent(any(OrderCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("PENDING_EVENT 주문 재시도 - 일부 발행 실패 시 나머지는 계속 처리")
+    void republishClaimed_PartialFailure() {
         // given
-        when(orderRepository.findByStatus("PENDING_EVENT"))
-                .thenReturn(java.util.List.of());
+        Order failing = Order.builder()
+                .id(202L)
+                .userId(2L)
+                .totalAmount(new BigDecimal("20000.00"))
+                .status("PENDING_EVENT")
+                .createdAt(java.time.LocalDateTime.now())
+                .build();
+        Order succeeding = Order.builder()
+                .id(203L)
+                .userId(3L)
+                .totalAmount(new BigDecimal("30000.00"))
+                .status("PENDING_EVENT")
+                .createdAt(java.time.LocalDateTime.now())
+                .build();
+
+        doThrow(new RuntimeException("Kafka 전송 실패"))
+                .when(orderProducer).sendOrderCreateEvent(argThat(event -> event.getOrderId().equals(202L)));
 
         // when
-        orderService.retryPendingEventOrders();
+        int published = orderService.republishClaimed(java.util.List.of(failing, succeeding));
 
         // then
+        assertThat(published).isEqualTo(1);
+        verify(orderStatusCoalescer, never()).markOrdered(202L);
+        verify(orderStatusCoalescer, times(1)).markOrdered(203L);
+    }
+
+    @Test
+    @DisplayName("PENDING_EVENT 주문 재시도 - 대상 없음")
+    void republishClaimed_NoOrders() {
+        // when
+        int published = orderService.republishClaimed(java.util.List.of());
+
+        // then
+        assertThat(published).isZero();
         verify(orderProducer, never()).sendOrderCreateEvent(any(OrderCreatedEvent.class));
     }
+
+    @Test
+    @DisplayName("주문 취소 - ORDERED 주문은 보상 이벤트 발행")
+    void cancelOrder_Ordered_PublishesCancelEvent() {
+        // given
+        when(orderRepository.findById(100L)).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.cancelIfNotCancelled(100L, "CANCELLED")).thenReturn(1);
+
+        // when
+        orderService.cancelOrder(100L);
+
+        // then
+        verify(orderProducer, times(1)).sendOrderCancelEvent(argThat(event ->
+                event.getOrderId().equals(100L) &&
+                event.getUserId().equals(testUserId)
+        ));
+    }
+
+    @Test
+    @DisplayName("주문 취소 - PENDING_EVENT 주문도 생성 이벤트가 나갔을 수 있으므로 보상 이벤트 발행")
+    void cancelOrder_PendingEvent_PublishesCancelEvent() {
+        // given
+        Order pendingOrder = Order.builder()
+                .id(300L)
+                .userId(testUserId)
+                .totalAmount(testAmount)
+                .status("PENDING_EVENT")
+                .createdAt(java.time.LocalDateTime.now())
+                .build();
+        when(orderRepository.findById(300L)).thenReturn(Optional.of(pendingOrder));
+        when(orderRepository.cancelIfNotCancelled(300L, "CANCELLED")).thenReturn(1);
+
+        // when
+        orderService.cancelOrder(300L);
+
+        // then
+        verify(orderStatusCoalescer, times(1)).discard(300L);
+        verify(orderProducer, times(1)).sendOrderCancelEvent(any(OrderCancelledEvent.class));
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 동시에 다른 요청이 먼저 취소했으면 발행하지 않음")
+    void cancelOrder_ConcurrentlyCancelled_NoEvent() {
+        // given
+        when(orderRepository.findById(100L)).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.cancelIfNotCancelled(100L, "CANCELLED")).thenReturn(0);
+
+        // when
+        orderService.cancelOrder(100L);
+
+        // then
+        verify(orderProducer, never()).sendOrderCancelEvent(any(OrderCancelledEvent.class));
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 이미 취소된 주문은 재발행하지 않음")
+    void cancelOrder_AlreadyCancelled() {
+        // given
+        mockOrder.cancel();
+        when(orderRepository.findById(100L)).thenReturn(Optional.of(mockOrder));
+
+        // when
+        orderService.cancelOrder(100L);
+
+        // then
+        verify(orderRepository, never()).cancelIfNotCancelled(any(), any());
+        verify(orderProducer, never()).sendOrderCancelEvent(any(OrderCancelledEvent.class));
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 존재하지 않는 주문")
+    void cancelOrder_NotFound() {
+        // given
+        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.cancelOrder(999L))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
 }
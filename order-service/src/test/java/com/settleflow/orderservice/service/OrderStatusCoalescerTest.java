@@ -0,0 +1,83 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.orderservice.domain.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatusCoalescer 단위 테스트")
+class OrderStatusCoalescerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private SettlementProperties settlementProperties;
+
+    @InjectMocks
+    private OrderStatusCoalescer orderStatusCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(settlementProperties.getStatusFlushBatchSize()).thenReturn(2);
+    }
+
+    @Test
+    @DisplayName("모인 주문 ID를 batch 단위 IN UPDATE로 반영")
+    void flush_UpdatesInBatches() {
+        // given
+        orderStatusCoalescer.markOrdered(1L);
+        orderStatusCoalescer.markOrdered(2L);
+        orderStatusCoalescer.markOrdered(3L);
+        when(orderRepository.updateStatusByIdIn(anyCollection(), eq("PENDING_EVENT"), eq("ORDERED")))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        // when
+        orderStatusCoalescer.flush();
+
+        // then
+        verify(orderRepository, times(2)).updateStatusByIdIn(anyCollection(), eq("PENDING_EVENT"), eq("ORDERED"));
+        verify(orderRepository).updateStatusByIdIn(argThat((Collection<Long> ids) -> ids.size() == 2), any(), any());
+        assertThat(orderStatusCoalescer.isPending(1L)).isFalse();
+        assertThat(orderStatusCoalescer.isPending(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("UPDATE 실패 시 다음 주기에 재시도하도록 대기 목록 유지")
+    void flush_Failure_KeepsPending() {
+        // given
+        orderStatusCoalescer.markOrdered(1L);
+        when(orderRepository.updateStatusByIdIn(anyCollection(), any(), any()))
+                .thenThrow(new RuntimeException("DB 연결 실패"));
+
+        // when
+        orderStatusCoalescer.flush();
+
+        // then
+        assertThat(orderStatusCoalescer.isPending(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 중인 주문이 없으면 UPDATE 하지 않음")
+    void flush_Empty_NoUpdate() {
+        // when
+        orderStatusCoalescer.flush();
+
+        // then
+        verify(orderRepository, never()).updateStatusByIdIn(anyCollection(), any(), any());
+    }
+}
@@ -0,0 +1,110 @@
+package com.settleflow.orderservice.service;
+
+import com.settleflow.orderservice.config.SettlementProperties;
+import com.settleflow.orderservice.domain.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingEventRelay 단위 테스트")
+class PendingEventRelayTest {
+
+    @Mock
+    private PendingEventClaimService claimService;
+
+    @Mock
+    private OrderService orderService;
+
+    private PendingEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        SettlementProperties properties = new SettlementProperties();
+        properties.setRetryClaimers(2);
+        properties.setRetryClaimBatchSize(2);
+        properties.setRetryMaxBatchesPerRun(10);
+        relay = new PendingEventRelay(claimService, orderService, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    private static Order order(long id) {
+        return Order.builder().id(id).status("PENDING_EVENT").build();
+    }
+
+    @Test
+    @DisplayName("작업자들이 claim한 청크를 나눠 발행하고 대상이 없으면 종료")
+    void drain_ClaimsUntilEmpty() {
+        // given - 작업자 2개가 같은 큐에서 청크를 가져감 (SKIP LOCKED로 겹치지 않는 상황을 흉내)
+        Deque<List<Order>> chunks = new ArrayDeque<>(List.of(
+                List.of(order(1L), order(2L)),
+                List.of(order(3L), order(4L)),
+                List.of(order(5L))
+        ));
+        when(claimService.claim(anyString())).thenAnswer(invocation -> {
+            synchronized (chunks) {
+                return chunks.isEmpty() ? List.of() : chunks.poll();
+            }
+        });
+        when(orderService.republishClaimed(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        boolean started = relay.drain();
+
+        // then
+        assertThat(started).isTrue();
+        verify(orderService, timeout(2000).times(3)).republishClaimed(anyList());
+        await(() -> !relay.isRunning());
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 실행이 끝나지 않았으면 이번 주기는 건너뜀")
+    void drain_SkipsWhileRunning() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(claimService.claim(anyString())).thenAnswer(invocation -> {
+            release.await(2, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        // when
+        boolean first = relay.drain();
+        boolean second = relay.drain();
+        release.countDown();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        await(() -> !relay.isRunning());
+        verify(claimService, times(2)).claim(anyString()); // 첫 실행의 작업자 2개만
+        verify(orderService, never()).republishClaimed(anyList());
+    }
+
+    private static void await(java.util.function.BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -1,11 +1,20 @@
 package com.settleflow.settlementservice;
 
+import com.settleflow.common.jfr.FlightRecorderConfiguration;
+import com.settleflow.common.logging.PipelineLoggingConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableCaching //[추가] 캐싱 기능 활성화
+@EnableScheduling // 흐름 제어(Backpressure) 주기 판정
 @SpringBootApplication
+@Import({
+        FlightRecorderConfiguration.class, // jfr.enabled=true 일 때만 상시 녹화
+        PipelineLoggingConfiguration.class // 건별 로그 샘플링 + 주기 요약
+})
 public class SettlementServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,64 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * SettlementConsumer ↔ MongoDB 적응형 흐름 제어 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.backpressure")
+public class BackpressureProperties {
+
+    /**
+     * 흐름 제어 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 쓰기 지연 임계치 (밀리초, EWMA 기준) - 초과 시 리스너 일시 정지
+     */
+    private long latencyThresholdMs = 200L;
+
+    /**
+     * 쓰기 실패율 임계치 (0.0 ~ 1.0, EWMA 기준)
+     */
+    private double errorRateThreshold = 0.2;
+
+    /**
+     * EWMA 가중치 (클수록 최근 샘플에 민감)
+     */
+    private double ewmaAlpha = 0.2;
+
+    /**
+     * 판정에 필요한 최소 샘플 수 (재개 직후 과거 수치로 즉시 재정지되는 것 방지)
+     */
+    private int minSamples = 20;
+
+    /**
+     * 최초 일시 정지 시간 (밀리초) - 연속 정지 시 2배씩 증가
+     */
+    private long initialPauseMs = 1000L;
+
+    /**
+     * 최대 일시 정지 시간 (밀리초)
+     */
+    private long maxPauseMs = 30000L;
+
+    /**
+     * Bulk 쓰기 최대/최소 청크 크기 (AIMD: 과부하 시 절반, 정상 시 step만큼 증가)
+     * - 취소 배치는 이 크기로 Bulk를 나눠 쓰고, 생성 리스너는 과부하 중 max.poll.records를 이 크기로 낮춤
+     */
+    private int maxBatchSize = 500;
+    private int minBatchSize = 10;
+    private int batchSizeStep = 50;
+
+    /**
+     * 일시적 MongoDB 오류 재시도 횟수 (지수 백오프, 초과 시 레코드/배치를 "<토픽>.DLT"로 이동)
+     */
+    private int maxRetries = 6;
+}
@@ -0,0 +1,58 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정산 상태 changelog 토픽 관련 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.changelog")
+public class ChangelogProperties {
+
+    /**
+     * Compacted changelog 토픽 이름 (Key = orderId, Value = Settlement 최신 상태)
+     */
+    private String topic = "settlement-changelog-topic";
+
+    /**
+     * 토픽 파티션 수 (복원 병렬도와 동일)
+     */
+    private int partitions = 3;
+
+    /**
+     * 정산 상태 변경 시 changelog 발행 여부 (Kafka를 소비하는 쓰기 노드)
+     */
+    private boolean publishEnabled = true;
+
+    /**
+     * 기동 시 changelog로부터 로컬 상태 저장소 복원 여부 (읽기 전용 / 대기 노드)
+     */
+    private boolean restoreEnabled = false;
+
+    /**
+     * 복원 지연 경고 기준 시간 (밀리초, 기본값: 300000ms = 5분)
+     * 복원은 백그라운드로 진행되어 기동을 막지 않으며, 초과 시 경고 로그만 남기고 계속 진행 (그동안 조회는 MongoDB로 폴백)
+     */
+    private long restoreTimeoutMs = 300000L;
+
+    /**
+     * 파티션별 poll 타임아웃 (밀리초)
+     */
+    private long pollTimeoutMs = 500L;
+
+    /**
+     * 파티션 follow 오류 시 재시도 대기 시간 (밀리초, 연속 실패마다 2배, 최대 followMaxBackoffMs)
+     */
+    private long followBackoffMs = 1000L;
+    private long followMaxBackoffMs = 30000L;
+
+    /**
+     * 파티션 follow 연속 실패 허용 횟수 - 초과 시 해당 파티션 follow를 멈추고 조회는 MongoDB로 폴백
+     */
+    private int followMaxRetries = 10;
+}
@@ -0,0 +1,42 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * settlement-group 리밸런스 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.consumer")
+public class ConsumerGroupProperties {
+
+    /**
+     * Cooperative Sticky 할당 사용 여부
+     * - true: 이동하는 파티션만 회수/재할당 (나머지 파티션은 리밸런스 중에도 계속 처리)
+     * - false: Kafka 기본(Eager) - 리밸런스마다 모든 파티션 처리 중단
+     */
+    private boolean cooperativeRebalance = true;
+
+    /**
+     * Eager 그룹에서 Cooperative로 전환하는 첫 번째 롤링 배포에서만 true
+     * - RangeAssignor를 함께 선언해 구/신 버전이 섞인 동안에도 같은 프로토콜로 할당받게 함
+     * - 전체 배포 후 false로 두 번째 롤링 배포를 하면 Cooperative 프로토콜로 전환됨
+     */
+    private boolean eagerCompatible = false;
+
+    /**
+     * 정적 멤버십 인스턴스 ID (비우면 동적 멤버십)
+     * - 재기동해도 같은 ID로 다시 참여하면 session.timeout.ms 안에서는 리밸런스 없이 같은 파티션을 받음
+     * - 인스턴스마다 고유해야 함 (StatefulSet 파드 이름 등), 리스너/동시성별 접미사는 자동으로 붙음
+     */
+    private String instanceId;
+
+    /**
+     * 종료 시 처리 중인 배치를 마치고 오프셋을 커밋할 때까지 기다리는 최대 시간 (밀리초)
+     */
+    private long shutdownTimeoutMs = 30000L;
+}
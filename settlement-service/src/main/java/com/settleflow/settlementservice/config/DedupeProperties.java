@@ -0,0 +1,42 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중복 주문 사전 판정(Bloom Filter) 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.dedupe")
+public class DedupeProperties {
+
+    /**
+     * Bloom Filter 사전 판정 사용 여부 (false면 항상 insert 후 중복 키로 판정)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 세대(generation)당 예상 삽입 수 - 초과하면 새 세대로 교체하고 직전 세대 하나만 유지
+     * (메모리 = 2세대 × 비트 수, 기본값 기준 약 18MB)
+     */
+    private long expectedInsertions = 5_000_000L;
+
+    /**
+     * 목표 오탐률 (중복일 수도 있다고 판단해 존재 여부를 조회하는 비율)
+     */
+    private double falsePositiveRate = 0.001;
+
+    /**
+     * 기동 시 MongoDB에서 최근 정산 주문 ID를 읽어 채울지 여부
+     */
+    private boolean warmUp = true;
+
+    /**
+     * 워밍업 커서 batch size
+     */
+    private int warmUpBatchSize = 10000;
+}
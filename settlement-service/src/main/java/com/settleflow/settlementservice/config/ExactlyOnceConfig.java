@@ -0,0 +1,84 @@
+package com.settleflow.settlementservice.config;
+
+import com.settleflow.settlementservice.kafka.SettlementOffsetStore;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import java.util.Map;
+
+/**
+ * Exactly-once 모드 설정
+ * - read_committed: order-service의 트랜잭션 Producer가 커밋한 이벤트만 읽음 (중단된 트랜잭션의 이벤트 제외)
+ * - 오프셋의 기준은 MongoDB(settlement_offsets) - 정산 문서와 같은 트랜잭션으로 커밋되므로
+ *   Kafka 오프셋 커밋은 참고용 (재할당 시 MongoDB 오프셋으로 seek)
+ * - 재시도를 소진한 배치는 DLT(order-create-topic.DLT)로 보낸 뒤에만 MongoDB 오프셋을 전진
+ *   (다음 배치의 $max 오프셋이 건너뛴 배치를 넘어가도 레코드는 DLT에 남음 - 원 토픽으로 재발행하면 멱등 재처리)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "settlement.exactly-once", name = "enabled", havingValue = "true")
+public class ExactlyOnceConfig {
+
+    public static final String EXACTLY_ONCE_BATCH_FACTORY = "exactlyOnceBatchListenerContainerFactory";
+
+    @Bean
+    public MongoTransactionManager mongoTransactionManager(MongoDatabaseFactory mongoDatabaseFactory) {
+        return new MongoTransactionManager(mongoDatabaseFactory);
+    }
+
+    @Bean(name = EXACTLY_ONCE_BATCH_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> exactlyOnceBatchListenerContainerFactory(
+            KafkaProperties kafkaProperties, ConsumerGroupProperties consumerGroupProperties,
+            BackpressureProperties backpressureProperties, DeadLetterPublishingRecoverer deadLetterRecoverer,
+            SettlementOffsetStore offsetStore) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        KafkaConsumerConfig.applyGroupMembership(props, factory, consumerGroupProperties, "exactly-once");
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(exactlyOnceErrorHandler(backpressureProperties, deadLetterRecoverer, offsetStore));
+        return factory;
+    }
+
+    /**
+     * 트랜잭션 배치 전용 에러 핸들러
+     * - 트랜잭션이 롤백되므로 오류 종류와 무관하게 배치 전체를 백오프 재시도 (쓰기 충돌 등 분류되지 않은 일시 오류 포함)
+     * - 소진 시 레코드마다 DLT 발행(전송 결과 확인) → 성공한 경우에만 MongoDB 오프셋 저장
+     *   DLT 발행이 실패하면 복구 실패로 같은 배치를 다시 처리하므로, DLT에 없는 레코드를 오프셋이 넘어가지 않음
+     */
+    private static DefaultErrorHandler exactlyOnceErrorHandler(BackpressureProperties backpressureProperties,
+                                                               DeadLetterPublishingRecoverer deadLetterRecoverer,
+                                                               SettlementOffsetStore offsetStore) {
+        ExponentialBackOffWithMaxRetries backOff =
+                new ExponentialBackOffWithMaxRetries(backpressureProperties.getMaxRetries());
+        backOff.setInitialInterval(500L);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(10000L);
+
+        return new DefaultErrorHandler((record, ex) -> {
+            deadLetterRecoverer.accept(record, ex);
+            offsetStore.saveAll(Map.of(new TopicPartition(record.topic(), record.partition()), record.offset()));
+            log.error("Exactly-once record sent to DLT after retries: partition={}, offset={}",
+                    record.partition(), record.offset(), ex);
+        }, backOff);
+    }
+}
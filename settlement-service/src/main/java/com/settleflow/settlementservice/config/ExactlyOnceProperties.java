@@ -0,0 +1,26 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exactly-once 정산 처리 설정값 (exactly-once 프로파일)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.exactly-once")
+public class ExactlyOnceProperties {
+
+    /**
+     * 주문 생성 이벤트를 배치 + MongoDB 트랜잭션(정산 + 오프셋)으로 처리 (MongoDB Replica Set 필요)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 파티션별 처리 오프셋을 저장하는 컬렉션
+     */
+    private String offsetsCollection = "settlement_offsets";
+}
@@ -0,0 +1,57 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재무팀 정산 데이터 파일 추출 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.export")
+public class ExportProperties {
+
+    /**
+     * 추출 실행 여부 (export 프로파일에서 true)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 추출 기간 (주문일 기준, yyyy-MM-dd, 양 끝 포함)
+     */
+    private String from;
+    private String to;
+
+    /**
+     * 출력 디렉터리 (하위에 기간별 디렉터리 생성)
+     */
+    private String directory = "./exports";
+
+    /**
+     * 일자 파티션 병렬 처리 스레드 수
+     */
+    private int threads = 4;
+
+    /**
+     * 파일 하나당 최대 행 수 (초과 시 다음 청크 파일로 분할)
+     */
+    private int chunkRows = 1_000_000;
+
+    /**
+     * 파일 쓰기 버퍼 크기 (스레드당 이 크기만큼만 메모리 사용)
+     */
+    private int bufferSize = 1024 * 1024;
+
+    /**
+     * gzip 압축 여부
+     */
+    private boolean gzip = true;
+
+    /**
+     * MongoDB 커서 batch size
+     */
+    private int batchSize = 5000;
+}
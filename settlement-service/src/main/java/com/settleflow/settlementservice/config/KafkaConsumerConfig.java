@@ -0,0 +1,144 @@
+package com.settleflow.settlementservice.config;
+
+import com.settleflow.common.event.OrderCancelledEvent;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.clients.consumer.RangeAssignor;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kafka Consumer 추가 설정
+ * - 주문 생성 이벤트는 값을 byte[]로 받아 Envelope 헤더로 먼저 거른 뒤 필요한 것만 역직렬화
+ * - 취소 이벤트는 배치 리스너로 받아 Mongo Bulk 연산 한 번에 반영
+ * - 공통 에러 핸들러: MongoDB 일시 장애 시 지수 백오프 재시도, 재시도 소진/재시도 불가 오류는 "<토픽>.DLT"로 이동
+ * - 리밸런스: Cooperative Sticky + 정적 멤버십으로 배포/증설 시 전체 파티션 정지를 없앰,
+ *   종료 시에는 처리 중인 배치를 마치고 오프셋 커밋 후 컨테이너 종료
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String CANCEL_BATCH_FACTORY = "cancelBatchListenerContainerFactory";
+    public static final String CREATE_ENVELOPE_FACTORY = "createEnvelopeListenerContainerFactory";
+    public static final String CREATE_LISTENER_ID = "settlement-create-listener";
+    public static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    /**
+     * 일시적 오류(MongoDB 선출/타임아웃)만 백오프 재시도, 그 외 오류는 재시도 없이 바로 DLT로 보냄
+     * - 백오프 합계가 max.poll.interval.ms(기본 5분)보다 충분히 짧도록 상한을 둠
+     * - 배치 리스너는 배치 전체를 재시도한 뒤 배치의 모든 레코드를 DLT로 보냄
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(BackpressureProperties backpressureProperties,
+                                                 DeadLetterPublishingRecoverer deadLetterRecoverer) {
+        ExponentialBackOffWithMaxRetries backOff =
+                new ExponentialBackOffWithMaxRetries(backpressureProperties.getMaxRetries());
+        backOff.setInitialInterval(500L);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(10000L);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterRecoverer, backOff);
+        errorHandler.defaultFalse();
+        errorHandler.addRetryableExceptions(TransientDataAccessException.class, DataAccessResourceFailureException.class);
+        return errorHandler;
+    }
+
+    /**
+     * 실패 레코드를 "<원본 토픽>.DLT"로 원본 Key/헤더와 함께 발행 (예외 정보는 kafka_dlt-* 헤더로 추가됨)
+     * - 파티션은 Key 해시로 정함 (DLT 파티션 수를 원본 토픽과 맞출 필요 없음)
+     * - 값 타입별 템플릿: 생성 이벤트는 byte[] 그대로, 취소 이벤트(역직렬화된 객체)는 JSON으로
+     * - DLT 발행이 실패하면 예외가 다시 올라와 오프셋을 커밋하지 않음 (유실 없이 재처리)
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterRecoverer(KafkaProperties kafkaProperties,
+                                                             KafkaTemplate<String, Object> kafkaTemplate) {
+        KafkaTemplate<String, byte[]> byteArrayTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(null), new StringSerializer(), new ByteArraySerializer()));
+
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, byteArrayTemplate);
+        templates.put(Object.class, kafkaTemplate);
+        return new DeadLetterPublishingRecoverer(templates,
+                (record, ex) -> new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, -1));
+    }
+
+    @Bean(name = CREATE_ENVELOPE_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> createEnvelopeListenerContainerFactory(
+            KafkaProperties kafkaProperties, DefaultErrorHandler kafkaErrorHandler,
+            ConsumerGroupProperties consumerGroupProperties) {
+        // 본문 역직렬화는 리스너에서 헤더 확인 후 수행
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        applyGroupMembership(props, factory, consumerGroupProperties, "create");
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        // Record 헤더의 trace 컨텍스트로 수신 span 생성 (레코드 리스너만 지원 - 배치 리스너는 해당 없음)
+        factory.getContainerProperties().setObservationEnabled(kafkaProperties.getListener().isObservationEnabled());
+        return factory;
+    }
+
+    @Bean(name = CANCEL_BATCH_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, OrderCancelledEvent> cancelBatchListenerContainerFactory(
+            KafkaProperties kafkaProperties, DefaultErrorHandler kafkaErrorHandler,
+            ConsumerGroupProperties consumerGroupProperties) {
+        // application.yml의 consumer 설정을 그대로 쓰되, 역직렬화 대상 타입만 교체
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderCancelledEvent.class.getName());
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+
+        ConcurrentKafkaListenerContainerFactory<String, OrderCancelledEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        applyGroupMembership(props, factory, consumerGroupProperties, "cancel");
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        return factory;
+    }
+
+    /**
+     * 리밸런스/종료 동작 공통 적용
+     * - group.instance.id는 리스너마다 달라야 하므로 listenerId를 붙임 (동시성별 -n 접미사는 컨테이너가 붙임)
+     * - stopImmediate=false: 종료 요청 시 이미 poll한 레코드까지 처리하고 커밋한 뒤 멈춤
+     * - 정적 멤버는 종료 시 LeaveGroup을 보내지 않으므로 session.timeout.ms 안에 재기동하면 리밸런스 없음
+     */
+    public static void applyGroupMembership(Map<String, Object> props,
+                                            ConcurrentKafkaListenerContainerFactory<?, ?> factory,
+                                            ConsumerGroupProperties consumerGroupProperties,
+                                            String listenerId) {
+        if (consumerGroupProperties.isCooperativeRebalance()) {
+            props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, consumerGroupProperties.isEagerCompatible()
+                    ? List.of(CooperativeStickyAssignor.class.getName(), RangeAssignor.class.getName())
+                    : List.of(CooperativeStickyAssignor.class.getName()));
+        }
+        if (StringUtils.hasText(consumerGroupProperties.getInstanceId())) {
+            props.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, consumerGroupProperties.getInstanceId() + "-" + listenerId);
+        }
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setStopImmediate(false);
+        containerProperties.setShutdownTimeout(consumerGroupProperties.getShutdownTimeoutMs());
+    }
+}
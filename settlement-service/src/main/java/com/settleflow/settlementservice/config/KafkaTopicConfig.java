@@ -0,0 +1,47 @@
+package com.settleflow.settlementservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Kafka 토픽 설정 (KafkaAdmin이 기동 시 자동 생성)
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    /**
+     * 정산 상태 changelog 토픽
+     * - cleanup.policy=compact: 주문 ID(Key)별 최신 정산 상태만 유지
+     * - 신규 노드는 이 토픽만 처음부터 읽어 MongoDB 조회 없이 상태를 재구성
+     */
+    @Bean
+    public NewTopic settlementChangelogTopic(ChangelogProperties changelogProperties) {
+        return TopicBuilder.name(changelogProperties.getTopic())
+                .partitions(changelogProperties.getPartitions())
+                .replicas(1)
+                .compact()
+                .build();
+    }
+
+    /**
+     * 처리 실패 레코드 보관 토픽 (KafkaConsumerConfig의 DLT 복구기가 발행)
+     * - 원인 해결 후 원본 토픽으로 다시 흘려 재처리 (생성/취소 처리는 모두 멱등)
+     */
+    @Bean
+    public NewTopic orderCreateDeadLetterTopic() {
+        return TopicBuilder.name("order-create-topic" + KafkaConsumerConfig.DEAD_LETTER_SUFFIX)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic orderCancelDeadLetterTopic() {
+        return TopicBuilder.name("order-cancel-topic" + KafkaConsumerConfig.DEAD_LETTER_SUFFIX)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 정산 상태 저장소 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.local-store")
+public class LocalStoreProperties {
+
+    /**
+     * SettlementConsumer가 처리 결과를 로컬 저장소에 반영할지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 저장소 구현 (memory: 힙 메모리, rocksdb: 로컬 디스크 LSM)
+     */
+    private String type = "memory";
+
+    /**
+     * RocksDB 데이터 디렉터리
+     */
+    private String path = "./data/settlement-store";
+}
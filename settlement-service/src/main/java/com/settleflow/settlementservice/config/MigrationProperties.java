@@ -0,0 +1,42 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * settlements 컬렉션 스키마 마이그레이션 / 샤딩 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.migration")
+public class MigrationProperties {
+
+    /**
+     * _id(ObjectId) → _id(orderId) 재작성 마이그레이션 실행 여부 (migration 프로파일에서 true)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 병렬 작업 스레드 수 (_id 범위를 threads개 구간으로 나눔)
+     */
+    private int threads = 8;
+
+    /**
+     * _id 범위 배치 크기 (한 번에 조회/Bulk 쓰기하는 문서 수)
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 기동 시 settlements 컬렉션을 hashed _id 샤드 키로 샤딩 (mongos 접속 시에만 유효)
+     */
+    private boolean shardCollection = false;
+
+    /**
+     * 금액 필드(totalAmount/fee/settleAmount) 문자열 → Decimal128 변환 마이그레이션 실행 여부
+     * (decimal-migration 프로파일에서 true)
+     */
+    private boolean decimalEnabled = false;
+}
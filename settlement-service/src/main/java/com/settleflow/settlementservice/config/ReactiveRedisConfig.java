@@ -0,0 +1,29 @@
+package com.settleflow.settlementservice.config;
+
+import com.settleflow.settlementservice.domain.Settlement;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * reactive 프로파일 전용 Redis 설정
+ * - @Cacheable은 블로킹 호출 기반이므로 Reactive 경로에서는 ReactiveRedisTemplate로 직접 Look-Aside 처리
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveRedisConfig {
+
+    @Bean
+    public ReactiveRedisTemplate<String, Settlement> settlementReactiveRedisTemplate(ReactiveRedisConnectionFactory cf) {
+        RedisSerializationContext<String, Settlement> context = RedisSerializationContext
+                .<String, Settlement>newSerializationContext(new StringRedisSerializer())
+                .value(new Jackson2JsonRedisSerializer<>(Settlement.class))
+                .build();
+        return new ReactiveRedisTemplate<>(cf, context);
+    }
+}
@@ -1,12 +1,16 @@
 package com.settleflow.settlementservice.config;
 
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.jfr.RecordingCacheManager;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -23,8 +27,20 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .entryTtl(Duration.ofMinutes(10L)); // 캐시 유효시간 10분 설정
 
-        return RedisCacheManager.builder(cf)
+        // 캐시 조회 시간/적중 여부를 JFR 이벤트로 기록 (녹화 중이 아니면 비용 거의 없음)
+        return new RecordingCacheManager(RedisCacheManager.builder(cf)
                 .cacheDefaults(redisCacheConfiguration)
-                .build();
+                .build());
+    }
+
+    // 2. 다건 조회(POST /settlements/lookup)용 템플릿 - MGET/파이프라인으로 직접 읽고 씀
+    //    @Cacheable 항목은 ResponseEntity 래퍼째 저장되므로 공유하지 않고 Settlement JSON만 별도 키로 저장
+    @Bean
+    public RedisTemplate<String, Settlement> settlementRedisTemplate(RedisConnectionFactory cf) {
+        RedisTemplate<String, Settlement> template = new RedisTemplate<>();
+        template.setConnectionFactory(cf);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(Settlement.class));
+        return template;
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.settleflow.settlementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * order-create-topic 재정산(Replay) 설정값
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement.replay")
+public class ReplayProperties {
+
+    /**
+     * 재정산 실행 여부 (replay 프로파일에서 true)
+     */
+    private boolean enabled = false;
+
+    private String topic = "order-create-topic";
+
+    /**
+     * 실시간 Consumer(settlement-group)와 분리된 Consumer Group (오프셋 커밋은 하지 않음)
+     */
+    private String groupId = "settlement-replay";
+
+    /**
+     * 재처리 시작/종료 시각 (ISO-8601, 예: 2024-01-01T00:00:00Z) - 비우면 토픽 처음/현재 끝
+     */
+    private String from;
+    private String to;
+
+    /**
+     * 파티션별 오프셋 범위 직접 지정 (파티션 번호 → 오프셋, 지정한 파티션은 from/to 시각보다 우선)
+     * - 예: settlement.replay.from-offsets.0=1200, settlement.replay.to-offsets.0=5000
+     * - 지정하지 않은 파티션은 from/to 시각(없으면 토픽 처음/현재 끝)을 따름
+     * - 범위는 파티션의 실제 시작/끝 오프셋 안으로 보정
+     */
+    private Map<Integer, Long> fromOffsets = new HashMap<>();
+    private Map<Integer, Long> toOffsets = new HashMap<>();
+
+    /**
+     * 재계산에 적용할 수수료율 (비우면 이벤트에 기록된 주문 시점 수수료율 그대로)
+     * - 수수료 규칙(order-service fee_rules)이 바뀐 뒤 재정산할 때 새 요율을 지정
+     */
+    private BigDecimal feeRate;
+
+    /**
+     * 정산 계정(주문 userId)별 수수료율 - feeRate보다 우선
+     */
+    private Map<Long, BigDecimal> accountFeeRates = new HashMap<>();
+
+    /**
+     * 파티션 리더 스레드 수 상한 (파티션 수보다 크면 파티션 수만큼)
+     */
+    private int maxThreads = 16;
+
+    /**
+     * Bulk Upsert 단위
+     */
+    private int batchSize = 5000;
+}
@@ -0,0 +1,171 @@
+package com.settleflow.settlementservice.controller;
+
+import com.settleflow.common.enums.SettlementStatus;
+import com.settleflow.common.exception.EntityNotFoundException;
+import com.settleflow.settlementservice.domain.ReactiveSettlementRepository;
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.domain.SettlementSummaryPage;
+import com.settleflow.settlementservice.domain.SettlementSummaryRepository;
+import com.settleflow.settlementservice.domain.SettlementTotals;
+import com.settleflow.settlementservice.domain.SettlementTotalsRepository;
+import com.settleflow.settlementservice.kafka.SettlementChangelogRestorer;
+import com.settleflow.settlementservice.service.SettlementLookupService;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 정산 조회 API - Reactive 스택 (WebFlux + Reactive MongoDB + Reactive Redis)
+ * - reactive 프로파일에서만 활성화되며, 같은 경로의 SettlementController(MVC)를 모두 대체
+ * - 단건 조회는 요청마다 스레드를 점유하지 않으므로 동시 요청 수가 스레드 풀 크기에 묶이지 않음
+ * - 다건/요약/합계 조회는 MVC와 같은 구현(블로킹 MongoTemplate/Redis 파이프라인)을 boundedElastic에서 실행
+ *   (호출 빈도가 낮은 대시보드/집계용이라 이벤트 루프만 막지 않으면 충분)
+ * - 오류 응답은 SettlementExceptionHandler가 MVC와 같은 ErrorResponse로 변환
+ */
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSettlementController {
+
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10L);
+
+    private final ReactiveSettlementRepository settlementRepository;
+    private final ReactiveRedisTemplate<String, Settlement> settlementRedisTemplate;
+    private final SettlementStateStore stateStore;
+    private final SettlementChangelogRestorer changelogRestorer;
+    private final SettlementLookupService lookupService;
+    private final SettlementSummaryRepository summaryRepository;
+    private final SettlementTotalsRepository totalsRepository;
+
+    /**
+     * 전체 정산 내역 조회 (테스트용)
+     * - application/x-ndjson 요청 시 문서 단위로 스트리밍 (전체를 메모리에 모으지 않음)
+     */
+    @GetMapping(value = "/settlements", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<Settlement> getAllSettlements() {
+        return settlementRepository.findAll();
+    }
+
+    /**
+     * 특정 주문의 정산 내역 조회 (MVC와 같은 순서)
+     * - Redis → 로컬 상태 저장소(복원 완료 시) → MongoDB, 저장소/MongoDB에서 찾으면 캐시 적재
+     * - Redis 키는 다건 조회와 공유 (Settlement JSON, 취소 시 함께 무효화)
+     * - Redis 장애 시에는 캐시를 건너뛰고 폴백
+     */
+    @GetMapping("/settlements/{orderId}")
+    public Mono<ResponseEntity<Settlement>> getSettlementByOrderId(@PathVariable Long orderId) {
+        String key = SettlementLookupService.key(orderId);
+
+        return settlementRedisTemplate.opsForValue().get(key)
+                .onErrorResume(e -> {
+                    log.warn("Redis lookup failed, falling back to store: OrderId={}", orderId, e);
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> findInStoreOrMongo(orderId)
+                        .flatMap(settlement -> settlementRedisTemplate.opsForValue().set(key, settlement, CACHE_TTL)
+                                .onErrorReturn(false)
+                                .thenReturn(settlement))))
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("정산 데이터", orderId)))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 여러 주문의 정산 내역 일괄 조회 (SettlementController와 같은 요청/응답)
+     */
+    @PostMapping("/settlements/lookup")
+    public Mono<ResponseEntity<SettlementController.LookupResponse>> lookupSettlements(
+            @Valid @RequestBody SettlementController.LookupRequest request) {
+        return blocking(() -> lookupService.lookup(request.getOrderIds()))
+                .map(found -> ResponseEntity.ok(lookupResponse(request, found)));
+    }
+
+    /**
+     * 정산 요약 목록 (커버링 인덱스 + keyset 페이지네이션)
+     */
+    @GetMapping("/settlements/summaries")
+    public Mono<ResponseEntity<SettlementSummaryPage>> getSummaries(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) SettlementStatus status,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int size) {
+        SettlementController.validateRange(from, to);
+        SettlementController.validatePageSize(size);
+        return blocking(() -> summaryRepository.findPage(userId, status, from, to, after, size)).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/settlements/totals/users/{userId}")
+    public Mono<ResponseEntity<List<SettlementTotals>>> getUserTotals(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        SettlementController.validateRange(from, to);
+        return blocking(() -> totalsRepository.totalsByUser(userId, from, to)).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/settlements/totals/daily")
+    public Mono<ResponseEntity<List<SettlementTotals>>> getDailyTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) SettlementStatus status) {
+        SettlementController.validateRange(from, to);
+        return blocking(() -> totalsRepository.totalsByDay(from, to, status)).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/settlements/totals/status")
+    public Mono<ResponseEntity<List<SettlementTotals>>> getStatusTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        SettlementController.validateRange(from, to);
+        return blocking(() -> totalsRepository.totalsByStatus(from, to)).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 로컬 저장소(메모리/RocksDB 블록 캐시 조회라 이벤트 루프에서 바로 수행) → 없으면 Reactive MongoDB
+     */
+    private Mono<Settlement> findInStoreOrMongo(Long orderId) {
+        Mono<Settlement> local = changelogRestorer.isRestored()
+                ? Mono.justOrEmpty(stateStore.get(orderId))
+                : Mono.empty();
+        return local.switchIfEmpty(Mono.defer(() -> {
+            log.info("Fetching settlement from MongoDB... OrderId={}", orderId);
+            return settlementRepository.findByOrderId(orderId);
+        }));
+    }
+
+    private static SettlementController.LookupResponse lookupResponse(SettlementController.LookupRequest request,
+                                                                      Map<Long, Settlement> found) {
+        List<Long> missingOrderIds = request.getOrderIds().stream()
+                .distinct()
+                .filter(orderId -> !found.containsKey(orderId))
+                .toList();
+        return new SettlementController.LookupResponse(List.copyOf(found.values()), missingOrderIds);
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -1,24 +1,58 @@
 package com.settleflow.settlementservice.controller;
 
+import com.settleflow.common.enums.SettlementStatus;
 import com.settleflow.common.exception.EntityNotFoundException;
 import com.settleflow.settlementservice.domain.Settlement;
 import com.settleflow.settlementservice.domain.SettlementRepository;
+import com.settleflow.settlementservice.domain.SettlementSummaryPage;
+import com.settleflow.settlementservice.domain.SettlementSummaryRepository;
+import com.settleflow.settlementservice.domain.SettlementTotals;
+import com.settleflow.settlementservice.domain.SettlementTotalsRepository;
+import com.settleflow.settlementservice.jfr.SettlementCacheLookupEvent;
+import com.settleflow.settlementservice.kafka.SettlementChangelogRestorer;
+import com.settleflow.settlementservice.service.SettlementLookupService;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
+@Profile("!reactive") // reactive 프로파일에서는 ReactiveSettlementController가 대체
 @RequiredArgsConstructor
 public class SettlementController {
 
+    private static final long MAX_TOTALS_RANGE_DAYS = 366;
+    private static final int MAX_LOOKUP_IDS = 1000;
+    private static final int MAX_SUMMARY_PAGE_SIZE = 1000;
+
     private final SettlementRepository settlementRepository;
+    private final SettlementStateStore stateStore;
+    private final SettlementTotalsRepository totalsRepository;
+    private final SettlementLookupService lookupService;
+    private final SettlementSummaryRepository summaryRepository;
+    private final SettlementChangelogRestorer changelogRestorer;
 
     /**
      * 전체 정산 내역 조회 (테스트용)
@@ -32,16 +66,131 @@ public class SettlementController {
     /**
      * 특정 주문의 정산 내역 조회
      * - Redis 캐싱 적용 (Look-Aside Pattern)
-     * - findByOrderId()로 직접 조회 (최적화)
+     * - 로컬 상태 저장소(changelog 복원) 우선, 없으면 findByOrderId()로 MongoDB 조회
+     * - 복원이 끝나기 전에는 로컬 저장소가 불완전하므로 바로 MongoDB 조회
      */
     @GetMapping("/settlements/{orderId}")
     @Cacheable(value = "settlements", key = "#orderId", unless = "#result == null")
     public ResponseEntity<Settlement> getSettlementByOrderId(@PathVariable Long orderId) {
-        log.info("Fetching settlement from MongoDB... OrderId={}", orderId);
+        SettlementCacheLookupEvent lookupEvent = new SettlementCacheLookupEvent();
+        lookupEvent.begin();
+        Optional<Settlement> local = changelogRestorer.isRestored() ? stateStore.get(orderId) : Optional.empty();
+        lookupEvent.end();
+        if (lookupEvent.shouldCommit()) {
+            lookupEvent.cache = "local-store";
+            lookupEvent.key = String.valueOf(orderId);
+            lookupEvent.hit = local.isPresent();
+            lookupEvent.commit();
+        }
 
-        Settlement settlement = settlementRepository.findByOrderId(orderId)
+        Settlement settlement = local
+                .or(() -> {
+                    log.info("Fetching settlement from MongoDB... OrderId={}", orderId);
+                    return settlementRepository.findByOrderId(orderId);
+                })
                 .orElseThrow(() -> new EntityNotFoundException("정산 데이터", orderId));
 
         return ResponseEntity.ok(settlement);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 주문의 정산 내역 일괄 조회 (대시보드용)
+     * - 단건 API를 N번 호출하는 대신 Redis MGET 1회 + MongoDB $in 1회로 처리
+     * - 없는 주문은 404 대신 missingOrderIds로 돌려줌
+     */
+    @PostMapping("/settlements/lookup")
+    public ResponseEntity<LookupResponse> lookupSettlements(@Valid @RequestBody LookupRequest request) {
+        Map<Long, Settlement> found = lookupService.lookup(request.getOrderIds());
+        List<Long> missingOrderIds = request.getOrderIds().stream()
+                .distinct()
+                .filter(orderId -> !found.containsKey(orderId))
+                .toList();
+        return ResponseEntity.ok(new LookupResponse(List.copyOf(found.values()), missingOrderIds));
+    }
+
+    /**
+     * 정산 요약 목록 (orderId/userId/status/settleAmount/orderedAt만 반환)
+     * - userId 또는 status 필수, 둘 다 주면 해당 사용자의 해당 상태만
+     * - 커버링 인덱스로 조회하고 orderedAt 최신순 keyset 페이지네이션 (다음 페이지는 응답의 nextCursor를 after로 전달)
+     */
+    @GetMapping("/settlements/summaries")
+    public ResponseEntity<SettlementSummaryPage> getSummaries(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) SettlementStatus status,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int size) {
+        validateRange(from, to);
+        validatePageSize(size);
+        return ResponseEntity.ok(summaryRepository.findPage(userId, status, from, to, after, size));
+    }
+
+    /**
+     * 사용자별 기간 합계 (상태별로 나눠서 반환)
+     * - from/to는 yyyy-MM-dd, to 포함
+     */
+    @GetMapping("/settlements/totals/users/{userId}")
+    public ResponseEntity<List<SettlementTotals>> getUserTotals(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        validateRange(from, to);
+        return ResponseEntity.ok(totalsRepository.totalsByUser(userId, from, to));
+    }
+
+    /**
+     * 일자별 기간 합계 (status 지정 시 해당 상태만)
+     */
+    @GetMapping("/settlements/totals/daily")
+    public ResponseEntity<List<SettlementTotals>> getDailyTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) SettlementStatus status) {
+        validateRange(from, to);
+        return ResponseEntity.ok(totalsRepository.totalsByDay(from, to, status));
+    }
+
+    /**
+     * 상태별 기간 합계
+     */
+    @GetMapping("/settlements/totals/status")
+    public ResponseEntity<List<SettlementTotals>> getStatusTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        validateRange(from, to);
+        return ResponseEntity.ok(totalsRepository.totalsByStatus(from, to));
+    }
+
+    /**
+     * 조회 기간 검증 (ReactiveSettlementController와 공용)
+     */
+    static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다: from=" + from + ", to=" + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_TOTALS_RANGE_DAYS) {
+            throw new IllegalArgumentException("집계 기간은 최대 " + MAX_TOTALS_RANGE_DAYS + "일입니다");
+        }
+    }
+
+    static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_SUMMARY_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_SUMMARY_PAGE_SIZE + " 사이여야 합니다");
+        }
+    }
+
+    @Data
+    static class LookupRequest {
+        @NotEmpty(message = "주문 ID 목록은 필수입니다")
+        @Size(max = MAX_LOOKUP_IDS, message = "한 번에 조회할 수 있는 주문은 최대 " + MAX_LOOKUP_IDS + "건입니다")
+        private List<@NotNull(message = "주문 ID는 null일 수 없습니다") Long> orderIds;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class LookupResponse {
+        private final List<Settlement> settlements;
+        private final List<Long> missingOrderIds;
+    }
+}
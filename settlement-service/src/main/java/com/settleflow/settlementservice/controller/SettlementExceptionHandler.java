@@ -0,0 +1,64 @@
+package com.settleflow.settlementservice.controller;
+
+import com.settleflow.common.dto.ErrorResponse;
+import com.settleflow.common.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 정산 조회 API 오류 응답 (ErrorResponse)
+ * - MVC(SettlementController)와 WebFlux(ReactiveSettlementController)에 같은 형식으로 적용
+ * - 오류 코드는 common의 GlobalExceptionHandler와 동일
+ */
+@Slf4j
+@RestControllerAdvice(assignableTypes = {SettlementController.class, ReactiveSettlementController.class})
+public class SettlementExceptionHandler {
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleEntityNotFound(EntityNotFoundException e) {
+        log.warn("Entity not found: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse("NOT_FOUND", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+        log.warn("IllegalArgumentException: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(new ErrorResponse("BAD_REQUEST", e.getMessage()));
+    }
+
+    /**
+     * @Valid 검증 실패 (MVC)
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException e) {
+        return validationFailed(e.getBindingResult());
+    }
+
+    /**
+     * @Valid 검증 실패 (WebFlux)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(WebExchangeBindException e) {
+        return validationFailed(e.getBindingResult());
+    }
+
+    private static ResponseEntity<ErrorResponse> validationFailed(BindingResult bindingResult) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (FieldError error : bindingResult.getFieldErrors()) {
+            errors.put(error.getField(), error.getDefaultMessage());
+        }
+        log.warn("Validation failed: {}", errors);
+        return ResponseEntity.badRequest()
+                .body(new ErrorResponse("VALIDATION_FAILED", "입력값 검증에 실패했습니다: " + errors));
+    }
+}
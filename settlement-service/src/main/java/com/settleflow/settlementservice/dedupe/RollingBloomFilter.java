@@ -0,0 +1,141 @@
+package com.settleflow.settlementservice.dedupe;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 주문 ID(long) 전용 2세대 Rolling Bloom Filter
+ * - 현재 세대가 예상 삽입 수에 도달하면 직전 세대를 버리고 새 세대를 시작 → 메모리 상한 고정
+ * - 조회는 두 세대 중 하나라도 포함하면 "중복 가능", 둘 다 없으면 "확실히 신규"
+ * - 비트 배열은 AtomicLongArray로 락 없이 동시 갱신
+ */
+public class RollingBloomFilter {
+
+    private final long expectedInsertions;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public RollingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.bitSize = optimalBitSize(expectedInsertions, falsePositiveRate);
+        this.hashFunctions = optimalHashFunctions(expectedInsertions, bitSize);
+        this.current = new Generation(bitSize);
+        this.previous = null;
+    }
+
+    public boolean mightContain(long orderId) {
+        long h1 = mix(orderId);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        Generation older = previous;
+        return current.contains(h1, h2, hashFunctions) || (older != null && older.contains(h1, h2, hashFunctions));
+    }
+
+    public void put(long orderId) {
+        long h1 = mix(orderId);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        Generation generation = current;
+        generation.put(h1, h2, hashFunctions);
+        if (generation.insertions.incrementAndGet() >= expectedInsertions) {
+            rotate(generation);
+        }
+    }
+
+    /**
+     * 현재 세대 채움 정도로 추정한 오탐률 (두 세대 중 하나라도 맞으면 오탐이므로 합으로 근사)
+     */
+    public double estimatedFalsePositiveRate() {
+        Generation older = previous;
+        return estimate(current) + (older == null ? 0.0 : estimate(older));
+    }
+
+    public long currentInsertions() {
+        return current.insertions.get();
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * 두 세대 합계 메모리 (바이트)
+     */
+    public long memoryBytes() {
+        return (previous == null ? 1 : 2) * (bitSize / 8);
+    }
+
+    private synchronized void rotate(Generation full) {
+        if (current != full) {
+            return; // 다른 스레드가 이미 교체
+        }
+        previous = full;
+        current = new Generation(bitSize);
+    }
+
+    private double estimate(Generation generation) {
+        double fill = 1 - Math.exp(-(double) hashFunctions * generation.insertions.get() / bitSize);
+        return Math.pow(fill, hashFunctions);
+    }
+
+    static long optimalBitSize(long n, double p) {
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        return Math.max(64, (bits + 63) / 64 * 64);
+    }
+
+    static int optimalHashFunctions(long n, long m) {
+        return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    /**
+     * SplitMix64 finalizer - 연속된 주문 ID도 비트 전체에 고르게 퍼지도록
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final long bitSize;
+        private final AtomicLong insertions = new AtomicLong();
+
+        Generation(long bitSize) {
+            this.bitSize = bitSize;
+            this.words = new AtomicLongArray((int) (bitSize / 64));
+        }
+
+        boolean contains(long h1, long h2, int k) {
+            for (int i = 0; i < k; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitSize);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long h1, long h2, int k) {
+            for (int i = 0; i < k; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitSize);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word;
+                do {
+                    word = words.get(index);
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(index, word, word | mask));
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.settleflow.settlementservice.dedupe;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.settleflow.settlementservice.config.DedupeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 정산된 주문 ID의 Bloom Filter (at-least-once 재전송 중복 사전 판정)
+ * - "확실히 신규"면 바로 insert, "중복 가능"일 때만 존재 여부 조회
+ * - 워밍업 전이나 세대 교체 직후에는 신규로 잘못 판정될 수 있으나, 그 경우도 insert의 _id 중복으로 걸러지므로 정합성에는 영향 없음
+ */
+@Slf4j
+@Component
+public class SettlementDedupeFilter {
+
+    private static final String COLLECTION = "settlements";
+
+    private final DedupeProperties properties;
+    private final MongoTemplate mongoTemplate;
+    private final RollingBloomFilter filter;
+
+    private final Counter definitelyNew;
+    private final Counter possibleDuplicate;
+    private final Counter falsePositive;
+
+    public SettlementDedupeFilter(DedupeProperties properties, MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.mongoTemplate = mongoTemplate;
+        this.filter = new RollingBloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+
+        this.definitelyNew = Counter.builder("settlement.dedupe.checks").tag("result", "definitely_new")
+                .description("Bloom Filter 판정 결과").register(meterRegistry);
+        this.possibleDuplicate = Counter.builder("settlement.dedupe.checks").tag("result", "possible_duplicate")
+                .description("Bloom Filter 판정 결과").register(meterRegistry);
+        this.falsePositive = Counter.builder("settlement.dedupe.false.positives")
+                .description("중복 가능으로 판정했으나 실제로는 신규였던 건수").register(meterRegistry);
+
+        Gauge.builder("settlement.dedupe.filter.bits", filter, RollingBloomFilter::bitSize)
+                .description("세대당 비트 수").register(meterRegistry);
+        Gauge.builder("settlement.dedupe.filter.memory.bytes", filter, RollingBloomFilter::memoryBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("settlement.dedupe.filter.insertions", filter, RollingBloomFilter::currentInsertions)
+                .description("현재 세대 삽입 수").register(meterRegistry);
+        Gauge.builder("settlement.dedupe.filter.expected.insertions", properties, DedupeProperties::getExpectedInsertions)
+                .register(meterRegistry);
+        Gauge.builder("settlement.dedupe.filter.target.fpp", properties, DedupeProperties::getFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("settlement.dedupe.filter.estimated.fpp", filter, RollingBloomFilter::estimatedFalsePositiveRate)
+                .register(meterRegistry);
+
+        log.info("Dedupe filter created: expectedInsertions={}, fpp={}, bits={}, hashFunctions={}",
+                properties.getExpectedInsertions(), properties.getFalsePositiveRate(), filter.bitSize(), filter.hashFunctions());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @return false면 확실히 처음 보는 주문, true면 이미 정산되었을 수 있음
+     */
+    public boolean mightContain(long orderId) {
+        boolean result = filter.mightContain(orderId);
+        (result ? possibleDuplicate : definitelyNew).increment();
+        return result;
+    }
+
+    public void put(long orderId) {
+        filter.put(orderId);
+    }
+
+    /**
+     * 중복 가능 판정 후 실제 조회해 보니 없었던 경우
+     */
+    public void recordFalsePositive() {
+        falsePositive.increment();
+    }
+
+    /**
+     * 최근 정산 주문 ID(_id 내림차순)를 세대 용량만큼 채움
+     * - 리스너 처리를 막지 않도록 별도 스레드에서 실행 (_id만 projection, 인덱스 순회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled() || !properties.isWarmUp()) {
+            return;
+        }
+        Thread thread = new Thread(this::loadRecentOrderIds, "settlement-dedupe-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void loadRecentOrderIds() {
+        long startedAt = System.currentTimeMillis();
+        long loaded = 0;
+        try (MongoCursor<Document> cursor = mongoTemplate.getCollection(COLLECTION)
+                .find()
+                .projection(Projections.include("_id"))
+                .sort(Sorts.descending("_id"))
+                .limit((int) Math.min(Integer.MAX_VALUE, properties.getExpectedInsertions() - 1))
+                .batchSize(properties.getWarmUpBatchSize())
+                .iterator()) {
+            while (cursor.hasNext()) {
+                Object id = cursor.next().get("_id");
+                if (id instanceof Number orderId) {
+                    filter.put(orderId.longValue());
+                    loaded++;
+                }
+            }
+            log.info("Dedupe filter warmed up: orderIds={}, elapsedMs={}", loaded, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 워밍업 실패 시 빈 필터로 동작 (중복은 insert 단계에서 걸러짐)
+            log.warn("Dedupe filter warm-up failed after {} ids", loaded, e);
+        }
+    }
+}
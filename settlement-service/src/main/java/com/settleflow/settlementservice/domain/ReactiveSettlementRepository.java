@@ -0,0 +1,16 @@
+package com.settleflow.settlementservice.domain;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * reactive 프로파일 조회 전용 Repository (Reactive Streams MongoDB 드라이버)
+ */
+public interface ReactiveSettlementRepository extends ReactiveMongoRepository<Settlement, Long> {
+    /**
+     * orderId로 정산 데이터 조회
+     * @param orderId 주문 ID
+     * @return 정산 데이터 (없으면 empty)
+     */
+    Mono<Settlement> findByOrderId(Long orderId);
+}
@@ -5,24 +5,39 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Sharded;
+import org.springframework.data.mongodb.core.mapping.ShardingStrategy;
 
 import java.math.BigDecimal;
 
+/**
+ * 정산 데이터
+ * - orderId를 _id로 사용: 별도 Unique Index 없이 _id 인덱스 하나로 중복 방지 (쓰기 증폭 감소)
+ * - 샤드 키는 hashed _id: 단건 조회/갱신은 항상 단일 샤드로 라우팅되고, 연속된 주문 ID도 고르게 분산
+ * - 사용자별/상태별 조회는 orderedAt까지 포함한 복합 인덱스로 처리
+ * - 복합 인덱스 뒤쪽에 _id/status(userId)/settleAmount를 더 붙여 요약 목록 조회(SettlementSummary)는 커버링 인덱스로 처리
+ *   (기존 userId_orderedAt / status_orderedAt 인덱스 삭제는 db/mongo/settlements-covering-indexes.js)
+ */
 @Document(collection = "settlements")
+@Sharded(shardKey = {"orderId"}, shardingStrategy = ShardingStrategy.HASH, immutableKey = true)
+@CompoundIndexes({
+        @CompoundIndex(name = "userId_orderedAt_cover",
+                def = "{'userId': 1, 'orderedAt': -1, '_id': -1, 'status': 1, 'settleAmount': 1}"),
+        @CompoundIndex(name = "status_orderedAt_cover",
+                def = "{'status': 1, 'orderedAt': -1, '_id': -1, 'userId': 1, 'settleAmount': 1}")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Settlement {
 
+    // ▼ [핵심] 주문 ID 자체가 MongoDB _id
+    // 동일한 주문 ID(orderId)가 들어오면 _id 중복으로 DB 차원에서 튕겨냅니다. (insert 기준)
     @Id
-    private String id;              // MongoDB ID
-
-    // ▼ [핵심] unique = true 추가
-    // 동일한 주문 ID(orderId)가 들어오면 DB 차원에서 튕겨냅니다.
-    @Indexed(unique = true)
     private Long orderId;           // 주문 ID
     private Long userId;            // 유저 ID
 
@@ -31,5 +46,6 @@ public class Settlement {
     private BigDecimal settleAmount;// 정산 지급액 (총액 - 수수료)
 
     private String orderedAt;       // 주문 시간
-    private String status;          // 정산 상태 (WAITING 등)
-}
\ No newline at end of file
+    private String status;          // 정산 상태 (WAITING, CANCELLED 등)
+    private String cancelledAt;     // 취소 시간 (취소된 경우에만)
+}
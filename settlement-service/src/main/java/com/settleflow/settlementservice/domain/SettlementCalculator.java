@@ -0,0 +1,41 @@
+package com.settleflow.settlementservice.domain;
+
+import com.settleflow.common.enums.SettlementStatus;
+import com.settleflow.common.event.OrderCreatedEvent;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 이벤트 → 정산 데이터 계산 (실시간 Consumer와 재정산(Replay)이 같은 규칙을 사용)
+ */
+public final class SettlementCalculator {
+
+    private SettlementCalculator() {
+    }
+
+    /**
+     * 이벤트에 기록된 주문 시점 수수료율로 계산
+     */
+    public static Settlement calculate(OrderCreatedEvent event) {
+        return calculate(event, BigDecimal.valueOf(event.getFeeRate()));
+    }
+
+    /**
+     * 지정한 수수료율로 계산 (재정산 시 변경된 요율 적용)
+     */
+    public static Settlement calculate(OrderCreatedEvent event, BigDecimal feeRate) {
+        // 수수료 = 총액 * 수수료율, 정산액 = 총액 - 수수료
+        BigDecimal fee = event.getTotalAmount().multiply(feeRate);
+        BigDecimal settleAmount = event.getTotalAmount().subtract(fee);
+
+        return Settlement.builder()
+                .orderId(event.getOrderId())
+                .userId(event.getUserId())
+                .totalAmount(event.getTotalAmount())
+                .fee(fee)
+                .settleAmount(settleAmount)
+                .orderedAt(event.getOrderedAt())
+                .status(SettlementStatus.WAITING.name())
+                .build();
+    }
+}
@@ -2,13 +2,22 @@ package com.settleflow.settlementservice.domain;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface SettlementRepository extends MongoRepository<Settlement, String> {
+public interface SettlementRepository extends MongoRepository<Settlement, Long> {
     /**
      * orderId로 정산 데이터 조회
      * @param orderId 주문 ID
      * @return 정산 데이터 (Optional)
      */
     Optional<Settlement> findByOrderId(Long orderId);
+
+    /**
+     * 여러 주문의 정산 데이터를 한 번에 조회 (orderId가 _id이므로 _id $in 쿼리)
+     * @param orderIds 주문 ID 목록
+     * @return 존재하는 정산 데이터만 (순서 보장 없음)
+     */
+    List<Settlement> findByOrderIdIn(Collection<Long> orderIds);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.settleflow.settlementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.math.BigDecimal;
+
+/**
+ * 정산 요약 (목록 조회용 projection)
+ * - 필드가 모두 커버링 인덱스(userId_orderedAt_cover / status_orderedAt_cover)에 있어
+ *   MongoDB가 문서를 읽지 않고 인덱스만으로 응답 (totalAmount/fee/cancelledAt은 디코딩도 하지 않음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementSummary {
+
+    @Id
+    private Long orderId;
+    private Long userId;
+    private String status;
+    private BigDecimal settleAmount;
+    private String orderedAt;
+}
@@ -0,0 +1,18 @@
+package com.settleflow.settlementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 정산 요약 목록 한 페이지
+ * - nextCursor: 다음 페이지 조회 시 after 파라미터로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class SettlementSummaryPage {
+
+    private final List<SettlementSummary> items;
+    private final String nextCursor;
+}
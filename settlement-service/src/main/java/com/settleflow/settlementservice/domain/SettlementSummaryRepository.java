@@ -0,0 +1,102 @@
+package com.settleflow.settlementservice.domain;
+
+import com.settleflow.common.enums.SettlementStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 정산 요약 목록 조회 (projection + keyset 페이지네이션)
+ * - 사용자(+상태) 조건은 userId_orderedAt_cover, 상태 조건은 status_orderedAt_cover 인덱스를 힌트로 지정
+ * - 조회 필드를 인덱스에 포함된 필드로 제한 → covered query (FETCH 단계 없음)
+ * - 정렬은 (orderedAt desc, _id desc) = 인덱스 순서, 다음 페이지는 마지막 행 이후부터 인덱스 범위 스캔
+ *   (skip/offset 방식처럼 앞 페이지를 다시 읽지 않으므로 페이지 깊이와 무관하게 일정한 비용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementSummaryRepository {
+
+    static final String USER_INDEX = "userId_orderedAt_cover";
+    static final String STATUS_INDEX = "status_orderedAt_cover";
+
+    private static final String COLLECTION = "settlements";
+    private static final String CURSOR_DELIMITER = "|";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * @param userId 사용자 ID (null이면 상태 기준 조회)
+     * @param status 정산 상태 (null이면 전체 상태 - userId 필수)
+     * @param after  이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    public SettlementSummaryPage findPage(Long userId, SettlementStatus status, LocalDate from, LocalDate to,
+                                          String after, int size) {
+        if (userId == null && status == null) {
+            throw new IllegalArgumentException("userId 또는 status 중 하나는 필수입니다");
+        }
+
+        Criteria criteria = userId != null
+                ? Criteria.where("userId").is(userId)
+                : Criteria.where("status").is(status.name());
+        if (userId != null && status != null) {
+            criteria.and("status").is(status.name()); // 인덱스 안의 status로 필터링 (커버링 유지)
+        }
+
+        Criteria orderedAt = criteria.and("orderedAt").gte(startOf(from)).lt(startOf(to.plusDays(1)));
+        if (after != null) {
+            Cursor cursor = Cursor.decode(after);
+            // (orderedAt, _id) < (cursor.orderedAt, cursor.orderId) - 상한을 커서로 좁혀 범위 스캔 유지
+            orderedAt.lte(cursor.orderedAt());
+            criteria.orOperator(
+                    Criteria.where("orderedAt").lt(cursor.orderedAt()),
+                    Criteria.where("_id").lt(cursor.orderId()));
+        }
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "orderedAt").and(Sort.by(Sort.Direction.DESC, "_id")))
+                .withHint(userId != null ? USER_INDEX : STATUS_INDEX)
+                .limit(size + 1); // 1건 더 읽어 다음 페이지 유무 판단
+        query.fields().include("userId", "status", "settleAmount", "orderedAt");
+
+        List<SettlementSummary> rows = mongoTemplate.find(query, SettlementSummary.class, COLLECTION);
+        if (rows.size() <= size) {
+            return new SettlementSummaryPage(rows, null);
+        }
+        List<SettlementSummary> page = rows.subList(0, size);
+        SettlementSummary last = page.get(size - 1);
+        return new SettlementSummaryPage(page, new Cursor(last.getOrderedAt(), last.getOrderId()).encode());
+    }
+
+    private static String startOf(LocalDate date) {
+        return date.atStartOfDay().toString();
+    }
+
+    /**
+     * 마지막 행의 정렬 키 (클라이언트에는 불투명한 base64url 문자열로 전달)
+     */
+    record Cursor(String orderedAt, Long orderId) {
+
+        String encode() {
+            String raw = orderedAt + CURSOR_DELIMITER + orderId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String value) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                int delimiter = raw.lastIndexOf(CURSOR_DELIMITER);
+                return new Cursor(raw.substring(0, delimiter), Long.parseLong(raw.substring(delimiter + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.settleflow.settlementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.math.BigDecimal;
+
+/**
+ * 정산 금액 집계 결과 (MongoDB 집계 파이프라인 $group 결과)
+ * - key: 그룹 기준 값 (상태별 집계면 status, 일자별 집계면 yyyy-MM-dd)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementTotals {
+
+    @Id
+    private String key;
+    private long count;               // 정산 건수
+    private BigDecimal totalAmount;   // 결제 총액 합계
+    private BigDecimal fee;           // 수수료 합계
+    private BigDecimal settleAmount;  // 정산 지급액 합계
+}
@@ -0,0 +1,89 @@
+package com.settleflow.settlementservice.domain;
+
+import com.settleflow.common.enums.SettlementStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정산 금액 집계 (MongoDB 집계 파이프라인)
+ * - 금액 필드가 Decimal128이라 $sum을 서버에서 수행 → 문서를 애플리케이션으로 가져오지 않음
+ * - $match는 항상 복합 인덱스 앞부분(userId 또는 status) + orderedAt 범위로 구성해 인덱스 범위 스캔
+ * - orderedAt은 ISO-8601 문자열이므로 사전순 범위 = 시간순 범위, 앞 10자리 = 일자
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementTotalsRepository {
+
+    private static final String COLLECTION = "settlements";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 특정 사용자의 기간 내 상태별 합계 (userId_orderedAt_cover 인덱스)
+     */
+    public List<SettlementTotals> totalsByUser(Long userId, LocalDate from, LocalDate to) {
+        Criteria criteria = Criteria.where("userId").is(userId)
+                .and("orderedAt").gte(startOf(from)).lt(startOf(to.plusDays(1)));
+        return aggregate(Aggregation.match(criteria), sumBy("status"));
+    }
+
+    /**
+     * 기간 내 일자별 합계 (status 지정 시 해당 상태만)
+     */
+    public List<SettlementTotals> totalsByDay(LocalDate from, LocalDate to, SettlementStatus status) {
+        return aggregate(
+                Aggregation.match(statusRange(from, to, status)),
+                Aggregation.project("totalAmount", "fee", "settleAmount")
+                        .and(StringOperators.valueOf("orderedAt").substring(0, 10)).as("day"),
+                sumBy("day"));
+    }
+
+    /**
+     * 기간 내 상태별 합계
+     */
+    public List<SettlementTotals> totalsByStatus(LocalDate from, LocalDate to) {
+        return aggregate(Aggregation.match(statusRange(from, to, null)), sumBy("status"));
+    }
+
+    /**
+     * status $in 전체 값 + orderedAt 범위 → status_orderedAt_cover 인덱스 범위 스캔 (orderedAt 단독 인덱스 없이)
+     */
+    private static Criteria statusRange(LocalDate from, LocalDate to, SettlementStatus status) {
+        List<String> statuses = status != null
+                ? List.of(status.name())
+                : Arrays.stream(SettlementStatus.values()).map(Enum::name).toList();
+        return Criteria.where("status").in(statuses)
+                .and("orderedAt").gte(startOf(from)).lt(startOf(to.plusDays(1)));
+    }
+
+    private static GroupOperation sumBy(String field) {
+        return Aggregation.group(field)
+                .count().as("count")
+                .sum("totalAmount").as("totalAmount")
+                .sum("fee").as("fee")
+                .sum("settleAmount").as("settleAmount");
+    }
+
+    private List<SettlementTotals> aggregate(AggregationOperation... operations) {
+        List<AggregationOperation> pipeline = new ArrayList<>(Arrays.asList(operations));
+        pipeline.add(Aggregation.sort(Sort.Direction.ASC, "_id"));
+        return mongoTemplate.aggregate(Aggregation.newAggregation(pipeline), COLLECTION, SettlementTotals.class)
+                .getMappedResults();
+    }
+
+    private static String startOf(LocalDate date) {
+        return date.atStartOfDay().toString();
+    }
+}
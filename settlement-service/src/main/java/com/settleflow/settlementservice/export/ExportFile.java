@@ -0,0 +1,17 @@
+package com.settleflow.settlementservice.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추출 파일 한 개의 매니페스트 항목
+ */
+@Getter
+@AllArgsConstructor
+public class ExportFile {
+    private String name;
+    private String partition;  // 주문일 (yyyy-MM-dd)
+    private long rows;
+    private long bytes;        // 파일 크기 (gzip이면 압축된 .gz 바이트 수)
+    private String sha256;     // 파일 내용 체크섬 (sha256sum으로 바로 검증 가능)
+}
@@ -0,0 +1,21 @@
+package com.settleflow.settlementservice.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 추출 결과 매니페스트 (manifest.json) - 재무팀 적재 시 파일 누락/손상 검증용
+ */
+@Getter
+@AllArgsConstructor
+public class ExportManifest {
+    private String from;
+    private String to;
+    private String createdAt;
+    private boolean gzip;
+    private List<String> columns;
+    private long totalRows;
+    private List<ExportFile> files;
+}
@@ -0,0 +1,199 @@
+package com.settleflow.settlementservice.export;
+
+import org.bson.Document;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 정산 문서를 CSV 청크 파일로 기록 (파티션 하나 = 스레드 하나 전용, 스레드 안전하지 않음)
+ * - 고정 크기 ByteBuffer에 모았다가 FileChannel로 내려씀 → 추출 건수와 무관하게 메모리 사용량 일정
+ * - chunkRows를 넘으면 다음 파일로 분할 ({prefix}-00000.csv.gz, {prefix}-00001.csv.gz ...)
+ * - 매니페스트의 바이트 수/SHA-256은 디스크에 실제로 쓴 바이트(gzip이면 압축된 .gz 파일) 기준
+ */
+public class SettlementCsvChunkWriter implements Closeable {
+
+    public static final List<String> COLUMNS = List.of(
+            "orderId", "userId", "totalAmount", "fee", "settleAmount", "status", "orderedAt", "cancelledAt");
+
+    private static final byte[] HEADER = (String.join(",", COLUMNS) + "\n").getBytes(StandardCharsets.UTF_8);
+
+    private final Path directory;
+    private final String prefix;
+    private final String partition;
+    private final int chunkRows;
+    private final boolean gzip;
+    private final ByteBuffer buffer;
+    private final StringBuilder line = new StringBuilder(256);
+    private final List<ExportFile> files = new ArrayList<>();
+
+    private WritableByteChannel channel;
+    private DigestingChannel fileOutput;
+    private String fileName;
+    private long rows;
+
+    /**
+     * @param partition 매니페스트에 기록할 파티션 값 (주문일 yyyy-MM-dd)
+     */
+    public SettlementCsvChunkWriter(Path directory, String prefix, String partition, int chunkRows, int bufferSize,
+                                    boolean gzip) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.partition = partition;
+        this.chunkRows = chunkRows;
+        this.gzip = gzip;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    public void write(Document settlement) throws IOException {
+        if (channel == null || rows >= chunkRows) {
+            rollChunk();
+        }
+
+        line.setLength(0);
+        line.append(value(settlement.get("_id"))).append(',')
+                .append(value(settlement.get("userId"))).append(',')
+                .append(value(settlement.get("totalAmount"))).append(',')
+                .append(value(settlement.get("fee"))).append(',')
+                .append(value(settlement.get("settleAmount"))).append(',')
+                .append(value(settlement.get("status"))).append(',')
+                .append(value(settlement.get("orderedAt"))).append(',')
+                .append(value(settlement.get("cancelledAt"))).append('\n');
+
+        put(line.toString().getBytes(StandardCharsets.UTF_8));
+        rows++;
+    }
+
+    /**
+     * 작성 완료된 파일 목록 (close 이후 호출)
+     */
+    public List<ExportFile> files() {
+        return files;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeChunk();
+    }
+
+    private void rollChunk() throws IOException {
+        closeChunk();
+
+        fileName = String.format("%s-%05d.csv%s", prefix, files.size(), gzip ? ".gz" : "");
+        FileChannel fileChannel = FileChannel.open(directory.resolve(fileName),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        fileOutput = new DigestingChannel(fileChannel);
+        channel = gzip
+                ? Channels.newChannel(new GZIPOutputStream(Channels.newOutputStream(fileOutput), buffer.capacity()))
+                : fileOutput;
+        rows = 0;
+
+        put(HEADER);
+    }
+
+    private void closeChunk() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        flush();
+        channel.close(); // gzip이면 trailer까지 기록된 뒤 파일 채널이 닫힘
+        files.add(new ExportFile(fileName, partition, rows, fileOutput.bytes(),
+                HexFormat.of().formatHex(fileOutput.digest())));
+        channel = null;
+        fileOutput = null;
+    }
+
+    private void put(byte[] data) throws IOException {
+        if (data.length > buffer.remaining()) {
+            flush();
+        }
+        if (data.length > buffer.capacity()) {
+            // 버퍼보다 큰 행은 그대로 기록
+            ByteBuffer wrapped = ByteBuffer.wrap(data);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+            return;
+        }
+        buffer.put(data);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static String value(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 파일 채널에 실제로 기록된 바이트만 SHA-256/바이트 수에 반영
+     */
+    private static final class DigestingChannel implements WritableByteChannel {
+
+        private final WritableByteChannel delegate;
+        private final MessageDigest digest;
+        private long bytes;
+
+        DigestingChannel(WritableByteChannel delegate) {
+            this.delegate = delegate;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            ByteBuffer written = source.duplicate();
+            int count = delegate.write(source);
+            written.limit(written.position() + count);
+            digest.update(written);
+            bytes += count;
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        long bytes() {
+            return bytes;
+        }
+
+        byte[] digest() {
+            return digest.digest();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.settleflow.settlementservice.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.settleflow.common.enums.SettlementStatus;
+import com.settleflow.settlementservice.config.ExportProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 정산 데이터 파일 추출 (재무팀 전달용)
+ * - 주문일 단위로 파티션을 나눠 병렬로 MongoDB 커서 → gzip CSV 청크 파일 스트리밍 기록
+ * - 완료 후 파일 목록/행 수/체크섬을 담은 manifest.json 작성 (마지막에 rename하므로 매니페스트가 있으면 추출 완료)
+ * - 조회 API(GET /settlements)와 분리된 별도 프로세스로 실행 후 종료 (application-export.yml)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "settlement.export", name = "enabled", havingValue = "true")
+public class SettlementExportRunner implements ApplicationRunner {
+
+    private static final String COLLECTION = "settlements";
+    private static final String MANIFEST = "manifest.json";
+
+    private final MongoTemplate mongoTemplate;
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        LocalDate from = LocalDate.parse(exportProperties.getFrom());
+        LocalDate to = LocalDate.parse(exportProperties.getTo());
+        Path outputDirectory = Files.createDirectories(Path.of(exportProperties.getDirectory(), from + "_" + to));
+        long startedAt = System.currentTimeMillis();
+        log.info("Settlement export started: from={}, to={}, directory={}, threads={}",
+                from, to, outputDirectory, exportProperties.getThreads());
+
+        ExecutorService executor = Executors.newFixedThreadPool(exportProperties.getThreads());
+        List<ExportFile> files;
+        try {
+            List<CompletableFuture<List<ExportFile>>> partitions = from.datesUntil(to.plusDays(1))
+                    .map(day -> CompletableFuture.supplyAsync(() -> exportDay(day, outputDirectory), executor))
+                    .toList();
+            files = partitions.stream()
+                    .map(CompletableFuture::join)
+                    .flatMap(List::stream)
+                    .sorted(Comparator.comparing(ExportFile::getName))
+                    .toList();
+        } finally {
+            executor.shutdown();
+        }
+
+        ExportManifest manifest = new ExportManifest(
+                from.toString(),
+                to.toString(),
+                LocalDateTime.now().toString(),
+                exportProperties.isGzip(),
+                SettlementCsvChunkWriter.COLUMNS,
+                files.stream().mapToLong(ExportFile::getRows).sum(),
+                files
+        );
+        writeManifest(outputDirectory, manifest);
+
+        log.info("Settlement export finished: files={}, rows={}, elapsedMs={}",
+                files.size(), manifest.getTotalRows(), System.currentTimeMillis() - startedAt);
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    /**
+     * 하루치 정산을 CSV 청크 파일로 기록
+     * - orderedAt은 ISO-8601 문자열이므로 사전순 범위 조회 = 시간순 범위 조회
+     * - status 전체 값을 $in으로 주어 status_orderedAt 복합 인덱스로 범위 스캔 (orderedAt 단독 인덱스 추가 없이)
+     */
+    private List<ExportFile> exportDay(LocalDate day, Path outputDirectory) {
+        List<String> statuses = Arrays.stream(SettlementStatus.values()).map(Enum::name).toList();
+        Bson filter = Filters.and(
+                Filters.in("status", statuses),
+                Filters.gte("orderedAt", day.atStartOfDay().toString()),
+                Filters.lt("orderedAt", day.plusDays(1).atStartOfDay().toString())
+        );
+
+        SettlementCsvChunkWriter writer = new SettlementCsvChunkWriter(outputDirectory, "settlements-" + day, day.toString(),
+                exportProperties.getChunkRows(), exportProperties.getBufferSize(), exportProperties.isGzip());
+        try (writer;
+             MongoCursor<Document> cursor = mongoTemplate.getCollection(COLLECTION)
+                     .find(filter)
+                     .batchSize(exportProperties.getBatchSize())
+                     .iterator()) {
+            while (cursor.hasNext()) {
+                writer.write(cursor.next());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 추출 파일 쓰기 실패: day=" + day, e);
+        }
+
+        List<ExportFile> files = writer.files();
+        log.info("Export partition done: day={}, files={}, rows={}",
+                day, files.size(), files.stream().mapToLong(ExportFile::getRows).sum());
+        return files;
+    }
+
+    private void writeManifest(Path outputDirectory, ExportManifest manifest) throws IOException {
+        Path temp = outputDirectory.resolve(MANIFEST + ".tmp");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), manifest);
+        Files.move(temp, outputDirectory.resolve(MANIFEST), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,30 @@
+package com.settleflow.settlementservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 정산 조회 캐시 단계 (Redis @Cacheable, 로컬 상태 저장소)
+ */
+@Name(SettlementCacheLookupEvent.NAME)
+@Label("Settlement Cache Lookup")
+@Description("캐시 조회 소요 시간과 적중 여부")
+@Category({"SettleFlow", "Settlement"})
+@StackTrace(false)
+public class SettlementCacheLookupEvent extends Event {
+
+    public static final String NAME = "com.settleflow.settlement.CacheLookup";
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Hit")
+    public boolean hit;
+}
@@ -0,0 +1,24 @@
+package com.settleflow.settlementservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 정산 금액 계산 단계 (SettlementCalculator)
+ */
+@Name(SettlementComputeEvent.NAME)
+@Label("Settlement Compute")
+@Description("수수료/정산액 계산 소요 시간")
+@Category({"SettleFlow", "Settlement"})
+@StackTrace(false)
+public class SettlementComputeEvent extends Event {
+
+    public static final String NAME = "com.settleflow.settlement.Compute";
+
+    @Label("Order ID")
+    public long orderId;
+}
@@ -0,0 +1,33 @@
+package com.settleflow.settlementservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 생성 이벤트 본문 역직렬화 단계 (SettlementConsumer)
+ */
+@Name(SettlementDeserializeEvent.NAME)
+@Label("Settlement Deserialize")
+@Description("byte[] 본문 → OrderCreatedEvent JSON 역직렬화 소요 시간")
+@Category({"SettleFlow", "Settlement"})
+@StackTrace(false)
+public class SettlementDeserializeEvent extends Event {
+
+    public static final String NAME = "com.settleflow.settlement.Deserialize";
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("Partition")
+    public int partition;
+
+    @Label("Offset")
+    public long offset;
+
+    @Label("Payload Bytes")
+    public int bytes;
+}
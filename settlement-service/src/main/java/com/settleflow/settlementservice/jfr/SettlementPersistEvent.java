@@ -0,0 +1,28 @@
+package com.settleflow.settlementservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 정산 저장 단계 (MongoDB insert)
+ */
+@Name(SettlementPersistEvent.NAME)
+@Label("Settlement Persist")
+@Description("정산 문서 insert 소요 시간과 결과")
+@Category({"SettleFlow", "Settlement"})
+@StackTrace(false)
+public class SettlementPersistEvent extends Event {
+
+    public static final String NAME = "com.settleflow.settlement.Persist";
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("Outcome")
+    @Description("INSERTED, DUPLICATE, FAILED")
+    public String outcome;
+}
@@ -0,0 +1,262 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.settleflow.common.enums.SettlementStatus;
+import com.settleflow.common.event.EventHeaders;
+import com.settleflow.common.event.OrderCreatedEvent;
+import com.settleflow.settlementservice.config.ExactlyOnceConfig;
+import com.settleflow.settlementservice.config.LocalStoreProperties;
+import com.settleflow.settlementservice.dedupe.SettlementDedupeFilter;
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.domain.SettlementCalculator;
+import com.settleflow.settlementservice.service.SettlementCacheInvalidator;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exactly-once 주문 생성 이벤트 처리 (settlement.exactly-once.enabled=true)
+ * - poll 단위 배치를 MongoDB 트랜잭션 하나로 처리: 정산 Bulk Upsert + 파티션 오프셋 저장
+ *   → 커밋되면 둘 다 반영, 실패하면 둘 다 없음 (재처리 시 저장된 오프셋 다음부터 다시 읽음)
+ * - 정산은 $setOnInsert Upsert라 중복 키 예외/건별 중복 판정이 필요 없음 (기존 문서 - 취소 포함 - 는 그대로)
+ *   단, 생성보다 먼저 도착한 취소로 만들어진 금액 없는 CANCELLED 문서는 같은 Bulk에서 금액만 채움
+ * - changelog/로컬 저장소 반영은 MongoDB 커밋 이후 (새로 생성된 정산 + 금액을 채운 취소 문서)
+ * - 지원하지 않는 스키마 버전/깨진 본문은 트랜잭션 전에 DLT(order-create-topic.DLT)로 발행하고 오프셋만 전진
+ *   (DLT 발행이 실패하면 예외로 배치 전체 재시도 - 건너뛰어 유실되지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "settlement.exactly-once", name = "enabled", havingValue = "true")
+public class ExactlyOnceSettlementConsumer implements ConsumerSeekAware {
+
+    private static final String CREATE_TOPIC = "order-create-topic";
+
+    private final MongoTemplate mongoTemplate;
+    private final SettlementOffsetStore offsetStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MongoWriteBackpressure backpressure;
+    private final SettlementChangelogPublisher changelogPublisher;
+    private final SettlementStateStore stateStore;
+    private final LocalStoreProperties localStoreProperties;
+    private final SettlementDedupeFilter dedupeFilter;
+    private final SettlementCacheInvalidator cacheInvalidator;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+
+    public ExactlyOnceSettlementConsumer(MongoTemplate mongoTemplate,
+                                         SettlementOffsetStore offsetStore,
+                                         @Qualifier("mongoTransactionManager") PlatformTransactionManager transactionManager,
+                                         ObjectMapper objectMapper,
+                                         MongoWriteBackpressure backpressure,
+                                         SettlementChangelogPublisher changelogPublisher,
+                                         SettlementStateStore stateStore,
+                                         LocalStoreProperties localStoreProperties,
+                                         SettlementDedupeFilter dedupeFilter,
+                                         SettlementCacheInvalidator cacheInvalidator,
+                                         DeadLetterPublishingRecoverer deadLetterRecoverer) {
+        this.mongoTemplate = mongoTemplate;
+        this.offsetStore = offsetStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.backpressure = backpressure;
+        this.changelogPublisher = changelogPublisher;
+        this.stateStore = stateStore;
+        this.localStoreProperties = localStoreProperties;
+        this.dedupeFilter = dedupeFilter;
+        this.cacheInvalidator = cacheInvalidator;
+        this.deadLetterRecoverer = deadLetterRecoverer;
+    }
+
+    /**
+     * 파티션 할당 시 MongoDB에 저장된 오프셋 다음부터 읽음 (Kafka 커밋 오프셋보다 우선)
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        assignments.forEach((partition, position) -> offsetStore.load(partition).ifPresent(stored -> {
+            if (stored + 1 != position) {
+                log.info("Seek to stored offset: partition={}, stored={}, position={}", partition, stored, position);
+                callback.seek(partition.topic(), partition.partition(), stored + 1);
+            }
+        }));
+    }
+
+    @KafkaListener(topics = CREATE_TOPIC, groupId = "settlement-group",
+            containerFactory = ExactlyOnceConfig.EXACTLY_ONCE_BATCH_FACTORY,
+            autoStartup = "${spring.kafka.listener.auto-startup:true}")
+    public void consumeBatch(List<ConsumerRecord<String, byte[]>> records) {
+        Map<Long, Settlement> settlements = new LinkedHashMap<>();
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+
+        for (ConsumerRecord<String, byte[]> record : records) {
+            // 건너뛰는 레코드도 오프셋은 전진
+            offsets.merge(new TopicPartition(record.topic(), record.partition()), record.offset(), Math::max);
+
+            OrderCreatedEvent event = parse(record);
+            if (event != null && event.getOrderId() != null) {
+                settlements.putIfAbsent(event.getOrderId(), SettlementCalculator.calculate(event));
+            }
+        }
+
+        UpsertResult upserted;
+        long startedAt = System.nanoTime();
+        try {
+            upserted = transactionTemplate.execute(status -> {
+                UpsertResult result = upsertSettlements(new ArrayList<>(settlements.values()));
+                offsetStore.saveAll(offsets);
+                return result;
+            });
+            backpressure.recordWrite(System.nanoTime() - startedAt, true);
+        } catch (RuntimeException e) {
+            backpressure.recordWrite(System.nanoTime() - startedAt, false);
+            if (isTransient(e)) {
+                // 트랜잭션이 롤백되었으므로 배치 전체 재시도해도 안전
+                log.warn("Transient MongoDB error on exactly-once batch, will retry: size={}", records.size());
+            } else {
+                log.error("Exactly-once batch failed, will retry: size={}", records.size(), e);
+            }
+            throw e;
+        }
+
+        List<Settlement> created = upserted == null ? List.of() : upserted.created();
+        log.info("Exactly-once batch committed: records={}, settlements={}, created={}, offsets={}",
+                records.size(), settlements.size(), created.size(), offsets);
+
+        if (!created.isEmpty()) {
+            changelogPublisher.publishAll(created);
+            created.forEach(settlement -> {
+                if (dedupeFilter.isEnabled()) {
+                    dedupeFilter.put(settlement.getOrderId());
+                }
+            });
+        }
+
+        List<Settlement> changed = new ArrayList<>(created);
+        if (upserted != null && upserted.placeholdersCompleted()) {
+            changed.addAll(findCompletedPlaceholders(settlements.keySet()));
+        }
+        updateLocalStore(changed, offsets);
+    }
+
+    /**
+     * 이번 배치에서 금액을 채운 취소 문서를 다시 읽어 changelog 발행 + 캐시 무효화 (드문 경우라 조회 1회)
+     */
+    private List<Settlement> findCompletedPlaceholders(Collection<Long> orderIds) {
+        Query query = Query.query(Criteria.where("orderId").in(orderIds)
+                .and("status").is(SettlementStatus.CANCELLED.name()));
+        List<Settlement> cancelled = mongoTemplate.find(query, Settlement.class);
+        log.info("Filled amounts of settlements cancelled before creation: count={}", cancelled.size());
+        changelogPublisher.publishAll(cancelled);
+        cacheInvalidator.evict(cancelled.stream().map(Settlement::getOrderId).toList());
+        return cancelled;
+    }
+
+    /**
+     * 없을 때만 생성 (이미 있는 정산 - 취소 포함 - 은 건드리지 않음)
+     * - 금액 없는 취소 문서만 금액을 채우는 updateOne을 Upsert 뒤에 붙임 (Upsert 인덱스가 settlements 순서와 일치하도록)
+     * @return 이번에 새로 생성된 정산과 취소 문서 보완 여부
+     */
+    private UpsertResult upsertSettlements(List<Settlement> settlements) {
+        if (settlements.isEmpty()) {
+            return new UpsertResult(List.of(), false);
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class);
+        for (Settlement settlement : settlements) {
+            Query query = Query.query(Criteria.where("orderId").is(settlement.getOrderId()));
+            Update update = new Update()
+                    .setOnInsert("userId", settlement.getUserId())
+                    .setOnInsert("totalAmount", settlement.getTotalAmount())
+                    .setOnInsert("fee", settlement.getFee())
+                    .setOnInsert("settleAmount", settlement.getSettleAmount())
+                    .setOnInsert("orderedAt", settlement.getOrderedAt())
+                    .setOnInsert("status", settlement.getStatus());
+            bulkOps.upsert(query, update);
+        }
+        for (Settlement settlement : settlements) {
+            Query placeholder = Query.query(Criteria.where("orderId").is(settlement.getOrderId())
+                    .and("totalAmount").exists(false));
+            Update fill = new Update()
+                    .set("userId", settlement.getUserId())
+                    .set("totalAmount", settlement.getTotalAmount())
+                    .set("fee", settlement.getFee())
+                    .set("settleAmount", settlement.getSettleAmount())
+                    .set("orderedAt", settlement.getOrderedAt());
+            bulkOps.updateOne(placeholder, fill);
+        }
+        BulkWriteResult result = bulkOps.execute();
+
+        List<Settlement> created = new ArrayList<>(result.getUpserts().size());
+        for (BulkWriteUpsert upsert : result.getUpserts()) {
+            created.add(settlements.get(upsert.getIndex()));
+        }
+        // $setOnInsert만 있는 Upsert는 기존 문서를 수정하지 않으므로 수정 건수 = 금액을 채운 취소 문서 수
+        return new UpsertResult(created, result.getModifiedCount() > 0);
+    }
+
+    private record UpsertResult(List<Settlement> created, boolean placeholdersCompleted) {
+    }
+
+    private OrderCreatedEvent parse(ConsumerRecord<String, byte[]> record) {
+        OrderEventEnvelope envelope = OrderEventEnvelope.of(record);
+        if (envelope.isOtherEventType(EventHeaders.ORDER_CREATED) || record.value() == null) {
+            return null;
+        }
+        if (envelope.isUnsupportedVersion()) {
+            log.error("Unsupported event schema version, sending to DLT: version={}, orderId={}, partition={}, offset={}",
+                    envelope.schemaVersion(), envelope.orderId(), record.partition(), record.offset());
+            deadLetterRecoverer.accept(record, new DeserializationException(
+                    "Unsupported event schema version: " + envelope.schemaVersion(), record.value(), false, null));
+            return null;
+        }
+        try {
+            return objectMapper.readValue(record.value(), OrderCreatedEvent.class);
+        } catch (IOException e) {
+            log.error("Malformed order event payload, sending to DLT: partition={}, offset={}", record.partition(), record.offset());
+            deadLetterRecoverer.accept(record, new DeserializationException(
+                    "Malformed order event payload", record.value(), false, e));
+            return null;
+        }
+    }
+
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void updateLocalStore(List<Settlement> settlements, Map<TopicPartition, Long> checkpoints) {
+        if (!localStoreProperties.isEnabled()) {
+            return;
+        }
+        try {
+            stateStore.putAll(settlements, checkpoints);
+        } catch (Exception e) {
+            log.warn("Local store update failed: checkpoints={}", checkpoints, e);
+        }
+    }
+}
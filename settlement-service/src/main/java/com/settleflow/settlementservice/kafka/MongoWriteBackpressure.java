@@ -0,0 +1,157 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.settleflow.settlementservice.config.BackpressureProperties;
+import com.settleflow.settlementservice.config.KafkaConsumerConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB 쓰기 지연/실패율 기반 적응형 흐름 제어
+ * - 쓰기마다 지연(ms)과 실패 여부를 EWMA로 누적
+ * - 임계치 초과 시 리스너 컨테이너를 pause (poll은 계속되므로 하트비트 유지, 리밸런스 없음)
+ * - 정지 시간이 지나면 resume 후 새 샘플로 재판정, 연속 과부하면 정지 시간을 2배로 늘림
+ * - Bulk 쓰기 청크 크기는 AIMD로 조절 (과부하 시 절반, 정상 시 단계적 증가)
+ *   취소 배치 리스너는 Bulk 청크로, 건별로 쓰는 생성 리스너는 max.poll.records로 적용 (컨테이너 재시작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoWriteBackpressure {
+
+    private final BackpressureProperties properties;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+
+    private double latencyEwmaMs;
+    private double errorRateEwma;
+    private int samples;
+
+    private volatile int batchSize = -1;
+    private volatile boolean paused;
+    private long pausedUntil;
+    private long currentPauseMs;
+    private int appliedPollRecords = -1;
+
+    /**
+     * MongoDB 쓰기 1회(단건 또는 Bulk 청크) 결과 기록
+     */
+    public synchronized void recordWrite(long elapsedNanos, boolean success) {
+        double latencyMs = TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / 1000.0;
+        double alpha = properties.getEwmaAlpha();
+        if (samples == 0) {
+            latencyEwmaMs = latencyMs;
+            errorRateEwma = success ? 0.0 : 1.0;
+        } else {
+            latencyEwmaMs = alpha * latencyMs + (1 - alpha) * latencyEwmaMs;
+            errorRateEwma = alpha * (success ? 0.0 : 1.0) + (1 - alpha) * errorRateEwma;
+        }
+        samples++;
+    }
+
+    /**
+     * 현재 Bulk 쓰기 청크 크기
+     */
+    public int batchSize() {
+        int current = batchSize;
+        return current > 0 ? current : properties.getMaxBatchSize();
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * 주기적으로 상태를 판정하여 pause/resume 및 청크 크기 조정
+     */
+    @Scheduled(fixedDelayString = "${settlement.backpressure.evaluate-interval-ms:1000}")
+    public synchronized void evaluate() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (paused) {
+            if (now >= pausedUntil) {
+                resumeListeners();
+            }
+            return;
+        }
+
+        if (samples < properties.getMinSamples()) {
+            return;
+        }
+
+        if (isStressed()) {
+            currentPauseMs = currentPauseMs == 0
+                    ? properties.getInitialPauseMs()
+                    : Math.min(currentPauseMs * 2, properties.getMaxPauseMs());
+            batchSize = Math.max(properties.getMinBatchSize(), batchSize() / 2);
+            pauseListeners(now);
+        } else {
+            currentPauseMs = 0;
+            batchSize = Math.min(properties.getMaxBatchSize(), batchSize() + properties.getBatchSizeStep());
+            if (batchSize == properties.getMaxBatchSize() && appliedPollRecords >= 0) {
+                applyCreatePollRecords();
+            }
+        }
+    }
+
+    private boolean isStressed() {
+        return latencyEwmaMs > properties.getLatencyThresholdMs()
+                || errorRateEwma > properties.getErrorRateThreshold();
+    }
+
+    private void pauseListeners(long now) {
+        log.warn("MongoDB under stress, pausing listeners: latencyEwmaMs={}, errorRate={}, pauseMs={}, batchSize={}",
+                String.format("%.1f", latencyEwmaMs), String.format("%.2f", errorRateEwma), currentPauseMs, batchSize);
+        listenerRegistry.getListenerContainers().forEach(MessageListenerContainer::pause);
+        paused = true;
+        pausedUntil = now + currentPauseMs;
+    }
+
+    private void resumeListeners() {
+        log.info("Resuming listeners after backpressure pause: batchSize={}", batchSize());
+        listenerRegistry.getListenerContainers().forEach(MessageListenerContainer::resume);
+        paused = false;
+        // 재개 후에는 새 샘플만으로 판정
+        samples = 0;
+        applyCreatePollRecords();
+    }
+
+    /**
+     * 생성 리스너(레코드 단위, 건별 insert)의 poll 크기를 현재 청크 크기로 맞춤
+     * - max.poll.records는 Consumer 생성 시에만 적용되므로 컨테이너를 재시작 (처리 중인 레코드는 마치고 커밋 후 정지)
+     * - 재시작은 과부하 정지가 끝날 때와 최대 크기로 회복했을 때만 (단계적 증가마다 재시작하지 않음)
+     *   회복 시에는 재정의를 지워 원래 설정(spring.kafka.consumer.max-poll-records)으로 돌아감
+     * - 정적 멤버십(instance-id)이면 session.timeout.ms 안에 다시 합류하므로 리밸런스 없음
+     * - Exactly-once 배치 리스너는 배치 하나가 트랜잭션 하나라 대상이 아님 (pause만 적용)
+     */
+    private void applyCreatePollRecords() {
+        int target = batchSize() >= properties.getMaxBatchSize() ? -1 : batchSize();
+        if (target == appliedPollRecords) {
+            return;
+        }
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(KafkaConsumerConfig.CREATE_LISTENER_ID);
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+        Properties overrides = container.getContainerProperties().getKafkaConsumerProperties();
+        if (target < 0) {
+            overrides.remove(ConsumerConfig.MAX_POLL_RECORDS_CONFIG);
+        } else {
+            overrides.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(target));
+        }
+        appliedPollRecords = target;
+        log.info("Restarting create listener to apply poll size: maxPollRecords={}", target < 0 ? "default" : target);
+        // stop 콜백은 컨테이너 스레드에서 불리므로 재시작은 다른 스레드에서
+        container.stop(() -> CompletableFuture.runAsync(container::start));
+    }
+}
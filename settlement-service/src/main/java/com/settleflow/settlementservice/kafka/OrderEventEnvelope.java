@@ -0,0 +1,67 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.settleflow.common.event.EventHeaders;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 주문 이벤트 Record의 Envelope 헤더 (본문 역직렬화 없이 읽음)
+ * - 헤더가 없는 이전 형식 메시지는 각 값이 null
+ */
+final class OrderEventEnvelope {
+
+    private final String eventType;
+    private final Integer schemaVersion;
+    private final Long orderId;
+    private final Long producedAt;
+
+    private OrderEventEnvelope(String eventType, Integer schemaVersion, Long orderId, Long producedAt) {
+        this.eventType = eventType;
+        this.schemaVersion = schemaVersion;
+        this.orderId = orderId;
+        this.producedAt = producedAt;
+    }
+
+    static OrderEventEnvelope of(ConsumerRecord<?, ?> record) {
+        Headers headers = record.headers();
+        return new OrderEventEnvelope(
+                EventHeaders.decodeString(value(headers, EventHeaders.EVENT_TYPE)),
+                EventHeaders.decodeInt(value(headers, EventHeaders.SCHEMA_VERSION)),
+                EventHeaders.decodeLong(value(headers, EventHeaders.ORDER_ID)),
+                EventHeaders.decodeLong(value(headers, EventHeaders.PRODUCED_AT))
+        );
+    }
+
+    String eventType() {
+        return eventType;
+    }
+
+    Integer schemaVersion() {
+        return schemaVersion;
+    }
+
+    Long orderId() {
+        return orderId;
+    }
+
+    /**
+     * Producer가 발행한 시각 (epoch millis)
+     */
+    Long producedAt() {
+        return producedAt;
+    }
+
+    boolean isOtherEventType(String expected) {
+        return eventType != null && !expected.equals(eventType);
+    }
+
+    boolean isUnsupportedVersion() {
+        return schemaVersion != null && schemaVersion > EventHeaders.CURRENT_SCHEMA_VERSION;
+    }
+
+    private static byte[] value(Headers headers, String key) {
+        Header header = headers.lastHeader(key);
+        return header == null ? null : header.value();
+    }
+}
@@ -0,0 +1,57 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.settleflow.settlementservice.config.ChangelogProperties;
+import com.settleflow.settlementservice.domain.Settlement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 정산 상태 변경을 Compacted changelog 토픽으로 발행
+ * - Key는 orderId: 컴팩션 후에도 주문별 최신 상태 1건은 항상 남음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementChangelogPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ChangelogProperties changelogProperties;
+
+    public boolean isEnabled() {
+        return changelogProperties.isPublishEnabled();
+    }
+
+    public void publish(Settlement settlement) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        String key = String.valueOf(settlement.getOrderId());
+        kafkaTemplate.send(changelogProperties.getTopic(), key, settlement)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        // changelog는 MongoDB의 사본이므로 실패해도 정산 처리 자체는 유지
+                        log.error("Changelog publish failed: OrderId={}", key, ex);
+                    }
+                });
+    }
+
+    public void publishAll(Collection<Settlement> settlements) {
+        for (Settlement settlement : settlements) {
+            publish(settlement);
+        }
+    }
+
+    /**
+     * 버퍼에 남은 발행 건을 모두 전송 (실행 후 바로 종료하는 배치 도구용)
+     */
+    public void flush() {
+        if (isEnabled()) {
+            kafkaTemplate.flush();
+        }
+    }
+}
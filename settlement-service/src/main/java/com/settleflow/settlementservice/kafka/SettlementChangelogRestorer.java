@@ -0,0 +1,286 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.settleflow.common.enums.SettlementStatus;
+import com.settleflow.settlementservice.config.ChangelogProperties;
+import com.settleflow.settlementservice.config.LocalStoreProperties;
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * changelog 토픽으로부터 로컬 상태 저장소를 복원하고 이후 변경분을 계속 따라감
+ * - 파티션마다 전용 Consumer/스레드를 두어 병렬 복원
+ * - Consumer Group 없이 assign()으로 읽으므로 오프셋 커밋/리밸런스가 없음
+ * - 모든 파티션이 기동 시점의 끝 오프셋까지 따라잡으면 복원 완료
+ * - 복원은 백그라운드로 진행하고 기동을 막지 않음, 완료 전까지 조회는 MongoDB로 폴백 (isRestored)
+ * - 로컬 저장소를 쓰는 쓰기 노드도 항상 따라감: 다른 노드가 처리한 취소는 changelog로만 들어오기 때문
+ * - 역직렬화할 수 없는 레코드는 건너뛰고, poll/저장소 반영 오류는 마지막 반영 위치부터 백오프 재시도
+ * - 재시도를 소진해 follow가 멈춘 파티션이 있으면 복원 완료를 취소 (이후 변경을 받지 못하므로 조회는 MongoDB 폴백)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementChangelogRestorer implements SmartLifecycle {
+
+    private final KafkaProperties kafkaProperties;
+    private final ChangelogProperties changelogProperties;
+    private final LocalStoreProperties localStoreProperties;
+    private final SettlementStateStore stateStore;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger failedPartitions = new AtomicInteger();
+    private final AtomicBoolean restored = new AtomicBoolean(false);
+    private ExecutorService executor;
+    private CountDownLatch restoreLatch;
+    private long startedAt;
+
+    /**
+     * 로컬 저장소를 조회에 써도 되는지 (복원 완료 여부)
+     * - changelog를 따라가지 않는 노드는 다른 노드의 변경을 받지 못하므로 항상 false
+     * - 복원 후 follow가 멈춘 파티션이 생기면 다시 false
+     * - false면 조회는 MongoDB로 폴백해야 함
+     */
+    public boolean isRestored() {
+        return restored.get();
+    }
+
+    @Override
+    public void start() {
+        boolean follow = changelogProperties.isRestoreEnabled() || localStoreProperties.isEnabled();
+        if (!follow || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<TopicPartition> partitions = discoverPartitions();
+        if (partitions.isEmpty()) {
+            log.warn("Changelog topic has no partitions: topic={}", changelogProperties.getTopic());
+            restored.set(true);
+            return;
+        }
+
+        startedAt = System.currentTimeMillis();
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 파티션별 follow 스레드 + 복원 지연 감시 스레드 1개
+        executor = Executors.newFixedThreadPool(partitions.size() + 1,
+                r -> new Thread(r, "changelog-restore-" + threadIndex.getAndIncrement()));
+        restoreLatch = new CountDownLatch(partitions.size());
+        partitions.forEach(partition -> executor.submit(() -> follow(partition)));
+        executor.submit(this::warnIfRestoreTimesOut);
+
+        log.info("Changelog restore started in background: partitions={}", partitions.size());
+    }
+
+    /**
+     * 제한 시간 안에 복원이 끝나지 않으면 경고만 남김 (복원은 계속 진행, 그동안 조회는 MongoDB 폴백)
+     */
+    private void warnIfRestoreTimesOut() {
+        try {
+            if (!restoreLatch.await(changelogProperties.getRestoreTimeoutMs(), TimeUnit.MILLISECONDS) && running.get()) {
+                log.warn("Changelog restore not finished within timeout, reads fall back to MongoDB: timeoutMs={}, remainingPartitions={}",
+                        changelogProperties.getRestoreTimeoutMs(), restoreLatch.getCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 파티션 하나가 따라잡았거나(또는 실패) 끝났을 때 호출, 마지막 파티션이면 복원 완료 판정
+     */
+    private void onPartitionRestored() {
+        restoreLatch.countDown();
+        if (restoreLatch.getCount() > 0) {
+            return;
+        }
+        if (failedPartitions.get() > 0) {
+            log.error("Changelog restore failed, reads keep falling back to MongoDB: failedPartitions={}",
+                    failedPartitions.get());
+            return;
+        }
+        if (restored.compareAndSet(false, true)) {
+            log.info("Changelog restore finished: entries={}, elapsedMs={}",
+                    stateStore.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running.compareAndSet(true, false)) {
+            return;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        // 감시 스레드가 대기 중이면 풀어줌
+        while (restoreLatch != null && restoreLatch.getCount() > 0) {
+            restoreLatch.countDown();
+        }
+        try {
+            executor.awaitTermination(changelogProperties.getPollTimeoutMs() * 4, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 파티션 하나를 처음부터 읽어 저장소에 반영하고, 끝 오프셋 도달 후에도 계속 tail
+     * - 오류 시 Consumer를 새로 만들어 마지막으로 반영한 다음 오프셋부터 다시 읽음 (반영은 멱등)
+     * - 연속 실패가 followMaxRetries를 넘으면 이 파티션의 follow를 멈춤
+     */
+    private void follow(TopicPartition partition) {
+        boolean caughtUp = false;
+        long endOffset = -1L;
+        long nextOffset = -1L;
+        int failures = 0;
+
+        while (running.get()) {
+            try (Consumer<String, Settlement> consumer = createConsumer()) {
+                List<TopicPartition> assignment = List.of(partition);
+                consumer.assign(assignment);
+                if (nextOffset < 0) {
+                    consumer.seekToBeginning(assignment);
+                } else {
+                    consumer.seek(partition, nextOffset);
+                }
+                if (endOffset < 0) {
+                    endOffset = consumer.endOffsets(assignment).get(partition);
+                }
+
+                Duration pollTimeout = Duration.ofMillis(changelogProperties.getPollTimeoutMs());
+                while (running.get()) {
+                    if (!caughtUp && consumer.position(partition) >= endOffset) {
+                        caughtUp = true;
+                        onPartitionRestored();
+                    }
+                    for (ConsumerRecord<String, Settlement> record : consumer.poll(pollTimeout)) {
+                        apply(record);
+                        nextOffset = record.offset() + 1;
+                    }
+                    failures = 0;
+                }
+            } catch (Exception e) {
+                failures++;
+                if (failures > changelogProperties.getFollowMaxRetries()) {
+                    log.error("Changelog follow stopped after retries: partition={}, nextOffset={}", partition, nextOffset, e);
+                    onFollowStopped(caughtUp);
+                    return;
+                }
+                long backoffMs = Math.min(changelogProperties.getFollowMaxBackoffMs(),
+                        changelogProperties.getFollowBackoffMs() << Math.min(failures - 1, 16));
+                log.warn("Changelog follow failed, retrying: partition={}, nextOffset={}, attempt={}, backoffMs={}",
+                        partition, nextOffset, failures, backoffMs, e);
+                sleepWhileRunning(backoffMs);
+            }
+        }
+    }
+
+    /**
+     * follow를 멈춘 파티션 처리
+     * - 따라잡기 전: 실패 파티션으로 집계 (복원 완료로 판정하지 않음)
+     * - 따라잡은 뒤: 이후 변경(취소 등)이 저장소에 반영되지 않으므로 복원 완료를 취소
+     */
+    private void onFollowStopped(boolean caughtUp) {
+        failedPartitions.incrementAndGet();
+        if (!caughtUp) {
+            onPartitionRestored();
+        } else if (restored.compareAndSet(true, false)) {
+            log.error("Changelog follower stopped, reads fall back to MongoDB: failedPartitions={}", failedPartitions.get());
+        }
+    }
+
+    /**
+     * 종료 요청이 오면 바로 깨어나도록 poll 타임아웃 단위로 나눠서 대기
+     */
+    private void sleepWhileRunning(long millis) {
+        long deadline = System.currentTimeMillis() + millis;
+        try {
+            while (running.get()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return;
+                }
+                Thread.sleep(Math.min(remaining, changelogProperties.getPollTimeoutMs()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
+    }
+
+    private void apply(ConsumerRecord<String, Settlement> record) {
+        if (record.key() == null) {
+            return;
+        }
+        if (record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null) {
+            // 값이 null이지만 Tombstone이 아님 - 재시도해도 같으므로 건너뛰고, 다음 변경이 오면 그때 반영
+            log.warn("Undeserializable changelog record skipped: partition={}, offset={}, key={}",
+                    record.partition(), record.offset(), record.key());
+            return;
+        }
+        if (record.value() == null) {
+            // Tombstone: 컴팩션 후 제거될 주문
+            stateStore.remove(Long.valueOf(record.key()));
+        } else if (!isCancelRollback(record.value())) {
+            stateStore.put(record.value());
+        }
+    }
+
+    /**
+     * CANCELLED는 종료 상태이므로, 이 노드의 Consumer가 먼저 반영한 취소를 뒤처진 changelog의 이전 상태로 덮지 않음
+     */
+    private boolean isCancelRollback(Settlement incoming) {
+        String cancelled = SettlementStatus.CANCELLED.name();
+        return !cancelled.equals(incoming.getStatus())
+                && stateStore.get(incoming.getOrderId()).filter(current -> cancelled.equals(current.getStatus())).isPresent();
+    }
+
+    private List<TopicPartition> discoverPartitions() {
+        try (Consumer<String, Settlement> consumer = createConsumer()) {
+            return consumer.partitionsFor(changelogProperties.getTopic()).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+        }
+    }
+
+    Consumer<String, Settlement> createConsumer() {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 2000);
+
+        // 역직렬화 실패는 예외 대신 값 null + 예외 헤더로 전달 (apply에서 건너뜀)
+        ErrorHandlingDeserializer<Settlement> valueDeserializer =
+                new ErrorHandlingDeserializer<>(new JsonDeserializer<>(Settlement.class, false));
+        return new KafkaConsumer<>(props, new StringDeserializer(), valueDeserializer);
+    }
+}
@@ -1,58 +1,506 @@
 package com.settleflow.settlementservice.kafka;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteResult;
+import com.settleflow.common.enums.SettlementStatus;
+import com.settleflow.common.event.EventHeaders;
+import com.settleflow.common.event.OrderCancelledEvent;
 import com.settleflow.common.event.OrderCreatedEvent;
+import com.settleflow.common.logging.PipelineLogSummary;
+import com.settleflow.settlementservice.config.KafkaConsumerConfig;
+import com.settleflow.settlementservice.config.LocalStoreProperties;
+import com.settleflow.settlementservice.dedupe.SettlementDedupeFilter;
 import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.domain.SettlementCalculator;
 import com.settleflow.settlementservice.domain.SettlementRepository;
+import com.settleflow.settlementservice.jfr.SettlementComputeEvent;
+import com.settleflow.settlementservice.jfr.SettlementDeserializeEvent;
+import com.settleflow.settlementservice.jfr.SettlementPersistEvent;
+import com.settleflow.settlementservice.service.SettlementCacheInvalidator;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DuplicateKeyException; // Spring Data 예외
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class SettlementConsumer {
+public class SettlementConsumer implements ConsumerSeekAware {
+
+    private static final String CREATE_TOPIC = "order-create-topic";
+    private static final String CANCEL_TOPIC = "order-cancel-topic";
 
     private final SettlementRepository settlementRepository;
+    private final MongoTemplate mongoTemplate;
+    private final SettlementChangelogPublisher changelogPublisher;
+    private final SettlementStateStore stateStore;
+    private final LocalStoreProperties localStoreProperties;
+    private final MongoWriteBackpressure backpressure;
+    private final ObjectMapper objectMapper;
+    private final SettlementDedupeFilter dedupeFilter;
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final PipelineLogSummary logSummary;
+    private final SettlementCacheInvalidator cacheInvalidator;
+
+    /**
+     * 파티션 할당 시 로컬 저장소 체크포인트가 커밋 오프셋보다 뒤처져 있으면
+     * 체크포인트 다음 오프셋부터 다시 읽어 로컬 저장소를 따라잡음
+     * (MongoDB 반영 후 로컬 반영 전에 종료된 경우 - 재처리는 멱등)
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (!localStoreProperties.isEnabled()) {
+            return;
+        }
+        assignments.forEach((partition, position) -> stateStore.checkpoint(partition).ifPresent(checkpoint -> {
+            if (checkpoint + 1 < position) {
+                log.warn("Local store behind committed offset, rewinding: partition={}, checkpoint={}, position={}",
+                        partition, checkpoint, position);
+                callback.seek(partition.topic(), partition.partition(), checkpoint + 1);
+            }
+        }));
+    }
+
+    /**
+     * 주문 생성 이벤트 수신 (값은 byte[] 그대로)
+     * - Envelope 헤더만 보고 다른 종류/이미 정산된 주문은 본문 파싱 없이 건너뜀
+     *   (재처리/리밸런스로 대량 재수신될 때 JSON 역직렬화 비용 제거)
+     *   이미 정산된 주문: 로컬 저장소 → Bloom Filter "중복 가능"이면 totalAmount만 읽는 조회 1회로 확정
+     * - 본문은 신규 주문과 금액 없는 취소 문서(금액을 채워야 함)만 파싱
+     * - 지원하지 않는 스키마 버전/깨진 본문은 DeserializationException을 던져 재시도 없이 DLT(order-create-topic.DLT)로 보냄
+     *   (상위 버전 Producer가 먼저 배포된 경우 등 - 이 서비스를 올린 뒤 DLT에서 다시 흘리면 정산됨)
+     * - 헤더가 없는 이전 형식 메시지는 그대로 본문을 파싱해 처리
+     */
+    @KafkaListener(id = KafkaConsumerConfig.CREATE_LISTENER_ID, topics = CREATE_TOPIC, groupId = "settlement-group",
+            containerFactory = KafkaConsumerConfig.CREATE_ENVELOPE_FACTORY,
+            // Exactly-once 모드에서는 ExactlyOnceSettlementConsumer가 같은 토픽을 배치로 처리
+            autoStartup = "#{!${settlement.exactly-once.enabled:false} and ${spring.kafka.listener.auto-startup:true}}")
+    public void consumeEnvelope(ConsumerRecord<String, byte[]> record) {
+        OrderEventEnvelope envelope = OrderEventEnvelope.of(record);
+        recordQueueDelay(envelope);
 
-    @KafkaListener(topics = "order-create-topic", groupId = "settlement-group")
-    public void consume(OrderCreatedEvent event) {
-        log.info("Consumer Received Message: OrderId={}", event.getOrderId());
+        if (envelope.isOtherEventType(EventHeaders.ORDER_CREATED)) {
+            log.debug("Skip non order-created event: type={}, offset={}", envelope.eventType(), record.offset());
+            return;
+        }
+        if (envelope.isUnsupportedVersion()) {
+            log.error("Unsupported event schema version, sending to DLT: version={}, orderId={}, partition={}, offset={}",
+                    envelope.schemaVersion(), envelope.orderId(), record.partition(), record.offset());
+            throw new DeserializationException("Unsupported event schema version: " + envelope.schemaVersion(),
+                    record.value(), false, null);
+        }
+        TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+        DuplicateCheck duplicateCheck = null;
+        if (envelope.orderId() != null) {
+            if (isSettledInLocalStore(envelope.orderId())) {
+                log.debug("Already settled (local store): OrderId={}", envelope.orderId());
+                updateLocalStore(List.of(), Map.of(topicPartition, record.offset()));
+                return;
+            }
+            duplicateCheck = checkDuplicate(envelope.orderId());
+            if (duplicateCheck.isSettled()) {
+                logSummary.increment("settlement.duplicate");
+                if (logSummary.sample("settlement.duplicate")) {
+                    log.warn("Duplicate Order Detected (header check, sampled): OrderId={}", envelope.orderId());
+                }
+                updateLocalStore(List.of(duplicateCheck.stored()), Map.of(topicPartition, record.offset()));
+                return;
+            }
+        }
+        if (record.value() == null) {
+            return;
+        }
 
+        OrderCreatedEvent event;
+        SettlementDeserializeEvent deserializeEvent = new SettlementDeserializeEvent();
+        deserializeEvent.begin();
         try {
-            // 1. 계산 로직
-            BigDecimal fee = event.getTotalAmount().multiply(BigDecimal.valueOf(event.getFeeRate()));
-            BigDecimal settleAmount = event.getTotalAmount().subtract(fee);
-
-            // 2. 저장 시도
-            Settlement settlement = Settlement.builder()
-                    .orderId(event.getOrderId())
-                    .userId(event.getUserId())
-                    .totalAmount(event.getTotalAmount())
-                    .fee(fee)
-                    .settleAmount(settleAmount)
-                    .orderedAt(event.getOrderedAt())
-                    .status("WAITING")
-                    .build();
-
-            settlementRepository.save(settlement);
-            log.info("Successfully Saved: OrderId={}", event.getOrderId());
+            event = objectMapper.readValue(record.value(), OrderCreatedEvent.class);
+        } catch (IOException e) {
+            // 깨진 본문은 재시도해도 같으므로 재시도 없이 DLT로 (에러 핸들러가 DeserializationException은 재시도하지 않음)
+            log.error("Malformed order event payload, sending to DLT: partition={}, offset={}", record.partition(), record.offset());
+            throw new DeserializationException("Malformed order event payload", record.value(), false, e);
+        }
+        deserializeEvent.end();
+        if (deserializeEvent.shouldCommit()) {
+            deserializeEvent.orderId = event.getOrderId() == null ? 0L : event.getOrderId();
+            deserializeEvent.partition = record.partition();
+            deserializeEvent.offset = record.offset();
+            deserializeEvent.bytes = record.value().length;
+            deserializeEvent.commit();
+        }
+        // 헤더로 이미 조회했으면 결과를 넘겨 같은 주문을 다시 조회하지 않음
+        consume(event, record.partition(), record.offset(),
+                Objects.equals(event.getOrderId(), envelope.orderId()) ? duplicateCheck : null);
+    }
+
+    public void consume(OrderCreatedEvent event, int partition, long offset) {
+        consume(event, partition, offset, null);
+    }
+
+    /**
+     * @param knownCheck 헤더 단계에서 이미 수행한 중복 판정 (없으면 여기서 판정)
+     */
+    private void consume(OrderCreatedEvent event, int partition, long offset, DuplicateCheck knownCheck) {
+        TopicPartition topicPartition = new TopicPartition(CREATE_TOPIC, partition);
+        // 건별 수신 로그 대신 카운터만 증가 (주기 요약 로그로 건수/처리량 확인)
+        logSummary.increment("settlement.received");
+
+        Settlement settlement = null;
+        try {
+            // 1. 계산 로직 (재정산 도구와 공용)
+            SettlementComputeEvent computeEvent = new SettlementComputeEvent();
+            computeEvent.begin();
+            settlement = SettlementCalculator.calculate(event);
+            computeEvent.end();
+            if (computeEvent.shouldCommit()) {
+                computeEvent.orderId = event.getOrderId();
+                computeEvent.commit();
+            }
+
+            // 2. 이미 정산된 주문인지 사전 판정 (Bloom Filter가 "중복 가능"일 때만 조회)
+            DuplicateCheck duplicateCheck = knownCheck != null ? knownCheck : checkDuplicate(event.getOrderId());
+            if (duplicateCheck.exists()) {
+                logSummary.increment("settlement.duplicate");
+                if (logSummary.sample("settlement.duplicate")) {
+                    log.warn("Duplicate Order Detected (dedupe filter, sampled): OrderId={}", event.getOrderId());
+                }
+                onDuplicate(settlement, duplicateCheck.stored(), topicPartition, offset);
+                return;
+            }
+
+            // 3. 저장 시도
+            long startedAt = System.nanoTime();
+            SettlementPersistEvent persistEvent = new SettlementPersistEvent();
+            persistEvent.begin();
+            // 저장 구간 span (Kafka 수신 span의 하위 구간)
+            Observation persistObservation = Observation.createNotStarted("settlement.persist", observationRegistry).start();
+            try (Observation.Scope ignored = persistObservation.openScope()) {
+                // save()는 _id가 있으면 덮어쓰기(upsert)이므로 반드시 insert()로 중복을 감지
+                settlementRepository.insert(settlement);
+                backpressure.recordWrite(System.nanoTime() - startedAt, true);
+                commitPersistEvent(persistEvent, event.getOrderId(), "INSERTED");
+                rememberSettled(event.getOrderId());
+            } catch (Exception e) {
+                // 중복 키 응답도 MongoDB가 정상 응답한 것이므로 성공으로 집계
+                backpressure.recordWrite(System.nanoTime() - startedAt, isDuplicate(e));
+                commitPersistEvent(persistEvent, event.getOrderId(), isDuplicate(e) ? "DUPLICATE" : "FAILED");
+                persistObservation.lowCardinalityKeyValue("outcome", isDuplicate(e) ? "duplicate" : "failed");
+                if (!isDuplicate(e)) {
+                    persistObservation.error(e);
+                }
+                throw e;
+            } finally {
+                persistObservation.stop();
+            }
+            logSummary.increment("settlement.saved");
+            if (logSummary.sample("settlement.saved")) {
+                log.info("Successfully Saved (sampled): OrderId={}", event.getOrderId());
+            }
+
+            // 4. 상태 변경을 changelog 토픽으로 전파 (읽기 노드 복원용)
+            changelogPublisher.publish(settlement);
+
+            // 5. 로컬 저장소에 정산 데이터 + 오프셋 체크포인트 반영
+            updateLocalStore(List.of(settlement), Map.of(topicPartition, offset));
 
         } catch (Exception e) {
             // ▼ [수정됨] 모든 예외를 일단 잡습니다.
 
             // 에러 메시지나 클래스 이름에 'Duplicate'가 포함되어 있는지 확인
-            if (e.getClass().getSimpleName().contains("Duplicate") || e.getMessage().contains("duplicate")) {
+            if (isDuplicate(e)) {
                 // 중복 에러라면: 로그만 남기고 정상 종료(Ack) 처리 -> Kafka가 다음 메시지로 넘어감
-                log.warn("Duplicate Order Detected (Idempotency check): OrderId={}", event.getOrderId());
+                logSummary.increment("settlement.duplicate");
+                if (logSummary.sample("settlement.duplicate")) {
+                    log.warn("Duplicate Order Detected (Idempotency check, sampled): OrderId={}", event.getOrderId());
+                }
+                rememberSettled(event.getOrderId());
+                // 필터를 거치지 않은 중복 (필터 비활성/세대 교체 직후) - 취소 선점 여부 확인용 조회 1회
+                onDuplicate(settlement, findStoredSettlement(event.getOrderId()), topicPartition, offset);
+            } else if (isTransient(e)) {
+                // MongoDB 일시 장애(선출, 타임아웃 등): 버리지 않고 에러 핸들러의 백오프 재시도에 맡김
+                logSummary.increment("settlement.transient-error");
+                if (logSummary.sample("settlement.transient-error")) {
+                    log.warn("Transient MongoDB error, will retry (sampled): OrderId={}", event.getOrderId());
+                }
+                throw (RuntimeException) e;
             } else {
                 // 중복이 아닌 진짜 다른 에러라면: 로그 찍고 그냥 넘어갈지, 재시도할지 결정
                 // (여기서는 일단 로그 찍고 넘어가는 것으로 처리하여 무한 루프 방지)
+                // 드문 오류라 샘플링하지 않고 매 건 스택트레이스까지 기록
+                logSummary.increment("settlement.failed");
                 log.error("Unknown Error processing settlement: OrderId={}", event.getOrderId(), e);
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 취소(보상) 이벤트 배치 처리
+     * - 조회 없이 Bulk Upsert 한 번으로 정산 데이터를 무효(CANCELLED) 처리
+     * - 생성 이벤트보다 취소가 먼저 도착하면 금액 없는 CANCELLED 문서가 _id를 선점하고,
+     *   뒤늦은 생성 이벤트는 _id 중복 처리 시 금액만 채움 (상태는 CANCELLED 유지)
+     * - 반영 후 Redis 정산 캐시를 무효화 (취소 전 상태가 캐시 TTL 동안 조회되지 않도록)
+     * - 실패는 모두 다시 던짐: 일시 오류는 백오프 재시도, 그 외 오류는 재시도 없이 DLT(order-cancel-topic.DLT)로 이동
+     */
+    @KafkaListener(topics = CANCEL_TOPIC, groupId = "settlement-group",
+            containerFactory = KafkaConsumerConfig.CANCEL_BATCH_FACTORY,
+            autoStartup = "${spring.kafka.listener.auto-startup:true}")
+    public void consumeCancel(@Payload List<OrderCancelledEvent> events,
+                              @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                              @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+        // 같은 배치 안의 동일 주문은 마지막 이벤트만 반영 (파티션 내 Key 순서 보장)
+        Map<Long, OrderCancelledEvent> latestByOrderId = new LinkedHashMap<>();
+        Map<TopicPartition, Long> checkpoints = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            OrderCancelledEvent event = events.get(i);
+            if (event.getOrderId() != null) {
+                latestByOrderId.put(event.getOrderId(), event);
+            }
+            checkpoints.merge(new TopicPartition(CANCEL_TOPIC, partitions.get(i)), offsets.get(i), Math::max);
+        }
+
+        if (latestByOrderId.isEmpty()) {
+            return;
+        }
+
+        try {
+            // MongoDB 상태에 따라 청크 크기가 줄어듦 (과부하 시 작은 Bulk로 나눠 쓰기)
+            List<OrderCancelledEvent> pending = new ArrayList<>(latestByOrderId.values());
+            int chunkSize = Math.max(1, backpressure.batchSize());
+            int matched = 0;
+            int upserted = 0;
+            for (int from = 0; from < pending.size(); from += chunkSize) {
+                BulkWriteResult result = executeCancelChunk(pending.subList(from, Math.min(from + chunkSize, pending.size())));
+                matched += result.getMatchedCount();
+                upserted += result.getUpserts().size();
+            }
+            log.info("Cancelled settlements: received={}, matched={}, upserted={}", events.size(), matched, upserted);
+            cacheInvalidator.evict(latestByOrderId.keySet());
+            // 취소 문서도 _id를 선점하므로 이후 생성 이벤트는 중복
+            latestByOrderId.keySet().forEach(this::rememberSettled);
+
+            // Bulk Upsert는 문서를 돌려주지 않으므로, changelog/로컬 저장소용 최신 상태는 배치당 1회 $in 조회
+            if (changelogPublisher.isEnabled() || localStoreProperties.isEnabled()) {
+                Query changed = Query.query(Criteria.where("orderId").in(latestByOrderId.keySet()));
+                List<Settlement> cancelled = mongoTemplate.find(changed, Settlement.class);
+                changelogPublisher.publishAll(cancelled);
+                updateLocalStore(cancelled, checkpoints);
+            }
+        } catch (RuntimeException e) {
+            // Upsert는 멱등이므로 배치 전체를 재시도하거나 DLT에서 다시 흘려도 안전
+            if (isTransient(e)) {
+                log.warn("Transient MongoDB error on cancel batch, will retry: size={}", latestByOrderId.size());
+            } else {
+                // 취소 유실은 정산 과지급으로 이어지므로 건너뛰지 않고 에러 핸들러가 DLT로 보내게 함
+                log.error("Error processing settlement cancel batch, sending to DLT: size={}", latestByOrderId.size(), e);
+            }
+            throw e;
+        }
+    }
+
+    private BulkWriteResult executeCancelChunk(List<OrderCancelledEvent> chunk) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class);
+        for (OrderCancelledEvent event : chunk) {
+            Query query = Query.query(Criteria.where("orderId").is(event.getOrderId()));
+            Update update = new Update()
+                    .set("status", SettlementStatus.CANCELLED.name())
+                    .set("cancelledAt", event.getCancelledAt())
+                    .setOnInsert("userId", event.getUserId());
+            bulkOps.upsert(query, update);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            BulkWriteResult result = bulkOps.execute();
+            backpressure.recordWrite(System.nanoTime() - startedAt, true);
+            return result;
+        } catch (RuntimeException e) {
+            backpressure.recordWrite(System.nanoTime() - startedAt, false);
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 정산 문서가 있는 주문 처리 (stored: 중복 판정 조회로 읽은 문서 - 추가 조회 없음)
+     * - 금액이 없는 문서(취소가 먼저 도착해 만든 CANCELLED)일 때만 이번 이벤트의 금액을 채워 넣고 전파
+     * - 로컬 저장소 사용 시 같은 조회 결과(또는 금액을 채운 문서)를 저장소에 반영
+     *   (체크포인트 되감기로 재수신된 레코드는 모두 중복 경로로 오므로, 여기서 써야 저장소가 복구됨)
+     */
+    private void onDuplicate(Settlement settlement, Settlement stored, TopicPartition topicPartition, long offset) {
+        Settlement current = stored;
+        if (stored != null && stored.getTotalAmount() == null && settlement != null) {
+            // null이면 그 사이 다른 처리가 먼저 금액을 채움 - 조회한 문서는 이미 낡았으므로 저장소에 쓰지 않음
+            current = completeCancelledPlaceholder(settlement);
+        }
+        updateLocalStore(current == null ? List.of() : List.of(current), Map.of(topicPartition, offset));
+    }
+
+    /**
+     * 금액 필드가 없는 문서만 갱신하므로 그 사이 채워진 문서는 그대로 (status/cancelledAt도 유지)
+     * @return 금액을 채운 문서, 대상이 아니면 null
+     */
+    private Settlement completeCancelledPlaceholder(Settlement settlement) {
+        Query placeholder = Query.query(Criteria.where("orderId").is(settlement.getOrderId())
+                .and("totalAmount").exists(false));
+        Update update = new Update()
+                .set("userId", settlement.getUserId())
+                .set("totalAmount", settlement.getTotalAmount())
+                .set("fee", settlement.getFee())
+                .set("settleAmount", settlement.getSettleAmount())
+                .set("orderedAt", settlement.getOrderedAt());
+        Settlement completed = mongoTemplate.findAndModify(placeholder, update,
+                FindAndModifyOptions.options().returnNew(true), Settlement.class);
+        if (completed == null) {
+            return null;
+        }
+        log.info("Filled amounts of settlement cancelled before creation: OrderId={}", completed.getOrderId());
+        changelogPublisher.publish(completed);
+        cacheInvalidator.evict(List.of(completed.getOrderId()));
+        return completed;
+    }
+
+    /**
+     * Bloom Filter가 "확실히 신규"라고 하면 조회 없이 insert, "중복 가능"이면 정산 문서 조회 1회로 확정
+     */
+    private DuplicateCheck checkDuplicate(Long orderId) {
+        if (orderId == null || !dedupeFilter.isEnabled() || !dedupeFilter.mightContain(orderId)) {
+            return DuplicateCheck.DEFINITELY_NEW;
+        }
+        Settlement stored = findStoredSettlement(orderId);
+        if (stored == null) {
+            dedupeFilter.recordFalsePositive();
+        }
+        return new DuplicateCheck(stored);
+    }
+
+    /**
+     * 중복 확정용 조회 - 로컬 저장소를 쓰지 않으면 totalAmount만 읽음 (금액 유무로 취소가 먼저 만든 문서도 판별)
+     * - 로컬 저장소를 쓰면 저장소에 반영할 문서 전체를 같은 조회로 가져옴
+     */
+    private Settlement findStoredSettlement(Long orderId) {
+        Query query = Query.query(Criteria.where("orderId").is(orderId));
+        if (!localStoreProperties.isEnabled()) {
+            query.fields().include("totalAmount");
+        }
+        return mongoTemplate.findOne(query, Settlement.class);
+    }
+
+    /**
+     * 중복 판정 결과
+     * @param stored 이미 저장된 정산 문서 (없거나 조회하지 않았으면 null)
+     */
+    private record DuplicateCheck(Settlement stored) {
+
+        static final DuplicateCheck DEFINITELY_NEW = new DuplicateCheck(null);
+
+        boolean exists() {
+            return stored != null;
+        }
+
+        /**
+         * 금액까지 있는 정산 (금액이 없으면 취소가 먼저 도착해 만든 CANCELLED 문서)
+         */
+        boolean isSettled() {
+            return stored != null && stored.getTotalAmount() != null;
+        }
+    }
+
+    /**
+     * 큐 대기 시간 = 수신 시각 - Producer 발행 시각(x-produced-at)
+     * - trace에서 발행 span 종료 ~ 수신 span 시작 사이 공백과 같은 값 (Consumer lag + poll 간격)
+     * - 수신 span 태그와 Timer(settlement.pipeline.queue.delay)로 남겨 처리 시간과 분리해서 봄
+     */
+    private void recordQueueDelay(OrderEventEnvelope envelope) {
+        if (envelope.producedAt() == null) {
+            return;
+        }
+        long delayMs = Math.max(0L, System.currentTimeMillis() - envelope.producedAt());
+        Timer.builder("settlement.pipeline.queue.delay")
+                .description("주문 이벤트 발행부터 정산 서비스 수신까지 대기 시간")
+                .register(meterRegistry)
+                .record(Duration.ofMillis(delayMs));
+
+        Observation current = observationRegistry.getCurrentObservation();
+        if (current != null) {
+            current.highCardinalityKeyValue("queue.delay.ms", String.valueOf(delayMs));
+        }
+    }
+
+    private static void commitPersistEvent(SettlementPersistEvent persistEvent, Long orderId, String outcome) {
+        persistEvent.end();
+        if (persistEvent.shouldCommit()) {
+            persistEvent.orderId = orderId;
+            persistEvent.outcome = outcome;
+            persistEvent.commit();
+        }
+    }
+
+    private void rememberSettled(Long orderId) {
+        if (orderId != null && dedupeFilter.isEnabled()) {
+            dedupeFilter.put(orderId);
+        }
+    }
+
+    /**
+     * 로컬 저장소만으로 판정 가능한 중복 (로컬 저장소 사용 시, MongoDB 조회 없음)
+     * - 금액 없는 취소 문서는 본문을 파싱해 금액을 채워야 하므로 중복으로 보지 않음
+     */
+    private boolean isSettledInLocalStore(Long orderId) {
+        return localStoreProperties.isEnabled()
+                && stateStore.get(orderId).filter(settlement -> settlement.getTotalAmount() != null).isPresent();
+    }
+
+    private static boolean isDuplicate(Exception e) {
+        return e.getClass().getSimpleName().contains("Duplicate")
+                || (e.getMessage() != null && e.getMessage().contains("duplicate"));
+    }
+
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 로컬 저장소 반영 실패는 정산 처리 실패로 보지 않음 (조회는 MongoDB로 폴백)
+     */
+    private void updateLocalStore(List<Settlement> settlements, Map<TopicPartition, Long> checkpoints) {
+        if (!localStoreProperties.isEnabled()) {
+            return;
+        }
+        try {
+            stateStore.putAll(settlements, checkpoints);
+        } catch (Exception e) {
+            log.warn("Local store update failed: checkpoints={}", checkpoints, e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.settleflow.settlementservice.config.ExactlyOnceProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.TopicPartition;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 파티션별 마지막 처리 오프셋 (MongoDB settlement_offsets 컬렉션, _id = "topic-partition")
+ * - 정산 문서와 같은 MongoDB 트랜잭션 안에서 갱신 → 정산 반영과 오프셋 전진이 원자적
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "settlement.exactly-once", name = "enabled", havingValue = "true")
+public class SettlementOffsetStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final ExactlyOnceProperties properties;
+
+    public OptionalLong load(TopicPartition partition) {
+        Document document = mongoTemplate.findById(partition.toString(), Document.class, properties.getOffsetsCollection());
+        if (document == null || document.get("offset") == null) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(((Number) document.get("offset")).longValue());
+    }
+
+    /**
+     * 오프셋 저장 (뒤로 가지 않도록 더 큰 값만 반영)
+     * - 정산 배치에서는 현재 트랜잭션에 참여, DLT로 보낸 레코드는 트랜잭션 없이 단건 반영
+     */
+    public void saveAll(Map<TopicPartition, Long> offsets) {
+        offsets.forEach((partition, offset) -> mongoTemplate.upsert(
+                Query.query(Criteria.where("_id").is(partition.toString())),
+                new Update()
+                        .max("offset", offset)
+                        .setOnInsert("topic", partition.topic())
+                        .setOnInsert("partition", partition.partition()),
+                properties.getOffsetsCollection()));
+    }
+}
@@ -0,0 +1,141 @@
+package com.settleflow.settlementservice.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.settleflow.settlementservice.config.MigrationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * settlements 금액 필드 마이그레이션: 문자열 → Decimal128
+ * - 파이프라인 업데이트($toDecimal)로 서버에서 변환 → 문서를 애플리케이션으로 가져오지 않음
+ * - _id 최소~최대를 threads개 구간으로 나누고, 구간마다 _id 순서로 batchSize개씩 범위 updateMany
+ *   (_id 인덱스 범위 조회만 사용 → 스레드마다 컬렉션 전체를 훑는 $mod 스캔 없음)
+ * - 문자열 필드가 남은 문서만 대상으로 하므로 중단 후 재실행해도 멱등
+ * - Kafka 리스너/웹 서버 없이 실행 후 종료 (application-decimal-migration.yml)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "settlement.migration", name = "decimal-enabled", havingValue = "true")
+public class SettlementDecimalMigration implements ApplicationRunner {
+
+    private static final String COLLECTION = "settlements";
+    private static final List<String> MONEY_FIELDS = List.of("totalAmount", "fee", "settleAmount");
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationProperties migrationProperties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(COLLECTION);
+        int threads = migrationProperties.getThreads();
+        long startedAt = System.currentTimeMillis();
+        log.info("Settlement Decimal128 migration started: threads={}, batchSize={}",
+                threads, migrationProperties.getBatchSize());
+
+        List<long[]> ranges = splitIdRange(collection, threads);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, ranges.size()));
+        try {
+            List<CompletableFuture<Long>> partitions = new ArrayList<>(ranges.size());
+            for (long[] range : ranges) {
+                partitions.add(CompletableFuture.supplyAsync(() -> migrateRange(collection, range[0], range[1]), executor));
+            }
+            long migrated = partitions.stream().mapToLong(CompletableFuture::join).sum();
+            long remaining = collection.countDocuments(hasStringMoney());
+            log.info("Settlement Decimal128 migration finished: documents={}, remaining={}, elapsedMs={}",
+                    migrated, remaining, System.currentTimeMillis() - startedAt);
+        } finally {
+            executor.shutdown();
+        }
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    /**
+     * [from, to] 구간을 batchSize개 _id 단위로 나눠, 문자열 금액 필드가 남은 문서만 변환
+     * - 배치 경계는 _id만 반환하는 조회(인덱스만 사용)로 구하고, 그 범위에 updateMany
+     */
+    private long migrateRange(MongoCollection<Document> collection, long from, long to) {
+        int batchSize = migrationProperties.getBatchSize();
+        Document set = new Document();
+        for (String field : MONEY_FIELDS) {
+            // 이미 Decimal128이면 그대로, 필드가 없으면(null) null 유지
+            set.append(field, new Document("$toDecimal", "$" + field));
+        }
+        List<Document> pipeline = List.of(new Document("$set", set));
+
+        long lowerBound = from;
+        long migrated = 0;
+        while (lowerBound <= to) {
+            Document batchEnd = collection.find(Filters.and(Filters.gte("_id", lowerBound), Filters.lte("_id", to)))
+                    .projection(Projections.include("_id"))
+                    .sort(Sorts.ascending("_id"))
+                    .skip(batchSize - 1)
+                    .limit(1)
+                    .first();
+            long upperBound = batchEnd == null ? to : ((Number) batchEnd.get("_id")).longValue();
+
+            Bson filter = Filters.and(
+                    Filters.gte("_id", lowerBound),
+                    Filters.lte("_id", upperBound),
+                    hasStringMoney());
+            migrated += collection.updateMany(filter, pipeline).getModifiedCount();
+
+            if (upperBound == Long.MAX_VALUE) {
+                break;
+            }
+            lowerBound = upperBound + 1;
+        }
+
+        log.info("Decimal128 migration range done: from={}, to={}, documents={}", from, to, migrated);
+        return migrated;
+    }
+
+    /**
+     * 컬렉션의 최소~최대 _id(orderId)를 threads개의 [from, to] 구간으로 분할
+     */
+    private List<long[]> splitIdRange(MongoCollection<Document> collection, int threads) {
+        Document first = collection.find().projection(Projections.include("_id")).sort(Sorts.ascending("_id")).first();
+        Document last = collection.find().projection(Projections.include("_id")).sort(Sorts.descending("_id")).first();
+        if (first == null || last == null) {
+            log.info("No settlements to migrate");
+            return List.of();
+        }
+
+        long min = ((Number) first.get("_id")).longValue();
+        long max = ((Number) last.get("_id")).longValue();
+        long step = Math.max(1, (max - min) / threads + 1);
+
+        List<long[]> ranges = new ArrayList<>(threads);
+        for (long from = min; from <= max && from >= min; from += step) {
+            ranges.add(new long[]{from, Math.min(max, from + step - 1)});
+        }
+        return ranges;
+    }
+
+    private static Bson hasStringMoney() {
+        return Filters.or(MONEY_FIELDS.stream()
+                .map(field -> Filters.type(field, BsonType.STRING))
+                .toList());
+    }
+}
@@ -0,0 +1,181 @@
+package com.settleflow.settlementservice.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.settleflow.settlementservice.config.MigrationProperties;
+import com.settleflow.settlementservice.domain.Settlement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * settlements 컬렉션 스키마 마이그레이션: _id(ObjectId) + orderId → _id(orderId)
+ * - _id는 변경할 수 없으므로 같은 컬렉션 안에서 새 형식 문서를 만들고 기존 문서를 삭제
+ *   (임시 컬렉션/renameCollection 없음 → 샤딩된 컬렉션에서도 동작)
+ * - 기존 문서를 _id(ObjectId) 순서로 batchSize씩 읽는 범위 배치 (_id 인덱스만 사용, 컬렉션 전체 스캔 없음)
+ * - ObjectId 생성 시각 구간을 threads개로 나눠 병렬 처리
+ * - 새 형식 문서는 $setOnInsert Upsert: 같은 orderId의 새 형식 문서가 이미 있으면 그대로 두고 기존 문서만 삭제
+ * - 처리된 기존 문서는 삭제되므로 중단 후 재실행하면 남은 문서만 처리
+ * - Kafka 리스너/웹 서버 없이 실행 후 종료 (application-migration.yml)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "settlement.migration", name = "enabled", havingValue = "true")
+public class SettlementIdMigration implements ApplicationRunner {
+
+    private static final String COLLECTION = "settlements";
+    private static final String LEGACY_ORDER_ID_INDEX_FIELD = "orderId";
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationProperties migrationProperties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(COLLECTION);
+        int threads = migrationProperties.getThreads();
+        long startedAt = System.currentTimeMillis();
+        log.info("Settlement _id migration started: threads={}, batchSize={}", threads, migrationProperties.getBatchSize());
+
+        // 새 형식 문서에는 orderId 필드가 없으므로, 기존 unique 인덱스가 남아 있으면 두 번째 문서부터 null 중복으로 실패
+        dropLegacyOrderIdIndex(collection);
+
+        List<ObjectId[]> ranges = splitLegacyRange(collection, threads);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, ranges.size()));
+        try {
+            List<CompletableFuture<Long>> partitions = new ArrayList<>(ranges.size());
+            for (ObjectId[] range : ranges) {
+                partitions.add(CompletableFuture.supplyAsync(() -> migrateRange(collection, range[0], range[1]), executor));
+            }
+            long migrated = partitions.stream().mapToLong(CompletableFuture::join).sum();
+            log.info("Settlement _id migration done: documents={}, remaining={}, elapsedMs={}",
+                    migrated, collection.countDocuments(Filters.type("_id", BsonType.OBJECT_ID)),
+                    System.currentTimeMillis() - startedAt);
+        } finally {
+            executor.shutdown();
+        }
+
+        IndexOperations indexOps = mongoTemplate.indexOps(Settlement.class);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Settlement.class)
+                .forEach(indexOps::ensureIndex);
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    /**
+     * [from, to) 구간의 기존 문서를 _id 순서로 batchSize씩 새 형식으로 재작성
+     * - 배치마다 마지막 _id 다음부터 다시 조회 (서버 커서를 오래 열어두지 않음)
+     * - ordered Bulk: 새 문서 Upsert가 성공해야 바로 뒤의 기존 문서 삭제가 실행됨
+     */
+    private long migrateRange(MongoCollection<Document> collection, ObjectId from, ObjectId to) {
+        int batchSize = migrationProperties.getBatchSize();
+        ObjectId lowerBound = from;
+        boolean inclusive = true;
+        long migrated = 0;
+
+        while (true) {
+            Bson filter = Filters.and(
+                    Filters.type("_id", BsonType.OBJECT_ID),
+                    inclusive ? Filters.gte("_id", lowerBound) : Filters.gt("_id", lowerBound),
+                    Filters.lt("_id", to));
+            List<Document> documents = collection.find(filter)
+                    .sort(Sorts.ascending("_id"))
+                    .limit(batchSize)
+                    .into(new ArrayList<>(batchSize));
+            if (documents.isEmpty()) {
+                break;
+            }
+
+            List<WriteModel<Document>> writes = new ArrayList<>(documents.size() * 2);
+            for (Document document : documents) {
+                ObjectId legacyId = document.getObjectId("_id");
+                Object orderId = document.remove("orderId");
+                if (orderId == null) {
+                    log.warn("Legacy settlement without orderId, skipped: _id={}", legacyId);
+                    continue;
+                }
+                document.remove("_id");
+                writes.add(new UpdateOneModel<>(Filters.eq("_id", orderId),
+                        new Document("$setOnInsert", document), new UpdateOptions().upsert(true)));
+                writes.add(new DeleteOneModel<>(Filters.eq("_id", legacyId)));
+            }
+            if (!writes.isEmpty()) {
+                collection.bulkWrite(writes, new BulkWriteOptions().ordered(true));
+                migrated += writes.size() / 2;
+            }
+
+            lowerBound = documents.get(documents.size() - 1).getObjectId("_id");
+            inclusive = false;
+        }
+
+        log.info("Migration range done: from={}, to={}, documents={}", from, to, migrated);
+        return migrated;
+    }
+
+    /**
+     * 남은 기존 문서의 최소~최대 _id(ObjectId 생성 시각)를 threads개의 [from, to) 구간으로 분할
+     */
+    private List<ObjectId[]> splitLegacyRange(MongoCollection<Document> collection, int threads) {
+        Bson legacy = Filters.type("_id", BsonType.OBJECT_ID);
+        Document first = collection.find(legacy).sort(Sorts.ascending("_id")).limit(1).first();
+        Document last = collection.find(legacy).sort(Sorts.descending("_id")).limit(1).first();
+        if (first == null || last == null) {
+            log.info("No legacy settlements to migrate");
+            return List.of();
+        }
+
+        long minSeconds = first.getObjectId("_id").getTimestamp() & 0xFFFFFFFFL;
+        long maxSeconds = (last.getObjectId("_id").getTimestamp() & 0xFFFFFFFFL) + 1;
+        long step = Math.max(1, (maxSeconds - minSeconds + threads - 1) / threads);
+
+        List<ObjectId[]> ranges = new ArrayList<>(threads);
+        for (long seconds = minSeconds; seconds < maxSeconds; seconds += step) {
+            ranges.add(new ObjectId[]{lowestObjectId(seconds), lowestObjectId(Math.min(seconds + step, maxSeconds))});
+        }
+        return ranges;
+    }
+
+    /**
+     * 해당 시각(초)에 생성될 수 있는 가장 작은 ObjectId (타임스탬프 4바이트 + 나머지 0)
+     */
+    private static ObjectId lowestObjectId(long epochSeconds) {
+        return new ObjectId(ByteBuffer.allocate(12).putInt((int) epochSeconds).array());
+    }
+
+    private void dropLegacyOrderIdIndex(MongoCollection<Document> collection) {
+        for (Document index : collection.listIndexes()) {
+            Document key = index.get("key", Document.class);
+            if (key != null && key.size() == 1 && key.containsKey(LEGACY_ORDER_ID_INDEX_FIELD)) {
+                collection.dropIndex(index.getString("name"));
+                log.info("Dropped legacy orderId index: {}", index.getString("name"));
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.settleflow.settlementservice.migration;
+
+import com.mongodb.MongoCommandException;
+import com.settleflow.settlementservice.domain.Settlement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * settlements 컬렉션을 hashed _id(orderId) 샤드 키로 샤딩
+ * - mongos에 접속한 경우에만 의미가 있으며, 이미 샤딩된 경우 무시
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "settlement.migration", name = "shard-collection", havingValue = "true")
+public class SettlementShardingInitializer implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String namespace = mongoTemplate.getDb().getName() + "." + mongoTemplate.getCollectionName(Settlement.class);
+        Document command = new Document("shardCollection", namespace)
+                .append("key", new Document("_id", "hashed"));
+
+        try {
+            mongoTemplate.getMongoDatabaseFactory().getMongoDatabase("admin").runCommand(command);
+            log.info("Sharded settlements collection: namespace={}, key=hashed _id", namespace);
+        } catch (MongoCommandException e) {
+            log.warn("shardCollection skipped: namespace={}, reason={}", namespace, e.getErrorMessage());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.settleflow.settlementservice.replay;
+
+import com.settleflow.common.enums.SettlementStatus;
+import com.settleflow.common.event.OrderCreatedEvent;
+import com.settleflow.settlementservice.config.ReplayProperties;
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.domain.SettlementCalculator;
+import com.settleflow.settlementservice.domain.SettlementRepository;
+import com.settleflow.settlementservice.kafka.SettlementChangelogPublisher;
+import com.settleflow.settlementservice.service.SettlementCacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * order-create-topic 재정산(Replay) 도구
+ * - 실시간 Consumer Group(settlement-group)의 오프셋은 건드리지 않음 (assign 기반, 커밋 없음)
+ * - 파티션마다 리더 스레드를 두고 시각 범위(또는 파티션별 오프셋 범위)만 읽어 대량 Bulk Upsert로 재계산 결과 반영
+ * - 수수료율은 설정(settlement.replay.fee-rate / account-fee-rates)이 있으면 그 값, 없으면 이벤트에 기록된 주문 시점 요율
+ * - 이미 취소(CANCELLED)된 정산은 덮어쓰지 않으며, 기존 상태(WAITING/COMPLETE)도 유지하고 금액만 재계산
+ * - 반영된 최종 문서를 changelog로 발행하고 Redis 캐시를 무효화 (읽기 노드 로컬 저장소/캐시에 재계산 결과 전파)
+ * - 실행 후 종료 (application-replay.yml)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "settlement.replay", name = "enabled", havingValue = "true")
+public class SettlementReplayRunner implements ApplicationRunner {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final KafkaProperties kafkaProperties;
+    private final ReplayProperties replayProperties;
+    private final MongoTemplate mongoTemplate;
+    private final SettlementRepository settlementRepository;
+    private final SettlementChangelogPublisher changelogPublisher;
+    private final SettlementCacheInvalidator cacheInvalidator;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        List<TopicPartition> partitions = discoverPartitions();
+        int threads = Math.max(1, Math.min(partitions.size(), replayProperties.getMaxThreads()));
+        log.info("Settlement replay started: topic={}, partitions={}, threads={}, from={}, to={}, feeRate={}, accountFeeRates={}",
+                replayProperties.getTopic(), partitions.size(), threads, replayProperties.getFrom(), replayProperties.getTo(),
+                replayProperties.getFeeRate() != null ? replayProperties.getFeeRate() : "event",
+                replayProperties.getAccountFeeRates().size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<Long>> readers = partitions.stream()
+                    .map(partition -> CompletableFuture.supplyAsync(() -> replayPartition(partition), executor))
+                    .toList();
+            long replayed = readers.stream().mapToLong(CompletableFuture::join).sum();
+            log.info("Settlement replay finished: records={}, elapsedMs={}", replayed, System.currentTimeMillis() - startedAt);
+        } finally {
+            executor.shutdown();
+            changelogPublisher.flush();
+        }
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    /**
+     * 파티션 하나의 [시작, 끝) 오프셋 범위를 읽어 재정산
+     * - 끝 오프셋은 시작 시점의 파티션 끝을 넘지 않으므로 항상 종료됨
+     */
+    private long replayPartition(TopicPartition partition) {
+        try (Consumer<String, OrderCreatedEvent> consumer = createConsumer()) {
+            List<TopicPartition> assignment = List.of(partition);
+            consumer.assign(assignment);
+
+            long startOffset = resolveStartOffset(consumer, partition);
+            long endOffset = resolveEndOffset(consumer, partition);
+            if (startOffset >= endOffset) {
+                return 0;
+            }
+            consumer.seek(partition, startOffset);
+
+            int batchSize = replayProperties.getBatchSize();
+            List<Settlement> batch = new ArrayList<>(batchSize);
+            long replayed = 0;
+
+            while (consumer.position(partition) < endOffset) {
+                for (ConsumerRecord<String, OrderCreatedEvent> record : consumer.poll(Duration.ofSeconds(1))) {
+                    if (record.offset() >= endOffset) {
+                        break;
+                    }
+                    if (record.value() == null || record.value().getOrderId() == null) {
+                        continue;
+                    }
+                    batch.add(SettlementCalculator.calculate(record.value(), resolveFeeRate(record.value())));
+                    if (batch.size() >= batchSize) {
+                        replayed += upsert(batch);
+                    }
+                }
+            }
+            replayed += upsert(batch);
+
+            log.info("Replay partition done: partition={}, offsets=[{}, {}), records={}",
+                    partition, startOffset, endOffset, replayed);
+            return replayed;
+        }
+    }
+
+    /**
+     * 재계산 결과 Bulk Upsert 후 반영된 문서를 changelog 발행 + 캐시 무효화
+     * - 취소된 문서는 필터에 걸리지 않아 Upsert(Insert)가 _id 중복으로 실패 → 건너뜀으로 처리
+     * - 발행은 MongoDB에 저장된 최종 문서 기준 (유지된 상태/취소 건이 그대로 전파됨)
+     */
+    private int upsert(List<Settlement> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class);
+        for (Settlement settlement : batch) {
+            Query query = Query.query(Criteria.where("orderId").is(settlement.getOrderId())
+                    .and("status").ne(SettlementStatus.CANCELLED.name()));
+            Update update = new Update()
+                    .set("userId", settlement.getUserId())
+                    .set("totalAmount", settlement.getTotalAmount())
+                    .set("fee", settlement.getFee())
+                    .set("settleAmount", settlement.getSettleAmount())
+                    .set("orderedAt", settlement.getOrderedAt())
+                    .setOnInsert("status", settlement.getStatus());
+            bulkOps.upsert(query, update);
+        }
+
+        List<Long> orderIds = batch.stream().map(Settlement::getOrderId).toList();
+        int size = batch.size();
+        batch.clear();
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            long nonDuplicate = e.getErrors().stream().filter(error -> error.getCode() != DUPLICATE_KEY).count();
+            if (nonDuplicate > 0) {
+                throw e;
+            }
+            log.debug("Skipped cancelled settlements during replay: count={}", e.getErrors().size());
+        }
+
+        if (changelogPublisher.isEnabled()) {
+            changelogPublisher.publishAll(settlementRepository.findByOrderIdIn(orderIds));
+        }
+        cacheInvalidator.evict(orderIds);
+        return size;
+    }
+
+    /**
+     * 정산 계정별 요율 → 전체 요율 → 이벤트에 기록된 요율 순
+     */
+    private BigDecimal resolveFeeRate(OrderCreatedEvent event) {
+        BigDecimal accountFeeRate = replayProperties.getAccountFeeRates().get(event.getUserId());
+        if (accountFeeRate != null) {
+            return accountFeeRate;
+        }
+        if (replayProperties.getFeeRate() != null) {
+            return replayProperties.getFeeRate();
+        }
+        return BigDecimal.valueOf(event.getFeeRate());
+    }
+
+    /**
+     * 파티션별 지정 오프셋 → from 시각 → 토픽 처음 순, 보존 기간으로 지워진 구간은 파티션 시작으로 보정
+     */
+    private long resolveStartOffset(Consumer<String, OrderCreatedEvent> consumer, TopicPartition partition) {
+        long beginning = consumer.beginningOffsets(List.of(partition)).get(partition);
+        Long fromOffset = replayProperties.getFromOffsets().get(partition.partition());
+        if (fromOffset != null) {
+            return Math.max(beginning, fromOffset);
+        }
+        if (!StringUtils.hasText(replayProperties.getFrom())) {
+            return beginning;
+        }
+        return offsetForTime(consumer, partition, Instant.parse(replayProperties.getFrom()));
+    }
+
+    /**
+     * 파티션별 지정 오프셋 → to 시각 → 현재 끝 순, 현재 파티션 끝(endOffsets)을 넘지 않도록 보정
+     * - 끝보다 큰 값을 그대로 쓰면 position이 영원히 도달하지 못해 poll 루프가 종료되지 않음
+     */
+    private long resolveEndOffset(Consumer<String, OrderCreatedEvent> consumer, TopicPartition partition) {
+        long end = consumer.endOffsets(List.of(partition)).get(partition);
+        Long toOffset = replayProperties.getToOffsets().get(partition.partition());
+        if (toOffset != null) {
+            return Math.min(end, toOffset);
+        }
+        if (!StringUtils.hasText(replayProperties.getTo())) {
+            return end;
+        }
+        return Math.min(end, offsetForTime(consumer, partition, Instant.parse(replayProperties.getTo())));
+    }
+
+    /**
+     * 지정 시각 이후 첫 오프셋 (해당 시각 이후 레코드가 없으면 파티션 끝)
+     */
+    private long offsetForTime(Consumer<String, OrderCreatedEvent> consumer, TopicPartition partition, Instant time) {
+        Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(Map.of(partition, time.toEpochMilli()));
+        OffsetAndTimestamp offset = offsets.get(partition);
+        return offset != null ? offset.offset() : consumer.endOffsets(List.of(partition)).get(partition);
+    }
+
+    private List<TopicPartition> discoverPartitions() {
+        try (Consumer<String, OrderCreatedEvent> consumer = createConsumer()) {
+            return consumer.partitionsFor(replayProperties.getTopic()).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+        }
+    }
+
+    private Consumer<String, OrderCreatedEvent> createConsumer() {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, replayProperties.getGroupId());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, replayProperties.getBatchSize());
+        props.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, 64 * 1024 * 1024);
+        props.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, 16 * 1024 * 1024);
+
+        JsonDeserializer<OrderCreatedEvent> valueDeserializer = new JsonDeserializer<>(OrderCreatedEvent.class, false);
+        return new KafkaConsumer<>(props, new StringDeserializer(), valueDeserializer);
+    }
+}
@@ -0,0 +1,43 @@
+package com.settleflow.settlementservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 정산 상태가 바뀐 주문의 Redis 캐시 무효화 (취소 처리 후 호출)
+ * - @Cacheable("settlements") 키는 RedisCacheManager 기본 접두사 "settlements::" + orderId
+ * - 다건 조회/Reactive 단건 조회가 공유하는 Settlement JSON 키(SettlementLookupService.key)도 함께 삭제
+ * - 배치의 모든 키를 DEL 한 번으로 삭제
+ * - 캐시는 MongoDB의 사본이므로 삭제 실패는 로그만 남김 (최대 TTL 10분 동안 이전 상태가 보일 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementCacheInvalidator {
+
+    static final String SETTLEMENT_CACHE_KEY_PREFIX = "settlements::";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void evict(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(orderIds.size() * 2);
+        for (Long orderId : orderIds) {
+            keys.add(SETTLEMENT_CACHE_KEY_PREFIX + orderId);
+            keys.add(SettlementLookupService.key(orderId));
+        }
+        try {
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("Settlement cache eviction failed: size={}", orderIds.size(), e);
+        }
+    }
+}
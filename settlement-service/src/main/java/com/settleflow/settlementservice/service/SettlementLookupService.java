@@ -0,0 +1,144 @@
+package com.settleflow.settlementservice.service;
+
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.domain.SettlementRepository;
+import com.settleflow.settlementservice.kafka.SettlementChangelogRestorer;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 정산 다건 조회 (대시보드용)
+ * - 단건 API를 N번 부르면 요청마다 캐시 프록시 + Redis/MongoDB 왕복이 생기므로 한 번에 처리
+ * - Redis MGET 1회 → 미스는 로컬 상태 저장소 → 그래도 없으면 MongoDB $in 1회 → 캐시 적재 파이프라인 1회
+ * - Redis 장애 시에는 캐시를 건너뛰고 전부 저장소/MongoDB에서 조회
+ * - 캐시 키는 취소 처리 후 SettlementCacheInvalidator가 @Cacheable 키와 함께 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementLookupService {
+
+    static final String CACHE_KEY_PREFIX = "settlements-lookup::";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10L);
+
+    private final RedisTemplate<String, Settlement> settlementRedisTemplate;
+    private final SettlementStateStore stateStore;
+    private final SettlementRepository settlementRepository;
+    private final SettlementChangelogRestorer changelogRestorer;
+
+    /**
+     * @return 주문 ID → 정산 데이터 (요청 순서 유지, 없는 주문은 제외)
+     */
+    public Map<Long, Settlement> lookup(Collection<Long> orderIds) {
+        List<Long> ids = orderIds.stream().distinct().toList();
+        Map<Long, Settlement> found = new HashMap<>();
+
+        // 1. Redis MGET (한 번의 왕복)
+        List<Long> cacheMisses = readCache(ids, found);
+
+        // 2. 로컬 상태 저장소 (changelog 복원본) - 네트워크 왕복 없음, 복원 완료 전에는 건너뜀
+        List<Settlement> toCache = new ArrayList<>();
+        List<Long> remaining = new ArrayList<>();
+        boolean localReadable = changelogRestorer.isRestored();
+        for (Long orderId : cacheMisses) {
+            Optional<Settlement> local = localReadable ? stateStore.get(orderId) : Optional.empty();
+            if (local.isPresent()) {
+                found.put(orderId, local.get());
+                toCache.add(local.get());
+            } else {
+                remaining.add(orderId);
+            }
+        }
+
+        // 3. 남은 주문만 MongoDB $in 한 번으로 조회
+        if (!remaining.isEmpty()) {
+            for (Settlement settlement : settlementRepository.findByOrderIdIn(remaining)) {
+                found.put(settlement.getOrderId(), settlement);
+                toCache.add(settlement);
+            }
+        }
+
+        // 4. 캐시 미스분 적재 (파이프라인 한 번)
+        writeCache(toCache);
+
+        Map<Long, Settlement> ordered = new LinkedHashMap<>();
+        for (Long orderId : ids) {
+            Settlement settlement = found.get(orderId);
+            if (settlement != null) {
+                ordered.put(orderId, settlement);
+            }
+        }
+        return ordered;
+    }
+
+    private List<Long> readCache(List<Long> ids, Map<Long, Settlement> found) {
+        List<Settlement> cached;
+        try {
+            cached = settlementRedisTemplate.opsForValue().multiGet(ids.stream().map(SettlementLookupService::key).toList());
+        } catch (DataAccessException e) {
+            log.warn("Redis MGET failed, falling back to store: size={}", ids.size(), e);
+            return ids;
+        }
+        if (cached == null) {
+            return ids; // 파이프라인/트랜잭션 안에서 호출된 경우
+        }
+
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Settlement settlement = cached.get(i);
+            if (settlement == null) {
+                misses.add(ids.get(i));
+            } else {
+                found.put(ids.get(i), settlement);
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * MSET은 TTL을 줄 수 없으므로 SET ... EX 를 파이프라인으로 묶어 한 번에 전송
+     */
+    private void writeCache(List<Settlement> settlements) {
+        if (settlements.isEmpty()) {
+            return;
+        }
+        try {
+            settlementRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Settlement> redis = (RedisOperations<String, Settlement>) operations;
+                    for (Settlement settlement : settlements) {
+                        redis.opsForValue().set(key(settlement.getOrderId()), settlement, CACHE_TTL);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // 캐시 적재 실패는 조회 결과에 영향 없음 - 다음 조회에서 다시 적재
+            log.warn("Redis backfill failed: size={}", settlements.size(), e);
+        }
+    }
+
+    /**
+     * Settlement JSON 캐시 키 (reactive 단건 조회도 같은 키를 공유)
+     */
+    public static String key(Long orderId) {
+        return CACHE_KEY_PREFIX + orderId;
+    }
+}
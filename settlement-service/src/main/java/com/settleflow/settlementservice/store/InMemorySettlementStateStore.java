@@ -0,0 +1,56 @@
+package com.settleflow.settlementservice.store;
+
+import com.settleflow.settlementservice.domain.Settlement;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 정산 상태 저장소 (changelog 복원 대상)
+ * - 재기동 시 비어 있으므로 체크포인트도 함께 사라짐
+ */
+@Component
+@ConditionalOnProperty(prefix = "settlement.local-store", name = "type", havingValue = "memory", matchIfMissing = true)
+public class InMemorySettlementStateStore implements SettlementStateStore {
+
+    private final Map<Long, Settlement> settlements = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Settlement> get(Long orderId) {
+        return Optional.ofNullable(settlements.get(orderId));
+    }
+
+    @Override
+    public void put(Settlement settlement) {
+        settlements.put(settlement.getOrderId(), settlement);
+    }
+
+    @Override
+    public void remove(Long orderId) {
+        settlements.remove(orderId);
+    }
+
+    @Override
+    public long size() {
+        return settlements.size();
+    }
+
+    @Override
+    public void putAll(Collection<Settlement> settlements, Map<TopicPartition, Long> checkpoints) {
+        settlements.forEach(this::put);
+        checkpoints.forEach((partition, offset) -> this.checkpoints.merge(partition, offset, Math::max));
+    }
+
+    @Override
+    public OptionalLong checkpoint(TopicPartition partition) {
+        Long offset = checkpoints.get(partition);
+        return offset == null ? OptionalLong.empty() : OptionalLong.of(offset);
+    }
+}
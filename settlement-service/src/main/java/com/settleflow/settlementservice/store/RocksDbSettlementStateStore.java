@@ -0,0 +1,146 @@
+package com.settleflow.settlementservice.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.settleflow.settlementservice.config.LocalStoreProperties;
+import com.settleflow.settlementservice.domain.Settlement;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * RocksDB(임베디드 LSM) 기반 정산 상태 저장소
+ * - Key: orderId (8바이트 big-endian), Value: Settlement JSON
+ * - 체크포인트 Key는 "checkpoint:{topic}-{partition}" 문자열이라 8바이트 orderId Key와 겹치지 않음
+ * - 정산 데이터와 체크포인트를 하나의 WriteBatch로 기록하여 원자적으로 반영
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "settlement.local-store", name = "type", havingValue = "rocksdb")
+public class RocksDbSettlementStateStore implements SettlementStateStore, DisposableBean {
+
+    private static final String CHECKPOINT_PREFIX = "checkpoint:";
+
+    static {
+        RocksDB.loadLibrary();
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Options options;
+    private final WriteOptions writeOptions;
+    private final RocksDB db;
+
+    public RocksDbSettlementStateStore(LocalStoreProperties localStoreProperties, ObjectMapper objectMapper)
+            throws IOException, RocksDBException {
+        this.objectMapper = objectMapper;
+
+        Path path = Path.of(localStoreProperties.getPath());
+        Files.createDirectories(path);
+
+        this.options = new Options()
+                .setCreateIfMissing(true)
+                .setCompressionType(CompressionType.LZ4_COMPRESSION);
+        // WAL은 유지하되 fsync는 하지 않음 (유실되어도 MongoDB 폴백 + 체크포인트 재처리로 복구)
+        this.writeOptions = new WriteOptions().setSync(false);
+        this.db = RocksDB.open(options, path.toString());
+
+        log.info("RocksDB settlement store opened: path={}", path.toAbsolutePath());
+    }
+
+    @Override
+    public Optional<Settlement> get(Long orderId) {
+        try {
+            byte[] value = db.get(orderKey(orderId));
+            return value == null ? Optional.empty() : Optional.of(objectMapper.readValue(value, Settlement.class));
+        } catch (RocksDBException | IOException e) {
+            // 로컬 저장소 오류는 조회 실패로 취급하지 않고 MongoDB로 폴백
+            log.warn("Local store read failed: OrderId={}", orderId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(Settlement settlement) {
+        putAll(List.of(settlement), Map.of());
+    }
+
+    @Override
+    public void remove(Long orderId) {
+        try {
+            db.delete(writeOptions, orderKey(orderId));
+        } catch (RocksDBException e) {
+            throw new IllegalStateException("Local store delete failed: OrderId=" + orderId, e);
+        }
+    }
+
+    @Override
+    public long size() {
+        try {
+            return db.getLongProperty("rocksdb.estimate-num-keys");
+        } catch (RocksDBException e) {
+            return -1L;
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Settlement> settlements, Map<TopicPartition, Long> checkpoints) {
+        try (WriteBatch batch = new WriteBatch()) {
+            for (Settlement settlement : settlements) {
+                batch.put(orderKey(settlement.getOrderId()), objectMapper.writeValueAsBytes(settlement));
+            }
+            for (Map.Entry<TopicPartition, Long> checkpoint : checkpoints.entrySet()) {
+                batch.put(checkpointKey(checkpoint.getKey()), longBytes(checkpoint.getValue()));
+            }
+            db.write(writeOptions, batch);
+        } catch (RocksDBException | IOException e) {
+            throw new IllegalStateException("Local store write failed", e);
+        }
+    }
+
+    @Override
+    public OptionalLong checkpoint(TopicPartition partition) {
+        try {
+            byte[] value = db.get(checkpointKey(partition));
+            return value == null ? OptionalLong.empty() : OptionalLong.of(ByteBuffer.wrap(value).getLong());
+        } catch (RocksDBException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        db.close();
+        writeOptions.close();
+        options.close();
+    }
+
+    private static byte[] orderKey(Long orderId) {
+        return longBytes(orderId);
+    }
+
+    private static byte[] checkpointKey(TopicPartition partition) {
+        return (CHECKPOINT_PREFIX + partition).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] longBytes(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+}
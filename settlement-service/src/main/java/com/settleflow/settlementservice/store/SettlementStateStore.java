@@ -0,0 +1,36 @@
+package com.settleflow.settlementservice.store;
+
+import com.settleflow.settlementservice.domain.Settlement;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * orderId 기준 로컬 정산 상태 저장소
+ * - MongoDB가 원본(System of Record)이며, 이 저장소는 조회 부하를 덜기 위한 사본
+ */
+public interface SettlementStateStore {
+
+    Optional<Settlement> get(Long orderId);
+
+    void put(Settlement settlement);
+
+    void remove(Long orderId);
+
+    long size();
+
+    /**
+     * 정산 데이터와 Kafka 소비 오프셋(체크포인트)을 함께 반영
+     * @param settlements 반영할 정산 데이터 (비어 있으면 체크포인트만 갱신)
+     * @param checkpoints 파티션별 마지막으로 반영한 오프셋
+     */
+    void putAll(Collection<Settlement> settlements, Map<TopicPartition, Long> checkpoints);
+
+    /**
+     * 파티션별 마지막으로 반영한 오프셋
+     */
+    OptionalLong checkpoint(TopicPartition partition);
+}
@@ -0,0 +1,26 @@
+// =====================================================================
+// 정산 요약 목록 조회(GET /settlements/summaries)용 커버링 인덱스 전환 (mongosh)
+// - 기존 userId_orderedAt / status_orderedAt 을 뒤쪽 필드만 늘린 인덱스로 교체
+//   (앞부분이 같으므로 기존 조회/집계는 새 인덱스로 그대로 처리)
+// - auto-index-creation으로도 새 인덱스는 만들어지지만, 대용량 컬렉션에서는 배포 전에 이 스크립트로 먼저 생성
+// - 새 인덱스 생성 완료 후 기존 인덱스를 삭제 (두 벌 유지 시 쓰기마다 인덱스 갱신 비용 증가)
+// 실행: mongosh "$MONGODB_URI" settlement-service/src/main/resources/db/mongo/settlements-covering-indexes.js
+// =====================================================================
+
+const settlements = db.getCollection("settlements");
+
+settlements.createIndex(
+    { userId: 1, orderedAt: -1, _id: -1, status: 1, settleAmount: 1 },
+    { name: "userId_orderedAt_cover" }
+);
+settlements.createIndex(
+    { status: 1, orderedAt: -1, _id: -1, userId: 1, settleAmount: 1 },
+    { name: "status_orderedAt_cover" }
+);
+
+const existing = settlements.getIndexes().map(index => index.name);
+["userId_orderedAt", "status_orderedAt"]
+    .filter(name => existing.includes(name))
+    .forEach(name => settlements.dropIndex(name));
+
+printjson(settlements.getIndexes().map(index => index.name));
@@ -0,0 +1,188 @@
+package com.settleflow.settlementservice.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.settleflow.common.event.EventHeaders;
+import com.settleflow.common.event.OrderCreatedEvent;
+import com.settleflow.common.logging.PipelineLogSummary;
+import com.settleflow.settlementservice.config.LocalStoreProperties;
+import com.settleflow.settlementservice.dedupe.SettlementDedupeFilter;
+import com.settleflow.settlementservice.domain.SettlementRepository;
+import com.settleflow.settlementservice.kafka.MongoWriteBackpressure;
+import com.settleflow.settlementservice.kafka.SettlementChangelogPublisher;
+import com.settleflow.settlementservice.kafka.SettlementConsumer;
+import com.settleflow.settlementservice.service.SettlementCacheInvalidator;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Consumer 처리 경로의 로깅 비용 측정 (건별 동기 로그 vs 샘플링 + 비동기 appender)
+ *
+ * - MongoDB/Kafka는 stub으로 대체하고 SettlementConsumer.consumeEnvelope()만 반복 호출
+ *   → 남는 비용은 역직렬화/계산 + 로깅이므로 로깅 방식에 따른 처리량 차이가 그대로 드러남
+ * - 로그는 실제 파일(임시 디렉터리)에 기록 (콘솔보다 운영 환경에 가까움)
+ * - sampleInterval=0 은 매 건 로그를 남기던 이전 동작과 같음
+ *
+ * 실행 방법:
+ * @Disabled 해제 후 ./gradlew :settlement-service:test --tests "*ConsumerLoggingBenchmarkTest"
+ * (건수는 benchmark.records 시스템 프로퍼티로 조정)
+ */
+@Disabled("벤치마크는 수동 수행")
+@DisplayName("Consumer 로깅 방식별 처리량 벤치마크")
+class ConsumerLoggingBenchmarkTest {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(ConsumerLoggingBenchmarkTest.class);
+
+    private static final int RECORDS = Integer.getInteger("benchmark.records", 200_000);
+    private static final int WARMUP_RECORDS = RECORDS / 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    @DisplayName("건별 로그/샘플링 x 동기/비동기 appender 처리량 비교")
+    void compareLoggingModes() throws Exception {
+        List<ConsumerRecord<String, byte[]>> records = records(WARMUP_RECORDS + RECORDS);
+
+        run("per-record + sync  ", Duration.ZERO, false, records, logDirectory);
+        run("per-record + async ", Duration.ZERO, true, records, logDirectory);
+        run("sampled    + sync  ", Duration.ofSeconds(1), false, records, logDirectory);
+        run("sampled    + async ", Duration.ofSeconds(1), true, records, logDirectory);
+    }
+
+    private void run(String label, Duration sampleInterval, boolean async,
+                     List<ConsumerRecord<String, byte[]>> records, Path logDirectory) {
+        Path logFile = logDirectory.resolve(label.trim().replace(' ', '_').replace("+", "") + ".log");
+        Appender<ILoggingEvent> appender = attachAppender(logFile, async);
+        try {
+            SettlementConsumer consumer = consumer(new PipelineLogSummary(sampleInterval));
+            for (int i = 0; i < WARMUP_RECORDS; i++) {
+                consumer.consumeEnvelope(records.get(i));
+            }
+
+            long startedAt = System.nanoTime();
+            for (int i = WARMUP_RECORDS; i < records.size(); i++) {
+                consumer.consumeEnvelope(records.get(i));
+            }
+            long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+            log.info("[ConsumerLoggingBenchmark] {} records={} elapsedMs={} throughput={} rec/s logBytes={}",
+                    label, RECORDS, elapsedMs, Math.round(RECORDS * 1000.0 / elapsedMs), logFile.toFile().length());
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    /**
+     * 외부 I/O는 모두 stub (stubOnly - 호출 기록을 남기지 않아 반복 호출에도 메모리가 늘지 않음)
+     */
+    private SettlementConsumer consumer(PipelineLogSummary logSummary) {
+        return new SettlementConsumer(
+                mock(SettlementRepository.class, withSettings().stubOnly()),
+                mock(MongoTemplate.class, withSettings().stubOnly()),
+                mock(SettlementChangelogPublisher.class, withSettings().stubOnly()),
+                mock(SettlementStateStore.class, withSettings().stubOnly()),
+                mock(LocalStoreProperties.class, withSettings().stubOnly()),
+                mock(MongoWriteBackpressure.class, withSettings().stubOnly()),
+                objectMapper,
+                mock(SettlementDedupeFilter.class, withSettings().stubOnly()),
+                ObservationRegistry.NOOP,
+                new SimpleMeterRegistry(),
+                logSummary,
+                mock(SettlementCacheInvalidator.class, withSettings().stubOnly())
+        );
+    }
+
+    private List<ConsumerRecord<String, byte[]>> records(int count) throws Exception {
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long orderId = i + 1L;
+            OrderCreatedEvent event = OrderCreatedEvent.builder()
+                    .orderId(orderId)
+                    .userId(orderId % 1000)
+                    .totalAmount(new BigDecimal("10000.00"))
+                    .feeRate(0.03)
+                    .orderedAt("2026-01-01T00:00:00")
+                    .build();
+            ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(
+                    "order-create-topic", 0, i, String.valueOf(orderId), objectMapper.writeValueAsBytes(event));
+            record.headers().add(EventHeaders.EVENT_TYPE, EventHeaders.encodeString(EventHeaders.ORDER_CREATED));
+            record.headers().add(EventHeaders.ORDER_ID, EventHeaders.encodeLong(orderId));
+            record.headers().add(EventHeaders.SCHEMA_VERSION, EventHeaders.encodeInt(EventHeaders.CURRENT_SCHEMA_VERSION));
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * prod logback-spring.xml과 같은 구성 (비동기: queueSize 8192, neverBlock, caller data 미수집)
+     */
+    private Appender<ILoggingEvent> attachAppender(Path logFile, boolean async) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setAppend(false);
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        Logger logger = context.getLogger(SettlementConsumer.class);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false); // 콘솔 출력 비용은 측정에서 제외
+        logger.addAppender(appender);
+        return appender;
+    }
+
+    private void detachAppender(Appender<ILoggingEvent> appender) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger logger = context.getLogger(SettlementConsumer.class);
+        logger.detachAppender(appender);
+        logger.setAdditive(true);
+        logger.setLevel(null);
+        appender.stop(); // 비동기 appender는 남은 큐를 비우고 하위 파일 appender까지 정지
+    }
+}
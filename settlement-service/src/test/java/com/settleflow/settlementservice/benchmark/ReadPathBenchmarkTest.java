@@ -0,0 +1,157 @@
+package com.settleflow.settlementservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 정산 조회 API 부하 측정 (MVC vs Reactive)
+ * - 지연 시간/처리량과 함께, 측정 중 서버의 스레드 수와 MongoDB 커넥션 풀 사용량 최댓값을 기록
+ *   (서버 지표는 /actuator/metrics를 주기적으로 조회 - 노출되지 않은 지표는 n/a)
+ *
+ * 실행 방법:
+ * 1. 서비스를 MVC(local) 또는 Reactive(local,reactive) 프로파일로 기동 (local은 metrics 엔드포인트 노출)
+ * 2. @Disabled 해제 후 ./gradlew :settlement-service:test --tests "*ReadPathBenchmarkTest"
+ *    (대상/동시성은 benchmark.baseUrl, benchmark.concurrency 시스템 프로퍼티로 조정)
+ */
+@Disabled("벤치마크는 서비스가 실행 중일 때만 수동 수행")
+@DisplayName("정산 조회 경로 벤치마크 (MVC vs Reactive)")
+class ReadPathBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadPathBenchmarkTest.class);
+
+    private static final String BASE_URL = System.getProperty("benchmark.baseUrl", "http://localhost:8082");
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 50000);
+    private static final int ORDER_ID_RANGE = Integer.getInteger("benchmark.orderIdRange", 10000);
+    private static final long SAMPLE_INTERVAL_MS = 200L;
+
+    /**
+     * 스레드: 서버 JVM 전체 / Tomcat 요청 스레드 (MVC)
+     * 커넥션: MongoDB 풀 크기 / 사용 중 / 대기 (동기·Reactive 드라이버 공통 지표)
+     */
+    private static final List<String> SERVER_METRICS = List.of(
+            "jvm.threads.live",
+            "jvm.threads.peak",
+            "tomcat.threads.busy",
+            "mongodb.driver.pool.size",
+            "mongodb.driver.pool.checkedout",
+            "mongodb.driver.pool.waitqueuesize",
+            "http.server.requests.active"
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("GET /settlements/{orderId} 고동시성 부하")
+    void getSettlementByOrderId_HighConcurrency() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<Long> latenciesMicros = Collections.synchronizedList(new ArrayList<>(REQUESTS));
+        AtomicInteger errors = new AtomicInteger();
+        List<CompletableFuture<?>> futures = new ArrayList<>(REQUESTS);
+        Map<String, Double> peaks = new LinkedHashMap<>();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> sampleServerMetrics(client, peaks), 0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        long startedAt = System.nanoTime();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                inFlight.acquire();
+                long orderId = 1 + (i % ORDER_ID_RANGE);
+                HttpRequest request = HttpRequest.newBuilder(URI.create(BASE_URL + "/settlements/" + orderId))
+                        .timeout(Duration.ofSeconds(10))
+                        .GET()
+                        .build();
+
+                long requestStartedAt = System.nanoTime();
+                futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, ex) -> {
+                            latenciesMicros.add((System.nanoTime() - requestStartedAt) / 1000);
+                            if (ex != null || response.statusCode() >= 500) {
+                                errors.incrementAndGet();
+                            }
+                            inFlight.release();
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).exceptionally(ex -> null).join();
+        } finally {
+            sampler.shutdownNow();
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+        List<Long> sorted = new ArrayList<>(latenciesMicros);
+        Collections.sort(sorted);
+        log.info("[ReadPathBenchmark] target={} concurrency={} requests={} elapsedMs={} throughput={} req/s "
+                        + "p50={}us p99={}us max={}us errors={}",
+                BASE_URL, CONCURRENCY, REQUESTS, elapsedMs, Math.round(REQUESTS * 1000.0 / elapsedMs),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.get(sorted.size() - 1), errors.get());
+        synchronized (peaks) {
+            for (String metric : SERVER_METRICS) {
+                Double peak = peaks.get(metric);
+                log.info("[ReadPathBenchmark] server peak {}={}", metric, peak == null ? "n/a" : Math.round(peak));
+            }
+        }
+    }
+
+    /**
+     * /actuator/metrics/{name}의 첫 번째 측정값을 읽어 지표별 최댓값 갱신
+     */
+    private void sampleServerMetrics(HttpClient client, Map<String, Double> peaks) {
+        for (String metric : SERVER_METRICS) {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(BASE_URL + "/actuator/metrics/" + metric))
+                        .timeout(Duration.ofSeconds(2))
+                        .GET()
+                        .build();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    continue;
+                }
+                JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+                if (measurements.isEmpty()) {
+                    continue;
+                }
+                double value = measurements.get(0).path("value").asDouble();
+                synchronized (peaks) {
+                    peaks.merge(metric, value, Math::max);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("Metric sample failed: {}", metric, e);
+            }
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
@@ -0,0 +1,38 @@
+package com.settleflow.settlementservice.config;
+
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MongoConfig 금액 변환 테스트")
+class MongoConfigTest {
+
+    private final MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+
+    @Test
+    @DisplayName("BigDecimal은 문자열이 아닌 Decimal128로 저장")
+    void bigDecimal_WrittenAsDecimal128() {
+        // when & then
+        assertThat(conversions.getCustomWriteTarget(BigDecimal.class)).contains(Decimal128.class);
+    }
+
+    @Test
+    @DisplayName("Decimal128 ↔ BigDecimal 변환 시 스케일까지 보존")
+    void roundTrip_PreservesScale() {
+        // given
+        BigDecimal fee = new BigDecimal("300.00");
+
+        // when
+        Decimal128 stored = MongoConfig.BigDecimalToDecimal128Converter.INSTANCE.convert(fee);
+        BigDecimal read = MongoConfig.Decimal128ToBigDecimalConverter.INSTANCE.convert(stored);
+
+        // then
+        assertThat(read).isEqualTo(fee);
+        assertThat(read.scale()).isEqualTo(2);
+    }
+}
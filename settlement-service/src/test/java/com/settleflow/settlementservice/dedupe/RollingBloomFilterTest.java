@@ -0,0 +1,75 @@
+package com.settleflow.settlementservice.dedupe;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RollingBloomFilter 단위 테스트")
+class RollingBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 주문 ID는 항상 중복 가능으로 판정 (False Negative 없음)")
+    void put_NoFalseNegatives() {
+        // given
+        RollingBloomFilter filter = new RollingBloomFilter(100_000, 0.01);
+
+        // when
+        for (long orderId = 1; orderId <= 50_000; orderId++) {
+            filter.put(orderId);
+        }
+
+        // then
+        for (long orderId = 1; orderId <= 50_000; orderId++) {
+            assertThat(filter.mightContain(orderId)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률이 설정값 근처로 유지")
+    void mightContain_FalsePositiveRateWithinBound() {
+        // given
+        RollingBloomFilter filter = new RollingBloomFilter(100_000, 0.01);
+        for (long orderId = 1; orderId <= 99_999; orderId++) {
+            filter.put(orderId);
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long orderId = 1_000_000; orderId < 1_000_000 + probes; orderId++) {
+            if (filter.mightContain(orderId)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+        assertThat(filter.estimatedFalsePositiveRate()).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("세대 교체 - 직전 세대는 유지하고 두 세대 이전 ID는 잊음 (메모리 상한 고정)")
+    void put_RotatesGenerations() {
+        // given
+        RollingBloomFilter filter = new RollingBloomFilter(1_000, 0.001);
+
+        // when - 1세대: 1~1000, 2세대: 1001~2000, 3세대: 2001~2500
+        for (long orderId = 1; orderId <= 2_500; orderId++) {
+            filter.put(orderId);
+        }
+
+        // then
+        long rememberedFirstGeneration = 0;
+        for (long orderId = 1; orderId <= 1_000; orderId++) {
+            if (filter.mightContain(orderId)) {
+                rememberedFirstGeneration++;
+            }
+        }
+        assertThat(rememberedFirstGeneration).isLessThan(50);
+        assertThat(filter.mightContain(1_500)).isTrue();
+        assertThat(filter.mightContain(2_400)).isTrue();
+        assertThat(filter.currentInsertions()).isEqualTo(500);
+        assertThat(filter.memoryBytes()).isEqualTo(2 * filter.bitSize() / 8);
+    }
+}
@@ -51,7 +51,6 @@ class SettlementRepositoryTest {
         Settlement savedSettlement = settlementRepository.save(settlement);
 
         // then
-        assertThat(savedSettlement.getId()).isNotNull();
         assertThat(savedSettlement.getOrderId()).isEqualTo(100L);
         assertThat(savedSettlement.getUserId()).isEqualTo(1L);
         assertThat(savedSettlement.getTotalAmount()).isEqualByComparingTo(new BigDecimal("10000.00"));
@@ -61,7 +60,7 @@ class SettlementRepositoryTest {
     }
 
     @Test
-    @DisplayName("Unique Index - 동일 orderId 중복 저장 방지")
+    @DisplayName("_id(orderId) - 동일 orderId 중복 insert 방지")
     void uniqueIndex_DuplicateOrderId() {
         // given
         Settlement settlement1 = Settlement.builder()
@@ -85,11 +84,11 @@ class SettlementRepositoryTest {
                 .build();
 
         // when
-        settlementRepository.save(settlement1);
+        settlementRepository.insert(settlement1);
 
         // then
-        // 동일한 orderId로 저장 시도 시 DuplicateKeyException 발생
-        assertThatThrownBy(() -> settlementRepository.save(settlement2))
+        // 동일한 orderId(_id)로 insert 시도 시 DuplicateKeyException 발생
+        assertThatThrownBy(() -> settlementRepository.insert(settlement2))
                 .isInstanceOf(DuplicateKeyException.class);
     }
 
@@ -143,7 +142,7 @@ class SettlementRepositoryTest {
         Settlement savedSettlement = settlementRepository.save(settlement);
 
         // when
-        Optional<Settlement> foundSettlement = settlementRepository.findById(savedSettlement.getId());
+        Optional<Settlement> foundSettlement = settlementRepository.findById(savedSettlement.getOrderId());
 
         // then
         assertThat(foundSettlement).isPresent();
@@ -155,7 +154,7 @@ class SettlementRepositoryTest {
     @DisplayName("존재하지 않는 정산 데이터 조회")
     void findById_NotFound() {
         // when
-        Optional<Settlement> foundSettlement = settlementRepository.findById("non-existent-id");
+        Optional<Settlement> foundSettlement = settlementRepository.findById(999L);
 
         // then
         assertThat(foundSettlement).isEmpty();
@@ -181,7 +180,7 @@ class SettlementRepositoryTest {
         settlementRepository.delete(savedSettlement);
 
         // then
-        Optional<Settlement> foundSettlement = settlementRepository.findById(savedSettlement.getId());
+        Optional<Settlement> foundSettlement = settlementRepository.findById(savedSettlement.getOrderId());
         assertThat(foundSettlement).isEmpty();
     }
 }
@@ -0,0 +1,97 @@
+package com.settleflow.settlementservice.domain;
+
+import com.settleflow.common.enums.SettlementStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementSummaryRepository 단위 테스트")
+class SettlementSummaryRepositoryTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 1, 31);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private SettlementSummaryRepository summaryRepository;
+
+    @Test
+    @DisplayName("사용자 조회 - 인덱스 필드만 projection, 커버링 인덱스 힌트, size+1건 조회 후 다음 커서 생성")
+    void findPage_ByUser_ProjectsAndBuildsCursor() {
+        // given
+        List<SettlementSummary> rows = LongStream.rangeClosed(1, 3)
+                .mapToObj(id -> new SettlementSummary(10 - id, 7L, "WAITING", new BigDecimal("97.00"), "2026-01-10T00:00:0" + id))
+                .toList();
+        when(mongoTemplate.find(any(Query.class), eq(SettlementSummary.class), eq("settlements"))).thenReturn(rows);
+
+        // when
+        SettlementSummaryPage page = summaryRepository.findPage(7L, null, FROM, TO, null, 2);
+
+        // then
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(SettlementSummary.class), eq("settlements"));
+        Query query = captor.getValue();
+        assertThat(query.getLimit()).isEqualTo(3);
+        assertThat(query.getHint()).isEqualTo(SettlementSummaryRepository.USER_INDEX);
+        assertThat(query.getFieldsObject().keySet()).containsExactlyInAnyOrder("userId", "status", "settleAmount", "orderedAt");
+        assertThat(query.getSortObject()).isEqualTo(new Document("orderedAt", -1).append("_id", -1));
+
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.getNextCursor()).isNotNull();
+        SettlementSummaryRepository.Cursor cursor = SettlementSummaryRepository.Cursor.decode(page.getNextCursor());
+        assertThat(cursor.orderId()).isEqualTo(8L);
+        assertThat(cursor.orderedAt()).isEqualTo("2026-01-10T00:00:02");
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지 - (orderedAt, _id) 기준 keyset 조건 추가, 마지막 페이지면 커서 없음")
+    void findPage_AfterCursor_AddsKeysetCondition() {
+        // given
+        String after = new SettlementSummaryRepository.Cursor("2026-01-10T00:00:02", 8L).encode();
+        when(mongoTemplate.find(any(Query.class), eq(SettlementSummary.class), eq("settlements"))).thenReturn(List.of());
+
+        // when
+        SettlementSummaryPage page = summaryRepository.findPage(null, SettlementStatus.WAITING, FROM, TO, after, 2);
+
+        // then
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(SettlementSummary.class), eq("settlements"));
+        Document filter = captor.getValue().getQueryObject();
+        assertThat(filter.get("status")).isEqualTo("WAITING");
+        assertThat(filter).containsKey("$or");
+        assertThat(((Document) filter.get("orderedAt")).get("$lte")).isEqualTo("2026-01-10T00:00:02");
+        assertThat(captor.getValue().getHint()).isEqualTo(SettlementSummaryRepository.STATUS_INDEX);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("userId/status 둘 다 없거나 커서가 잘못되면 IllegalArgumentException")
+    void findPage_InvalidArguments() {
+        assertThatThrownBy(() -> summaryRepository.findPage(null, null, FROM, TO, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> summaryRepository.findPage(7L, null, FROM, TO, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,106 @@
+package com.settleflow.settlementservice.export;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SettlementCsvChunkWriter 단위 테스트")
+class SettlementCsvChunkWriterTest {
+
+    @TempDir
+    Path directory;
+
+    private Document settlement(long orderId) {
+        return new Document("_id", orderId)
+                .append("userId", 1L)
+                .append("totalAmount", "10000")
+                .append("fee", "300.00")
+                .append("settleAmount", "9700.00")
+                .append("status", "WAITING")
+                .append("orderedAt", "2024-01-01T10:00:00");
+    }
+
+    private String readGzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("chunkRows 초과 시 다음 청크 파일로 분할")
+    void write_RollsChunks() throws IOException {
+        // given
+        SettlementCsvChunkWriter writer = new SettlementCsvChunkWriter(directory, "settlements-2024-01-01", "2024-01-01", 2, 64, true);
+
+        // when
+        try (writer) {
+            for (long orderId = 1; orderId <= 5; orderId++) {
+                writer.write(settlement(orderId));
+            }
+        }
+
+        // then
+        List<ExportFile> files = writer.files();
+        assertThat(files).extracting(ExportFile::getName).containsExactly(
+                "settlements-2024-01-01-00000.csv.gz",
+                "settlements-2024-01-01-00001.csv.gz",
+                "settlements-2024-01-01-00002.csv.gz");
+        assertThat(files).extracting(ExportFile::getRows).containsExactly(2L, 2L, 1L);
+
+        String first = readGzip(directory.resolve(files.get(0).getName()));
+        assertThat(first.lines()).containsExactly(
+                "orderId,userId,totalAmount,fee,settleAmount,status,orderedAt,cancelledAt",
+                "1,1,10000,300.00,9700.00,WAITING,2024-01-01T10:00:00,",
+                "2,1,10000,300.00,9700.00,WAITING,2024-01-01T10:00:00,");
+        assertThat(files).extracting(ExportFile::getPartition).containsOnly("2024-01-01");
+    }
+
+    @Test
+    @DisplayName("매니페스트 바이트 수/SHA-256은 실제 기록된 gz 파일 기준")
+    void write_ManifestMatchesWrittenFile() throws Exception {
+        // given
+        SettlementCsvChunkWriter writer = new SettlementCsvChunkWriter(directory, "settlements-2024-01-01", "2024-01-01", 10, 64, true);
+
+        // when
+        try (writer) {
+            for (long orderId = 1; orderId <= 3; orderId++) {
+                writer.write(settlement(orderId));
+            }
+        }
+
+        // then
+        ExportFile file = writer.files().get(0);
+        byte[] written = Files.readAllBytes(directory.resolve(file.getName()));
+        assertThat(file.getBytes()).isEqualTo(written.length);
+        assertThat(file.getSha256()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(written)));
+    }
+
+    @Test
+    @DisplayName("쉼표/따옴표가 포함된 값은 CSV 규칙대로 감쌈")
+    void write_QuotesSpecialCharacters() throws IOException {
+        // given
+        SettlementCsvChunkWriter writer = new SettlementCsvChunkWriter(directory, "quoted", "2024-01-01", 10, 1024, false);
+
+        // when
+        try (writer) {
+            writer.write(settlement(1L).append("status", "A,\"B\""));
+        }
+
+        // then
+        String content = Files.readString(directory.resolve("quoted-00000.csv"));
+        assertThat(content).contains("1,1,10000,300.00,9700.00,\"A,\"\"B\"\"\",2024-01-01T10:00:00,");
+    }
+}
@@ -0,0 +1,182 @@
+package com.settleflow.settlementservice.integration;
+
+import com.settleflow.settlementservice.config.ConsumerGroupProperties;
+import com.settleflow.settlementservice.config.KafkaConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 롤링 재기동 중 settlement-group 전체 정지(stop-the-world) 시간 측정
+ * - 인스턴스 3개가 6개 파티션을 소비하는 동안 하나씩 종료 → 재기동
+ * - "전체 정지" = 어느 파티션에서도 레코드를 처리하지 못한 가장 긴 구간
+ * - Eager + 동적 멤버십(기존 설정) vs Cooperative Sticky + 정적 멤버십(KafkaConsumerConfig.applyGroupMembership)
+ */
+@Disabled("리밸런스 측정은 수십 초가 걸리므로 로컬에서 수동 실행")
+@EmbeddedKafka(partitions = 6, topics = RebalancePauseTest.TOPIC)
+@DisplayName("롤링 재기동 리밸런스 정지 시간 측정")
+class RebalancePauseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RebalancePauseTest.class);
+
+    static final String TOPIC = "rebalance-pause-topic";
+    private static final int INSTANCES = 3;
+    private static final long RESTART_DOWNTIME_MS = 1000L;
+    private static final long PROCESSING_MS = 2L; // 레코드당 동기 Mongo 쓰기 흉내
+
+    @Test
+    @DisplayName("Cooperative Sticky + 정적 멤버십은 Eager보다 전체 정지 시간이 짧음")
+    void rollingRestart_CooperativeStaticPausesLess(EmbeddedKafkaBroker broker) throws Exception {
+        // given
+        ConsumerGroupProperties eager = new ConsumerGroupProperties();
+        eager.setCooperativeRebalance(false);
+
+        ConsumerGroupProperties cooperative = new ConsumerGroupProperties();
+        cooperative.setCooperativeRebalance(true);
+        cooperative.setInstanceId("settlement"); // 인스턴스 번호는 아래에서 덧붙임
+
+        // when
+        long eagerPauseMs = measureRollingRestartPause(broker, "eager-group", eager);
+        long cooperativePauseMs = measureRollingRestartPause(broker, "cooperative-group", cooperative);
+
+        // then
+        log.info("Rolling restart stop-the-world pause: eager={}ms, cooperative+static={}ms",
+                eagerPauseMs, cooperativePauseMs);
+        assertThat(cooperativePauseMs).isLessThan(eagerPauseMs);
+    }
+
+    private long measureRollingRestartPause(EmbeddedKafkaBroker broker, String groupId,
+                                            ConsumerGroupProperties membership) throws Exception {
+        ConcurrentLinkedQueue<Long> processedAt = new ConcurrentLinkedQueue<>();
+        List<ConcurrentMessageListenerContainer<String, String>> containers = new ArrayList<>();
+        try (KafkaProducer<String, String> producer = createProducer(broker)) {
+            ScheduledExecutorService sender = startSending(producer);
+            try {
+                return rollingRestart(broker, groupId, membership, containers, processedAt);
+            } finally {
+                // Producer를 닫기 전에 전송 스레드를 멈춤
+                sender.shutdownNow();
+                sender.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            containers.forEach(ConcurrentMessageListenerContainer::stop);
+        }
+    }
+
+    private long rollingRestart(EmbeddedKafkaBroker broker, String groupId, ConsumerGroupProperties membership,
+                                List<ConcurrentMessageListenerContainer<String, String>> containers,
+                                ConcurrentLinkedQueue<Long> processedAt) throws InterruptedException {
+        for (int i = 0; i < INSTANCES; i++) {
+            containers.add(startContainer(broker, groupId, membership, i, processedAt));
+        }
+        for (ConcurrentMessageListenerContainer<String, String> container : containers) {
+            ContainerTestUtils.waitForAssignment(container, 2);
+        }
+        Thread.sleep(2000L); // 안정 상태 처리
+
+        long restartStartedAt = System.nanoTime();
+        for (int i = 0; i < INSTANCES; i++) {
+            containers.get(i).stop(); // 처리 중인 레코드 마무리 후 종료
+            Thread.sleep(RESTART_DOWNTIME_MS);
+            containers.set(i, startContainer(broker, groupId, membership, i, processedAt));
+            Thread.sleep(3000L); // 다음 인스턴스 재기동 전 안정화
+        }
+        long restartFinishedAt = System.nanoTime();
+
+        return maxGapMs(processedAt, restartStartedAt, restartFinishedAt);
+    }
+
+    private ConcurrentMessageListenerContainer<String, String> startContainer(
+            EmbeddedKafkaBroker broker, String groupId, ConsumerGroupProperties membership,
+            int instance, ConcurrentLinkedQueue<Long> processedAt) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps(groupId, "false", broker);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 10000);
+        props.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 1000);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 50);
+
+        ConsumerGroupProperties perInstance = new ConsumerGroupProperties();
+        perInstance.setCooperativeRebalance(membership.isCooperativeRebalance());
+        perInstance.setShutdownTimeoutMs(membership.getShutdownTimeoutMs());
+        if (membership.getInstanceId() != null) {
+            perInstance.setInstanceId(membership.getInstanceId() + "-" + instance);
+        }
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        KafkaConsumerConfig.applyGroupMembership(props, factory, perInstance, "create");
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+
+        ConcurrentMessageListenerContainer<String, String> container = factory.createContainer(TOPIC);
+        container.getContainerProperties().setMessageListener((MessageListener<String, String>) record -> {
+            sleep(PROCESSING_MS);
+            processedAt.add(System.nanoTime());
+        });
+        container.start();
+        return container;
+    }
+
+    private static KafkaProducer<String, String> createProducer(EmbeddedKafkaBroker broker) {
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        props.put("key.serializer", StringSerializer.class);
+        props.put("value.serializer", StringSerializer.class);
+        return new KafkaProducer<>(props);
+    }
+
+    private static ScheduledExecutorService startSending(KafkaProducer<String, String> producer) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        long[] sequence = {0};
+        executor.scheduleAtFixedRate(() -> {
+            long key = sequence[0]++;
+            producer.send(new ProducerRecord<>(TOPIC, String.valueOf(key), "order-" + key));
+        }, 0, 1, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private static long maxGapMs(ConcurrentLinkedQueue<Long> processedAt, long from, long to) {
+        List<Long> timestamps = processedAt.stream()
+                .filter(at -> at >= from && at <= to)
+                .sorted()
+                .toList();
+        long previous = from;
+        long maxGap = 0;
+        for (long at : timestamps) {
+            maxGap = Math.max(maxGap, at - previous);
+            previous = at;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(maxGap, to - previous));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.settleflow.settlementservice.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecordingCacheManager 단위 테스트")
+class RecordingCacheManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("캐시 조회마다 적중 여부를 담은 JFR 이벤트 기록, 값은 그대로 위임")
+    void get_RecordsLookupEvent() throws Exception {
+        // given
+        RecordingCacheManager cacheManager = new RecordingCacheManager(new ConcurrentMapCacheManager("settlements"));
+        Cache cache = cacheManager.getCache("settlements");
+        cache.put(1L, "settled");
+
+        Path file = tempDir.resolve("lookup.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SettlementCacheLookupEvent.NAME).withThreshold(java.time.Duration.ZERO);
+            recording.start();
+
+            // when
+            Cache.ValueWrapper hit = cache.get(1L);
+            Cache.ValueWrapper miss = cache.get(2L);
+
+            recording.stop();
+            recording.dump(file);
+
+            // then
+            assertThat(hit).isNotNull();
+            assertThat(hit.get()).isEqualTo("settled");
+            assertThat(miss).isNull();
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(SettlementCacheLookupEvent.NAME))
+                .toList();
+        assertThat(events).hasSize(2);
+        assertThat(events).extracting(event -> event.getString("key")).containsExactlyInAnyOrder("1", "2");
+        assertThat(events).filteredOn(event -> event.getBoolean("hit"))
+                .extracting(event -> event.getString("key")).containsExactly("1");
+        assertThat(cacheManager.getCache("settlements")).isSameAs(cache);
+    }
+}
@@ -0,0 +1,201 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.settleflow.common.event.EventHeaders;
+import com.settleflow.common.event.OrderCreatedEvent;
+import com.settleflow.settlementservice.config.LocalStoreProperties;
+import com.settleflow.settlementservice.dedupe.SettlementDedupeFilter;
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.service.SettlementCacheInvalidator;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.bson.BsonInt64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExactlyOnceSettlementConsumer 단위 테스트")
+class ExactlyOnceSettlementConsumerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private SettlementOffsetStore offsetStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MongoWriteBackpressure backpressure;
+
+    @Mock
+    private SettlementChangelogPublisher changelogPublisher;
+
+    @Mock
+    private SettlementStateStore stateStore;
+
+    @Mock
+    private LocalStoreProperties localStoreProperties;
+
+    @Mock
+    private SettlementDedupeFilter dedupeFilter;
+
+    @Mock
+    private SettlementCacheInvalidator cacheInvalidator;
+
+    @Mock
+    private DeadLetterPublishingRecoverer deadLetterRecoverer;
+
+    @Mock
+    private BulkOperations bulkOps;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExactlyOnceSettlementConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new ExactlyOnceSettlementConsumer(mongoTemplate, offsetStore, transactionManager, objectMapper,
+                backpressure, changelogPublisher, stateStore, localStoreProperties, dedupeFilter, cacheInvalidator,
+                deadLetterRecoverer);
+    }
+
+    private ConsumerRecord<String, byte[]> record(int partition, long offset, long orderId) throws Exception {
+        OrderCreatedEvent event = OrderCreatedEvent.builder()
+                .orderId(orderId)
+                .userId(1L)
+                .totalAmount(new BigDecimal("10000"))
+                .feeRate(0.03)
+                .orderedAt("2024-01-01T10:00:00")
+                .build();
+        return new ConsumerRecord<>("order-create-topic", partition, offset, String.valueOf(orderId),
+                objectMapper.writeValueAsBytes(event));
+    }
+
+    @Test
+    @DisplayName("배치 - 정산 Upsert와 파티션별 최대 오프셋을 한 트랜잭션으로 커밋")
+    void consumeBatch_CommitsSettlementsAndOffsetsTogether() throws Exception {
+        // given
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(result.getUpserts()).thenReturn(List.of(new BulkWriteUpsert(1, new BsonInt64(200L))));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class)).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenReturn(result);
+        when(dedupeFilter.isEnabled()).thenReturn(true);
+
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                record(0, 10L, 100L),
+                record(0, 11L, 200L),
+                record(1, 5L, 100L) // 같은 주문 재전송 - 배치 안에서 한 번만 Upsert
+        );
+
+        // when
+        consumer.consumeBatch(records);
+
+        // then
+        verify(bulkOps, times(2)).upsert(any(org.springframework.data.mongodb.core.query.Query.class),
+                any(org.springframework.data.mongodb.core.query.Update.class));
+        verify(offsetStore, times(1)).saveAll(Map.of(
+                new TopicPartition("order-create-topic", 0), 11L,
+                new TopicPartition("order-create-topic", 1), 5L));
+        verify(transactionManager, times(1)).commit(any());
+        // 새로 생성된 정산(200)만 changelog 발행
+        verify(changelogPublisher, times(1)).publishAll(argThat(settlements ->
+                settlements.size() == 1 && settlements.iterator().next().getOrderId().equals(200L)));
+        verify(dedupeFilter, times(1)).put(200L);
+    }
+
+    @Test
+    @DisplayName("배치 - MongoDB 오류 시 트랜잭션 롤백 후 예외 전파 (배치 재시도)")
+    void consumeBatch_MongoFailure_RollsBack() throws Exception {
+        // given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class)).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenThrow(new DataAccessResourceFailureException("primary stepped down"));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consumeBatch(List.of(record(0, 1L, 100L))))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(offsetStore, never()).saveAll(any());
+        verify(changelogPublisher, never()).publishAll(any());
+    }
+
+    @Test
+    @DisplayName("배치 - 지원하지 않는 스키마 버전/깨진 본문은 DLT로 발행하고 나머지는 오프셋과 함께 커밋")
+    void consumeBatch_UnreadableRecords_SentToDeadLetter() throws Exception {
+        // given
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class)).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenReturn(result);
+
+        ConsumerRecord<String, byte[]> unsupported = record(0, 10L, 100L);
+        unsupported.headers().add(EventHeaders.SCHEMA_VERSION, EventHeaders.encodeInt(EventHeaders.CURRENT_SCHEMA_VERSION + 1));
+        ConsumerRecord<String, byte[]> malformed =
+                new ConsumerRecord<>("order-create-topic", 0, 11L, "200", "not-json".getBytes());
+
+        // when
+        consumer.consumeBatch(List.of(unsupported, malformed, record(0, 12L, 300L)));
+
+        // then
+        verify(deadLetterRecoverer, times(1)).accept(eq(unsupported), any(DeserializationException.class));
+        verify(deadLetterRecoverer, times(1)).accept(eq(malformed), any(DeserializationException.class));
+        verify(bulkOps, times(1)).upsert(any(org.springframework.data.mongodb.core.query.Query.class),
+                any(org.springframework.data.mongodb.core.query.Update.class));
+        verify(offsetStore, times(1)).saveAll(Map.of(new TopicPartition("order-create-topic", 0), 12L));
+    }
+
+    @Test
+    @DisplayName("배치 - DLT 발행 실패 시 트랜잭션 없이 예외 전파 (배치 재시도, 오프셋 전진 없음)")
+    void consumeBatch_DeadLetterFailure_Rethrows() {
+        // given
+        ConsumerRecord<String, byte[]> malformed =
+                new ConsumerRecord<>("order-create-topic", 0, 11L, "200", "not-json".getBytes());
+        doThrow(new IllegalStateException("DLT unavailable"))
+                .when(deadLetterRecoverer).accept(eq(malformed), any(Exception.class));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consumeBatch(List.of(malformed)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(offsetStore, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("파티션 할당 - MongoDB에 저장된 오프셋 다음부터 읽음")
+    void onPartitionsAssigned_SeeksToStoredOffset() {
+        // given
+        TopicPartition partition = new TopicPartition("order-create-topic", 0);
+        when(offsetStore.load(partition)).thenReturn(OptionalLong.of(41L));
+        ConsumerSeekAware.ConsumerSeekCallback callback = mock(ConsumerSeekAware.ConsumerSeekCallback.class);
+
+        // when
+        consumer.onPartitionsAssigned(Map.of(partition, 30L), callback);
+
+        // then
+        verify(callback, times(1)).seek("order-create-topic", 0, 42L);
+    }
+}
@@ -0,0 +1,194 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.settleflow.settlementservice.config.BackpressureProperties;
+import com.settleflow.settlementservice.config.KafkaConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoWriteBackpressure 단위 테스트")
+class MongoWriteBackpressureTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    @Mock
+    private MessageListenerContainer createContainer;
+
+    private BackpressureProperties properties;
+    private MongoWriteBackpressure backpressure;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BackpressureProperties();
+        properties.setMinSamples(5);
+        properties.setInitialPauseMs(0L); // 즉시 재개 판정이 가능하도록
+        backpressure = new MongoWriteBackpressure(properties, listenerRegistry);
+        lenient().when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+    }
+
+    @Test
+    @DisplayName("정상 지연 - pause 없이 청크 크기 유지")
+    void healthy_NoPause() {
+        // given
+        record(10, 5, true);
+
+        // when
+        backpressure.evaluate();
+
+        // then
+        assertThat(backpressure.isPaused()).isFalse();
+        assertThat(backpressure.batchSize()).isEqualTo(properties.getMaxBatchSize());
+        verify(container, never()).pause();
+    }
+
+    @Test
+    @DisplayName("지연 임계치 초과 - 리스너 pause 및 청크 크기 절반")
+    void highLatency_PausesAndShrinksBatch() {
+        // given
+        record(1000, 5, true);
+
+        // when
+        backpressure.evaluate();
+
+        // then
+        assertThat(backpressure.isPaused()).isTrue();
+        assertThat(backpressure.batchSize()).isEqualTo(properties.getMaxBatchSize() / 2);
+        verify(container, times(1)).pause();
+    }
+
+    @Test
+    @DisplayName("실패율 임계치 초과 - 리스너 pause")
+    void highErrorRate_Pauses() {
+        // given
+        record(10, 5, false);
+
+        // when
+        backpressure.evaluate();
+
+        // then
+        assertThat(backpressure.isPaused()).isTrue();
+    }
+
+    @Test
+    @DisplayName("정지 시간 경과 후 resume, 새 샘플이 모일 때까지 재정지하지 않음")
+    void pauseExpired_ResumesWithFreshSamples() {
+        // given
+        record(1000, 5, true);
+        backpressure.evaluate();
+
+        // when
+        backpressure.evaluate(); // 정지 시간(0ms) 경과 → resume
+        backpressure.evaluate(); // 샘플 부족 → 판정 보류
+
+        // then
+        assertThat(backpressure.isPaused()).isFalse();
+        verify(container, times(1)).resume();
+        verify(container, times(1)).pause();
+    }
+
+    @Test
+    @DisplayName("과부하 정지 후 재개 - 생성 리스너를 줄어든 max.poll.records로 재시작")
+    void resumeAfterStress_RestartsCreateListenerWithSmallerPoll() {
+        // given
+        ContainerProperties containerProperties = givenRunningCreateContainer();
+        record(1000, 5, true);
+        backpressure.evaluate();
+
+        // when
+        backpressure.evaluate(); // 정지 시간(0ms) 경과 → resume
+
+        // then
+        assertThat(containerProperties.getKafkaConsumerProperties().getProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG))
+                .isEqualTo(String.valueOf(properties.getMaxBatchSize() / 2));
+        ArgumentCaptor<Runnable> onStopped = ArgumentCaptor.forClass(Runnable.class);
+        verify(createContainer).stop(onStopped.capture());
+        onStopped.getValue().run();
+        verify(createContainer, timeout(1000)).start();
+    }
+
+    @Test
+    @DisplayName("최대 청크 크기로 회복 - max.poll.records 재정의를 지우고 한 번만 재시작")
+    void recoveredToMax_RemovesPollOverride() {
+        // given
+        ContainerProperties containerProperties = givenRunningCreateContainer();
+        record(1000, 5, true);
+        backpressure.evaluate();
+        backpressure.evaluate(); // resume → 250으로 재시작
+        record(10, 5, true);
+
+        // when
+        int steps = (properties.getMaxBatchSize() - properties.getMaxBatchSize() / 2) / properties.getBatchSizeStep();
+        for (int i = 0; i < steps + 2; i++) {
+            backpressure.evaluate();
+        }
+
+        // then
+        assertThat(backpressure.batchSize()).isEqualTo(properties.getMaxBatchSize());
+        assertThat(containerProperties.getKafkaConsumerProperties())
+                .doesNotContainKey(ConsumerConfig.MAX_POLL_RECORDS_CONFIG);
+        verify(createContainer, times(2)).stop(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("생성 리스너가 실행 중이 아니면(exactly-once 모드) 재시작하지 않음")
+    void createListenerNotRunning_NoRestart() {
+        // given
+        when(listenerRegistry.getListenerContainer(KafkaConsumerConfig.CREATE_LISTENER_ID)).thenReturn(createContainer);
+        when(createContainer.isRunning()).thenReturn(false);
+        record(1000, 5, true);
+        backpressure.evaluate();
+
+        // when
+        backpressure.evaluate();
+
+        // then
+        verify(createContainer, never()).stop(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 아무 동작 안 함")
+    void disabled_NoOp() {
+        // given
+        properties.setEnabled(false);
+        record(1000, 5, false);
+
+        // when
+        backpressure.evaluate();
+
+        // then
+        verifyNoInteractions(container);
+    }
+
+    private ContainerProperties givenRunningCreateContainer() {
+        ContainerProperties containerProperties = new ContainerProperties("order-create-topic");
+        when(listenerRegistry.getListenerContainer(KafkaConsumerConfig.CREATE_LISTENER_ID)).thenReturn(createContainer);
+        when(createContainer.isRunning()).thenReturn(true);
+        when(createContainer.getContainerProperties()).thenReturn(containerProperties);
+        return containerProperties;
+    }
+
+    private void record(long latencyMs, int count, boolean success) {
+        for (int i = 0; i < count; i++) {
+            backpressure.recordWrite(TimeUnit.MILLISECONDS.toNanos(latencyMs), success);
+        }
+    }
+}
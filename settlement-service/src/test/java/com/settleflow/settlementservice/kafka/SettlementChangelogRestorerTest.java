@@ -0,0 +1,162 @@
+package com.settleflow.settlementservice.kafka;
+
+import com.settleflow.settlementservice.config.ChangelogProperties;
+import com.settleflow.settlementservice.config.LocalStoreProperties;
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.store.InMemorySettlementStateStore;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("SettlementChangelogRestorer 단위 테스트")
+class SettlementChangelogRestorerTest {
+
+    private static final String TOPIC = "settlement-changelog-topic";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final Queue<MockConsumer<String, Settlement>> consumers = new ConcurrentLinkedQueue<>();
+    private ChangelogProperties changelogProperties;
+    private InMemorySettlementStateStore stateStore;
+    private SettlementChangelogRestorer restorer;
+
+    @BeforeEach
+    void setUp() {
+        changelogProperties = new ChangelogProperties();
+        changelogProperties.setTopic(TOPIC);
+        changelogProperties.setRestoreEnabled(true);
+        changelogProperties.setPollTimeoutMs(10L);
+        changelogProperties.setFollowBackoffMs(1L);
+        changelogProperties.setFollowMaxBackoffMs(5L);
+        changelogProperties.setFollowMaxRetries(2);
+        stateStore = new InMemorySettlementStateStore();
+        consumers.add(discoveryConsumer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        restorer.stop();
+    }
+
+    @Test
+    @DisplayName("따라잡은 뒤 poll 오류 - 마지막 반영 위치부터 재시도해 이후 취소까지 반영, 역직렬화 실패 레코드는 건너뜀")
+    void follow_FailsAfterCatchUp_RetriesFromLastOffset() {
+        // given
+        MockConsumer<String, Settlement> first = partitionConsumer(2L);
+        first.schedulePollTask(() -> {
+            first.addRecord(new ConsumerRecord<>(TOPIC, 0, 0L, "1", settlement(1L, "WAITING")));
+            first.addRecord(undeserializable(1L, "1"));
+        });
+        first.schedulePollTask(() -> first.setPollException(new KafkaException("broker connection lost")));
+
+        MockConsumer<String, Settlement> second = partitionConsumer(3L);
+        second.schedulePollTask(() -> second.addRecord(new ConsumerRecord<>(TOPIC, 0, 2L, "1", settlement(1L, "CANCELLED"))));
+        consumers.add(first);
+        consumers.add(second);
+        restorer = restorer(consumers::poll);
+
+        // when
+        restorer.start();
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(stateStore.get(1L)).get().extracting(Settlement::getStatus).isEqualTo("CANCELLED"));
+        assertThat(restorer.isRestored()).isTrue();
+        assertThat(second.position(PARTITION)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("따라잡은 뒤 재시도를 소진하면 복원 완료를 취소해 조회가 MongoDB로 폴백")
+    void follow_StopsAfterRetries_FallsBackToMongo() {
+        // given
+        CountDownLatch brokerDown = new CountDownLatch(1);
+        MockConsumer<String, Settlement> first = partitionConsumer(1L);
+        first.schedulePollTask(() -> first.addRecord(new ConsumerRecord<>(TOPIC, 0, 0L, "1", settlement(1L, "WAITING"))));
+        first.schedulePollTask(() -> {
+            awaitQuietly(brokerDown);
+            first.setPollException(new KafkaException("broker connection lost"));
+        });
+        consumers.add(first);
+        restorer = restorer(() -> {
+            MockConsumer<String, Settlement> next = consumers.poll();
+            if (next != null) {
+                return next;
+            }
+            MockConsumer<String, Settlement> failing = partitionConsumer(1L);
+            failing.setPollException(new KafkaException("broker still unavailable"));
+            return failing;
+        });
+
+        restorer.start();
+        await().atMost(Duration.ofSeconds(5)).until(restorer::isRestored);
+
+        // when
+        brokerDown.countDown();
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> !restorer.isRestored());
+        assertThat(stateStore.get(1L)).get().extracting(Settlement::getStatus).isEqualTo("WAITING");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private SettlementChangelogRestorer restorer(Supplier<MockConsumer<String, Settlement>> consumerSupplier) {
+        return new SettlementChangelogRestorer(new KafkaProperties(), changelogProperties,
+                new LocalStoreProperties(), stateStore) {
+            @Override
+            Consumer<String, Settlement> createConsumer() {
+                return consumerSupplier.get();
+            }
+        };
+    }
+
+    private MockConsumer<String, Settlement> discoveryConsumer() {
+        MockConsumer<String, Settlement> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        return consumer;
+    }
+
+    private MockConsumer<String, Settlement> partitionConsumer(long endOffset) {
+        MockConsumer<String, Settlement> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.updateEndOffsets(Map.of(PARTITION, endOffset));
+        return consumer;
+    }
+
+    private static ConsumerRecord<String, Settlement> undeserializable(long offset, String key) {
+        ConsumerRecord<String, Settlement> record = new ConsumerRecord<>(TOPIC, 0, offset, key, null);
+        record.headers().add(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[0]);
+        return record;
+    }
+
+    private static Settlement settlement(Long orderId, String status) {
+        return Settlement.builder().orderId(orderId).userId(1L).status(status).build();
+    }
+}
@@ -1,22 +1,65 @@
 package com.settleflow.settlementservice.kafka;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteResult;
+import com.settleflow.common.event.EventHeaders;
+import com.settleflow.common.event.OrderCancelledEvent;
 import com.settleflow.common.event.OrderCreatedEvent;
+import com.settleflow.common.logging.PipelineLogSummary;
+import com.settleflow.settlementservice.config.BackpressureProperties;
+import com.settleflow.settlementservice.config.KafkaConsumerConfig;
+import com.settleflow.settlementservice.config.LocalStoreProperties;
+import com.settleflow.settlementservice.dedupe.SettlementDedupeFilter;
 import com.settleflow.settlementservice.domain.Settlement;
 import com.settleflow.settlementservice.domain.SettlementRepository;
+import com.settleflow.settlementservice.service.SettlementCacheInvalidator;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.serializer.DeserializationException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +69,39 @@ class SettlementConsumerTest {
     @Mock
     private SettlementRepository settlementRepository;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private SettlementChangelogPublisher changelogPublisher;
+
+    @Mock
+    private SettlementStateStore stateStore;
+
+    @Mock
+    private LocalStoreProperties localStoreProperties;
+
+    @Mock
+    private MongoWriteBackpressure backpressure;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private SettlementDedupeFilter dedupeFilter;
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PipelineLogSummary logSummary = new PipelineLogSummary(Duration.ZERO);
+
+    @Mock
+    private SettlementCacheInvalidator cacheInvalidator;
+
     @InjectMocks
     private SettlementConsumer settlementConsumer;
 
@@ -46,13 +122,13 @@ class SettlementConsumerTest {
     @DisplayName("정산 데이터 생성 - 정상 케이스")
     void consume_Success() {
         // given
-        when(settlementRepository.save(any(Settlement.class))).thenReturn(null);
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
 
         // when
-        settlementConsumer.consume(testEvent);
+        settlementConsumer.consume(testEvent, 0, 0L);
 
         // then
-        verify(settlementRepository, times(1)).save(argThat(settlement -> {
+        verify(settlementRepository, times(1)).insert(argThat((Settlement settlement) -> {
             // 수수료 계산: 10000 * 0.03 = 300
             BigDecimal expectedFee = new BigDecimal("300.00");
             // 정산액: 10000 - 300 = 9700
@@ -79,13 +155,13 @@ class SettlementConsumerTest {
                 .orderedAt(LocalDateTime.now().toString())
                 .build();
 
-        when(settlementRepository.save(any(Settlement.class))).thenReturn(null);
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
 
         // when
-        settlementConsumer.consume(event);
+        settlementConsumer.consume(event, 0, 0L);
 
         // then
-        verify(settlementRepository, times(1)).save(argThat(settlement -> {
+        verify(settlementRepository, times(1)).insert(argThat((Settlement settlement) -> {
             // 수수료: 50000 * 0.05 = 2500
             BigDecimal expectedFee = new BigDecimal("2500.00");
             // 정산액: 50000 - 2500 = 47500
@@ -100,45 +176,45 @@ class SettlementConsumerTest {
     @DisplayName("중복 메시지 처리 - 멱등성 보장")
     void consume_DuplicateMessage() {
         // given
-        when(settlementRepository.save(any(Settlement.class)))
+        when(settlementRepository.insert(any(Settlement.class)))
                 .thenThrow(new DuplicateKeyException("Duplicate orderId"));
 
         // when
-        settlementConsumer.consume(testEvent);
+        settlementConsumer.consume(testEvent, 0, 0L);
 
         // then
         // 예외가 발생해도 정상 종료되어야 함 (WARN 로그만)
-        verify(settlementRepository, times(1)).save(any(Settlement.class));
+        verify(settlementRepository, times(1)).insert(any(Settlement.class));
     }
 
     @Test
     @DisplayName("중복 메시지 처리 - Exception 메시지에 'duplicate' 포함")
     void consume_DuplicateMessageWithGenericException() {
         // given
-        when(settlementRepository.save(any(Settlement.class)))
+        when(settlementRepository.insert(any(Settlement.class)))
                 .thenThrow(new RuntimeException("duplicate key error"));
 
         // when
-        settlementConsumer.consume(testEvent);
+        settlementConsumer.consume(testEvent, 0, 0L);
 
         // then
         // 'duplicate'가 메시지에 포함되어 있으므로 중복으로 간주
-        verify(settlementRepository, times(1)).save(any(Settlement.class));
+        verify(settlementRepository, times(1)).insert(any(Settlement.class));
     }
 
     @Test
     @DisplayName("알 수 없는 예외 처리 - 로그만 남기고 정상 종료")
     void consume_UnknownException() {
         // given
-        when(settlementRepository.save(any(Settlement.class)))
+        when(settlementRepository.insert(any(Settlement.class)))
                 .thenThrow(new RuntimeException("Unknown database error"));
 
         // when
-        settlementConsumer.consume(testEvent);
+        settlementConsumer.consume(testEvent, 0, 0L);
 
         // then
         // 예외가 발생해도 정상 종료 (무한 재시도 방지)
-        verify(settlementRepository, times(1)).save(any(Settlement.class));
+        verify(settlementRepository, times(1)).insert(any(Settlement.class));
     }
 
     @Test
@@ -153,13 +229,13 @@ class SettlementConsumerTest {
                 .orderedAt(LocalDateTime.now().toString())
                 .build();
 
-        when(settlementRepository.save(any(Settlement.class))).thenReturn(null);
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
 
         // when
-        settlementConsumer.consume(event);
+        settlementConsumer.consume(event, 0, 0L);
 
         // then
-        verify(settlementRepository, times(1)).save(argThat(settlement -> {
+        verify(settlementRepository, times(1)).insert(argThat((Settlement settlement) -> {
             // 수수료: 12345.67 * 0.03 = 370.3701
             BigDecimal expectedFee = new BigDecimal("12345.67")
                     .multiply(BigDecimal.valueOf(0.03));
@@ -171,4 +247,446 @@ class SettlementConsumerTest {
                    settlement.getSettleAmount().compareTo(expectedSettleAmount) == 0;
         }));
     }
+
+    @Test
+    @DisplayName("정산 저장 성공 시 changelog 발행")
+    void consume_PublishesChangelog() {
+        // when
+        settlementConsumer.consume(testEvent, 0, 0L);
+
+        // then
+        verify(changelogPublisher, times(1)).publish(argThat(settlement ->
+                settlement.getOrderId().equals(100L) && settlement.getStatus().equals("WAITING")));
+    }
+
+    @Test
+    @DisplayName("중복 메시지는 changelog 발행하지 않음")
+    void consume_Duplicate_NoChangelog() {
+        // given
+        when(settlementRepository.insert(any(Settlement.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate orderId"));
+
+        // when
+        settlementConsumer.consume(testEvent, 0, 0L);
+
+        // then
+        verify(changelogPublisher, never()).publish(any(Settlement.class));
+    }
+
+    @Test
+    @DisplayName("주문 취소 배치 - 동일 주문은 한 번만 Bulk Upsert")
+    void consumeCancel_DedupesWithinBatch() {
+        // given
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(backpressure.batchSize()).thenReturn(500);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class)).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenReturn(mock(BulkWriteResult.class));
+
+        List<OrderCancelledEvent> events = List.of(
+                OrderCancelledEvent.builder().orderId(100L).userId(1L).cancelledAt("2024-01-01T10:00").build(),
+                OrderCancelledEvent.builder().orderId(200L).userId(2L).cancelledAt("2024-01-01T10:01").build(),
+                OrderCancelledEvent.builder().orderId(100L).userId(1L).cancelledAt("2024-01-01T10:02").build()
+        );
+
+        // when
+        settlementConsumer.consumeCancel(events, List.of(0, 1, 0), List.of(10L, 20L, 11L));
+
+        // then
+        // 조회(findByOrderId) 없이 주문 2건에 대한 Upsert만 한 번의 Bulk로 실행
+        verify(bulkOps, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOps, times(1)).execute();
+        verify(settlementRepository, never()).findByOrderId(any());
+    }
+
+    @Test
+    @DisplayName("주문 취소 배치 - Bulk 실패 시 예외를 다시 던져 에러 핸들러(DLT)로 넘김")
+    void consumeCancel_BulkFailure_Rethrows() {
+        // given
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class)).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenThrow(new RuntimeException("Mongo unavailable"));
+
+        // when & then
+        assertThatThrownBy(() -> settlementConsumer.consumeCancel(List.of(
+                OrderCancelledEvent.builder().orderId(100L).userId(1L).build()), List.of(0), List.of(10L)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Mongo unavailable");
+        verify(cacheInvalidator, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("주문 취소 배치 - 반영 후 취소된 주문의 정산 캐시 무효화")
+    void consumeCancel_EvictsCache() {
+        // given
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(backpressure.batchSize()).thenReturn(500);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class)).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenReturn(mock(BulkWriteResult.class));
+
+        // when
+        settlementConsumer.consumeCancel(List.of(
+                OrderCancelledEvent.builder().orderId(100L).userId(1L).build(),
+                OrderCancelledEvent.builder().orderId(200L).userId(2L).build()), List.of(0, 0), List.of(1L, 2L));
+
+        // then
+        verify(cacheInvalidator, times(1)).evict(argThat(orderIds ->
+                orderIds.size() == 2 && orderIds.containsAll(List.of(100L, 200L))));
+    }
+
+    @Test
+    @DisplayName("취소가 먼저 도착한 주문 - 뒤늦은 생성 이벤트가 금액을 채우고 changelog 발행")
+    void consume_Duplicate_CompletesCancelledPlaceholder() {
+        // given
+        Settlement completed = Settlement.builder()
+                .orderId(100L).userId(1L).totalAmount(new BigDecimal("10000.00")).status("CANCELLED").build();
+        when(settlementRepository.insert(any(Settlement.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate orderId"));
+        when(mongoTemplate.findOne(any(Query.class), eq(Settlement.class)))
+                .thenReturn(Settlement.builder().orderId(100L).build());
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Settlement.class))).thenReturn(completed);
+
+        // when
+        settlementConsumer.consume(testEvent, 0, 0L);
+
+        // then
+        verify(changelogPublisher, times(1)).publish(completed);
+        verify(cacheInvalidator, times(1)).evict(List.of(100L));
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 활성화 시 정산 데이터와 오프셋 체크포인트 함께 반영")
+    void consume_LocalStoreEnabled_PutsWithCheckpoint() {
+        // given
+        when(localStoreProperties.isEnabled()).thenReturn(true);
+
+        // when
+        settlementConsumer.consume(testEvent, 2, 42L);
+
+        // then
+        verify(stateStore, times(1)).putAll(
+                argThat(settlements -> settlements.size() == 1),
+                eq(Map.of(new TopicPartition("order-create-topic", 2), 42L)));
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 활성화 시 중복(재수신) 레코드는 MongoDB 문서를 저장소에 반영")
+    void consume_Duplicate_LocalStoreEnabled_RepairsStore() {
+        // given
+        Settlement stored = Settlement.builder()
+                .orderId(100L).userId(1L).totalAmount(new BigDecimal("10000.00")).status("CANCELLED").build();
+        when(localStoreProperties.isEnabled()).thenReturn(true);
+        when(settlementRepository.insert(any(Settlement.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate orderId"));
+        when(mongoTemplate.findOne(any(Query.class), eq(Settlement.class))).thenReturn(stored);
+
+        // when
+        settlementConsumer.consume(testEvent, 2, 42L);
+
+        // then
+        verify(stateStore, times(1)).putAll(List.of(stored), Map.of(new TopicPartition("order-create-topic", 2), 42L));
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Settlement.class));
+        verify(settlementRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("로컬 저장소 체크포인트가 뒤처지면 체크포인트 다음 오프셋으로 seek")
+    void onPartitionsAssigned_RewindsToCheckpoint() {
+        // given
+        TopicPartition behind = new TopicPartition("order-create-topic", 0);
+        TopicPartition upToDate = new TopicPartition("order-create-topic", 1);
+        when(localStoreProperties.isEnabled()).thenReturn(true);
+        when(stateStore.checkpoint(behind)).thenReturn(OptionalLong.of(10L));
+        when(stateStore.checkpoint(upToDate)).thenReturn(OptionalLong.of(19L));
+        ConsumerSeekAware.ConsumerSeekCallback callback = mock(ConsumerSeekAware.ConsumerSeekCallback.class);
+
+        // when
+        settlementConsumer.onPartitionsAssigned(Map.of(behind, 15L, upToDate, 20L), callback);
+
+        // then
+        verify(callback, times(1)).seek("order-create-topic", 0, 11L);
+        verify(callback, never()).seek("order-create-topic", 1, 20L);
+    }
+
+    @Test
+    @DisplayName("MongoDB 일시 장애 - 예외를 다시 던져 재시도 대상이 됨")
+    void consume_TransientError_Rethrows() {
+        // given
+        when(settlementRepository.insert(any(Settlement.class)))
+                .thenThrow(new DataAccessResourceFailureException("primary stepped down"));
+
+        // when & then
+        assertThatThrownBy(() -> settlementConsumer.consume(testEvent, 0, 0L))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(backpressure, times(1)).recordWrite(anyLong(), eq(false));
+    }
+
+    @Test
+    @DisplayName("주문 취소 배치 - 흐름 제어 청크 크기만큼 나눠서 Bulk 실행")
+    void consumeCancel_ChunkedByBackpressure() {
+        // given
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(backpressure.batchSize()).thenReturn(1);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Settlement.class)).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenReturn(mock(BulkWriteResult.class));
+
+        List<OrderCancelledEvent> events = List.of(
+                OrderCancelledEvent.builder().orderId(100L).userId(1L).build(),
+                OrderCancelledEvent.builder().orderId(200L).userId(2L).build()
+        );
+
+        // when
+        settlementConsumer.consumeCancel(events, List.of(0, 0), List.of(1L, 2L));
+
+        // then
+        verify(bulkOps, times(2)).execute();
+        verify(backpressure, times(2)).recordWrite(anyLong(), eq(true));
+    }
+
+    private ConsumerRecord<String, byte[]> envelope(String eventType, int schemaVersion, byte[] payload) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("order-create-topic", 0, 7L, "100", payload);
+        record.headers().add(EventHeaders.EVENT_TYPE, EventHeaders.encodeString(eventType));
+        record.headers().add(EventHeaders.ORDER_ID, EventHeaders.encodeLong(100L));
+        record.headers().add(EventHeaders.SCHEMA_VERSION, EventHeaders.encodeInt(schemaVersion));
+        return record;
+    }
+
+    @Test
+    @DisplayName("Envelope - 헤더 확인 후 본문을 파싱해 정산 처리")
+    void consumeEnvelope_ParsesPayload() throws Exception {
+        // given
+        ConsumerRecord<String, byte[]> record =
+                envelope(EventHeaders.ORDER_CREATED, 1, objectMapper.writeValueAsBytes(testEvent));
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
+
+        // when
+        settlementConsumer.consumeEnvelope(record);
+
+        // then
+        verify(settlementRepository, times(1)).insert(argThat((Settlement settlement) -> settlement.getOrderId().equals(100L)));
+    }
+
+    @Test
+    @DisplayName("건별 로그 대신 요약 카운터 증가 - 수신/저장 건수")
+    void consume_IncrementsSummaryCounters() {
+        // given
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
+
+        // when
+        settlementConsumer.consume(testEvent, 0, 1L);
+
+        // then
+        verify(logSummary, times(1)).increment("settlement.received");
+        verify(logSummary, times(1)).increment("settlement.saved");
+        verify(logSummary, never()).increment("settlement.failed");
+    }
+
+    @Test
+    @DisplayName("Envelope - 발행 시각 헤더로 큐 대기 시간을 기록")
+    void consumeEnvelope_RecordsQueueDelay() throws Exception {
+        // given
+        ConsumerRecord<String, byte[]> record =
+                envelope(EventHeaders.ORDER_CREATED, 1, objectMapper.writeValueAsBytes(testEvent));
+        record.headers().add(EventHeaders.PRODUCED_AT, EventHeaders.encodeLong(System.currentTimeMillis() - 1_000L));
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
+
+        // when
+        settlementConsumer.consumeEnvelope(record);
+
+        // then
+        Timer timer = meterRegistry.find("settlement.pipeline.queue.delay").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1L);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(1_000d);
+    }
+
+    @Test
+    @DisplayName("Envelope - 로컬 저장소에 이미 있는 주문은 본문 파싱 없이 건너뜀")
+    void consumeEnvelope_AlreadySettled_SkipsParsing() throws Exception {
+        // given
+        ConsumerRecord<String, byte[]> record =
+                envelope(EventHeaders.ORDER_CREATED, 1, objectMapper.writeValueAsBytes(testEvent));
+        when(localStoreProperties.isEnabled()).thenReturn(true);
+        when(stateStore.get(100L)).thenReturn(Optional.of(settled()));
+        clearInvocations(objectMapper);
+
+        // when
+        settlementConsumer.consumeEnvelope(record);
+
+        // then
+        verify(objectMapper, never()).readValue(any(byte[].class), eq(OrderCreatedEvent.class));
+        verify(settlementRepository, never()).insert(any(Settlement.class));
+        verify(stateStore, times(1)).putAll(List.of(), Map.of(new TopicPartition("order-create-topic", 0), 7L));
+    }
+
+    @Test
+    @DisplayName("Envelope - 다른 이벤트 종류는 본문 파싱 없이 건너뜀")
+    void consumeEnvelope_OtherEventType_Skips() {
+        // when
+        settlementConsumer.consumeEnvelope(envelope(EventHeaders.ORDER_CANCELLED, 1, "not-json".getBytes()));
+
+        // then
+        verify(settlementRepository, never()).insert(any(Settlement.class));
+    }
+
+    @Test
+    @DisplayName("Envelope - 지원하지 않는 스키마 버전/깨진 본문은 재시도 없이 DLT로 이동")
+    void consumeEnvelope_UnsupportedVersionOrMalformed_RoutesToDeadLetter() {
+        // given
+        DeadLetterPublishingRecoverer deadLetterRecoverer = mock(DeadLetterPublishingRecoverer.class);
+        DefaultErrorHandler errorHandler =
+                new KafkaConsumerConfig().kafkaErrorHandler(new BackpressureProperties(), deadLetterRecoverer);
+        ConsumerRecord<String, byte[]> unsupported = envelope(EventHeaders.ORDER_CREATED, 99, "{}".getBytes());
+        ConsumerRecord<String, byte[]> malformed = envelope(EventHeaders.ORDER_CREATED, 1, "not-json".getBytes());
+
+        for (ConsumerRecord<String, byte[]> record : List.of(unsupported, malformed)) {
+            // when
+            Throwable thrown = catchThrowable(() -> settlementConsumer.consumeEnvelope(record));
+            boolean recovered = errorHandler.handleOne(new ListenerExecutionFailedException("listener failed", thrown),
+                    record, mock(Consumer.class), mock(MessageListenerContainer.class));
+
+            // then
+            assertThat(thrown).isInstanceOf(DeserializationException.class);
+            assertThat(recovered).isTrue();
+            verify(deadLetterRecoverer, times(1)).accept(eq(record), any(), any(Exception.class));
+        }
+        verify(settlementRepository, never()).insert(any(Settlement.class));
+    }
+
+    @Test
+    @DisplayName("Envelope - 헤더 없는 이전 형식 메시지도 본문 파싱으로 처리")
+    void consumeEnvelope_LegacyWithoutHeaders() throws Exception {
+        // given
+        ConsumerRecord<String, byte[]> record =
+                new ConsumerRecord<>("order-create-topic", 0, 8L, "100", objectMapper.writeValueAsBytes(testEvent));
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
+
+        // when
+        settlementConsumer.consumeEnvelope(record);
+
+        // then
+        verify(settlementRepository, times(1)).insert(any(Settlement.class));
+    }
+
+    @Test
+    @DisplayName("중복 판정 필터 - 확실히 신규면 존재 조회 없이 바로 insert 후 필터에 기록")
+    void consume_DefinitelyNew_InsertsWithoutLookup() {
+        // given
+        when(dedupeFilter.isEnabled()).thenReturn(true);
+        when(dedupeFilter.mightContain(100L)).thenReturn(false);
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
+
+        // when
+        settlementConsumer.consume(testEvent, 0, 0L);
+
+        // then
+        verify(mongoTemplate, never()).findOne(any(Query.class), eq(Settlement.class));
+        verify(settlementRepository, times(1)).insert(any(Settlement.class));
+        verify(dedupeFilter, times(1)).put(100L);
+    }
+
+    @Test
+    @DisplayName("중복 판정 필터 - 중복 가능 + 실제 존재하면 insert 생략")
+    void consume_PossibleDuplicate_Exists_SkipsInsert() {
+        // given
+        when(dedupeFilter.isEnabled()).thenReturn(true);
+        when(dedupeFilter.mightContain(100L)).thenReturn(true);
+        when(mongoTemplate.findOne(any(Query.class), eq(Settlement.class))).thenReturn(settled());
+
+        // when
+        settlementConsumer.consume(testEvent, 0, 0L);
+
+        // then
+        verify(settlementRepository, never()).insert(any(Settlement.class));
+        verify(changelogPublisher, never()).publish(any(Settlement.class));
+        // 중복 확정 조회 1회로 끝남 (존재 확인/취소 문서 보완/재조회를 따로 하지 않음)
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(Settlement.class));
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Settlement.class));
+        verify(settlementRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("중복 판정 필터 - 금액 없는 취소 문서면 같은 조회 결과로 판별해 금액만 채움")
+    void consume_PossibleDuplicate_Placeholder_CompletesAmounts() {
+        // given
+        Settlement completed = Settlement.builder()
+                .orderId(100L).userId(1L).totalAmount(new BigDecimal("10000.00")).status("CANCELLED").build();
+        when(dedupeFilter.isEnabled()).thenReturn(true);
+        when(dedupeFilter.mightContain(100L)).thenReturn(true);
+        when(mongoTemplate.findOne(any(Query.class), eq(Settlement.class)))
+                .thenReturn(Settlement.builder().orderId(100L).build());
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Settlement.class))).thenReturn(completed);
+
+        // when
+        settlementConsumer.consume(testEvent, 0, 0L);
+
+        // then
+        verify(settlementRepository, never()).insert(any(Settlement.class));
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(Settlement.class));
+        verify(changelogPublisher, times(1)).publish(completed);
+    }
+
+    @Test
+    @DisplayName("중복 판정 필터 - 오탐이면 오탐 지표 기록 후 정상 insert")
+    void consume_PossibleDuplicate_FalsePositive_Inserts() {
+        // given
+        when(dedupeFilter.isEnabled()).thenReturn(true);
+        when(dedupeFilter.mightContain(100L)).thenReturn(true);
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
+
+        // when
+        settlementConsumer.consume(testEvent, 0, 0L);
+
+        // then
+        verify(dedupeFilter, times(1)).recordFalsePositive();
+        verify(settlementRepository, times(1)).insert(any(Settlement.class));
+    }
+
+    @Test
+    @DisplayName("Envelope - 로컬 저장소 없이도 Bloom Filter 중복 가능 + 금액 있는 정산이면 totalAmount만 조회하고 본문 파싱 없이 건너뜀")
+    void consumeEnvelope_SettledInMongo_SkipsParsing() throws Exception {
+        // given
+        ConsumerRecord<String, byte[]> record =
+                envelope(EventHeaders.ORDER_CREATED, 1, objectMapper.writeValueAsBytes(testEvent));
+        when(dedupeFilter.isEnabled()).thenReturn(true);
+        when(dedupeFilter.mightContain(100L)).thenReturn(true);
+        when(mongoTemplate.findOne(any(Query.class), eq(Settlement.class))).thenReturn(settled());
+        clearInvocations(objectMapper);
+
+        // when
+        settlementConsumer.consumeEnvelope(record);
+
+        // then
+        verify(mongoTemplate, times(1)).findOne(argThat((Query query) ->
+                query.getFieldsObject().keySet().equals(Set.of("totalAmount"))), eq(Settlement.class));
+        verify(objectMapper, never()).readValue(any(byte[].class), eq(OrderCreatedEvent.class));
+        verify(settlementRepository, never()).insert(any(Settlement.class));
+    }
+
+    @Test
+    @DisplayName("Envelope - 오탐(문서 없음)이면 본문을 파싱해 insert, 헤더 단계 조회 결과를 재사용해 다시 조회하지 않음")
+    void consumeEnvelope_FalsePositive_ParsesWithoutSecondLookup() throws Exception {
+        // given
+        ConsumerRecord<String, byte[]> record =
+                envelope(EventHeaders.ORDER_CREATED, 1, objectMapper.writeValueAsBytes(testEvent));
+        when(dedupeFilter.isEnabled()).thenReturn(true);
+        when(dedupeFilter.mightContain(100L)).thenReturn(true);
+        when(settlementRepository.insert(any(Settlement.class))).thenReturn(null);
+
+        // when
+        settlementConsumer.consumeEnvelope(record);
+
+        // then
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(Settlement.class));
+        verify(dedupeFilter, times(1)).mightContain(100L);
+        verify(dedupeFilter, times(1)).recordFalsePositive();
+        verify(settlementRepository, times(1)).insert(any(Settlement.class));
+    }
+
+    private static Settlement settled() {
+        return Settlement.builder().orderId(100L).totalAmount(new BigDecimal("10000.00")).build();
+    }
 }
@@ -0,0 +1,129 @@
+package com.settleflow.settlementservice.service;
+
+import com.settleflow.settlementservice.domain.Settlement;
+import com.settleflow.settlementservice.domain.SettlementRepository;
+import com.settleflow.settlementservice.kafka.SettlementChangelogRestorer;
+import com.settleflow.settlementservice.store.SettlementStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementLookupService 단위 테스트")
+class SettlementLookupServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Settlement> settlementRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Settlement> valueOperations;
+
+    @Mock
+    private SettlementStateStore stateStore;
+
+    @Mock
+    private SettlementRepository settlementRepository;
+
+    @Mock
+    private SettlementChangelogRestorer changelogRestorer;
+
+    @InjectMocks
+    private SettlementLookupService lookupService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(settlementRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(stateStore.get(any())).thenReturn(Optional.empty());
+        lenient().when(changelogRestorer.isRestored()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("changelog 복원 전에는 로컬 저장소를 건너뛰고 MongoDB에서 조회")
+    void lookup_NotRestored_SkipsLocalStore() {
+        // given
+        when(changelogRestorer.isRestored()).thenReturn(false);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+        when(settlementRepository.findByOrderIdIn(List.of(1L, 2L))).thenReturn(List.of(settlement(1L), settlement(2L)));
+
+        // when
+        Map<Long, Settlement> result = lookupService.lookup(List.of(1L, 2L));
+
+        // then
+        assertThat(result.keySet()).containsExactly(1L, 2L);
+        verify(stateStore, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("캐시 적중분은 그대로, 미스분만 로컬 저장소 → MongoDB $in 한 번으로 조회하고 한 번에 캐시 적재")
+    void lookup_CacheThenStoreThenMongo() {
+        // given
+        when(valueOperations.multiGet(List.of(
+                SettlementLookupService.key(1L), SettlementLookupService.key(2L), SettlementLookupService.key(3L),
+                SettlementLookupService.key(4L))))
+                .thenReturn(Arrays.asList(settlement(1L), null, null, null));
+        when(stateStore.get(2L)).thenReturn(Optional.of(settlement(2L)));
+        when(settlementRepository.findByOrderIdIn(List.of(3L, 4L))).thenReturn(List.of(settlement(3L)));
+
+        // when
+        Map<Long, Settlement> result = lookupService.lookup(List.of(1L, 2L, 3L, 4L, 1L));
+
+        // then
+        assertThat(result.keySet()).containsExactly(1L, 2L, 3L);
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verify(settlementRepository, times(1)).findByOrderIdIn(List.of(3L, 4L));
+        verify(settlementRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("전부 캐시 적중이면 MongoDB 조회/캐시 적재 없음")
+    void lookup_AllCached() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(settlement(1L), settlement(2L)));
+
+        // when
+        Map<Long, Settlement> result = lookupService.lookup(List.of(1L, 2L));
+
+        // then
+        assertThat(result).hasSize(2);
+        verify(settlementRepository, never()).findByOrderIdIn(anyList());
+        verify(settlementRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 캐시를 건너뛰고 MongoDB에서 조회")
+    void lookup_RedisDown_FallsBackToMongo() {
+        // given
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        when(settlementRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(settlementRepository.findByOrderIdIn(List.of(1L, 2L))).thenReturn(List.of(settlement(2L), settlement(1L)));
+
+        // when
+        Map<Long, Settlement> result = lookupService.lookup(List.of(1L, 2L));
+
+        // then
+        assertThat(result.keySet()).containsExactly(1L, 2L);
+    }
+
+    private static Settlement settlement(Long orderId) {
+        return Settlement.builder().orderId(orderId).userId(1L).status("WAITING").build();
+    }
+}